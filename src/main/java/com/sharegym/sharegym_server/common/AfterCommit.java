@@ -0,0 +1,28 @@
+package com.sharegym.sharegym_server.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ * 캐시 무효화 / Redis 집계처럼 DB 밖의 상태는 커밋된 데이터와 어긋나지 않도록 커밋 후에 반영한다.
+ * (롤백되면 실행하지 않고, 트랜잭션 밖에서 호출되면 즉시 실행)
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
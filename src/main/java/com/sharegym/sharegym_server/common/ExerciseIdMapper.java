@@ -1,129 +1,72 @@
 package com.sharegym.sharegym_server.common;
 
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.ExerciseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 클라이언트 문자열 ID와 서버 숫자 ID 매핑
+ * exercises 테이블(Exercise.clientId)을 단일 원본으로 사용하며,
+ * 애플리케이션 시작 시 메모리 스냅샷으로 적재한다.
+ * - 서버 ID → 클라이언트 ID: 숫자 ID 오프셋으로 접근하는 dense 배열
+ * - 클라이언트 ID → 서버 ID: 최소 완전 해시(hash and displace) 테이블
  */
+@Slf4j
 @Component
+@RequiredArgsConstructor
 public class ExerciseIdMapper {
 
-    private static final Map<String, Integer> CLIENT_TO_SERVER = new HashMap<>();
-    private static final Map<Integer, String> SERVER_TO_CLIENT = new HashMap<>();
+    /**
+     * 조회 실패 시 반환되는 값
+     */
+    public static final int NOT_FOUND = -1;
 
-    static {
-        initializeMapping();
-    }
+    // 알 수 없는 ID 요청으로 인한 재적재 최소 간격 (10초)
+    private static final long MISS_RELOAD_INTERVAL_MS = 10_000L;
+
+    private final ExerciseRepository exerciseRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastReloadAt = 0L;
 
     /**
-     * 운동 ID 매핑 초기화
+     * 애플리케이션 시작 시 매핑 적재
+     * (DataInitializer의 초기 데이터 등록 이후 실행됨)
      */
-    private static void initializeMapping() {
-        // 가슴 운동 (1000번대)
-        addMapping("bench-press", 1001);
-        addMapping("incline-bench-press", 1002);
-        addMapping("decline-bench-press", 1003);
-        addMapping("dumbbell-press", 1004);
-        addMapping("dumbbell-fly", 1005);
-        addMapping("cable-fly", 1006);
-        addMapping("push-up", 1007);
-        addMapping("dips", 1008);
-        addMapping("pec-deck", 1009);
-
-        // 등 운동 (2000번대)
-        addMapping("pull-up", 2001);
-        addMapping("lat-pulldown", 2002);
-        addMapping("bent-over-row", 2003);
-        addMapping("t-bar-row", 2004);
-        addMapping("seated-row", 2005);
-        addMapping("cable-row", 2006);
-        addMapping("deadlift", 2007);
-        addMapping("rack-pull", 2008);
-        addMapping("shrug", 2009);
-
-        // 어깨 운동 (3000번대)
-        addMapping("overhead-press", 3001);
-        addMapping("dumbbell-shoulder-press", 3002);
-        addMapping("arnold-press", 3003);
-        addMapping("lateral-raise", 3004);
-        addMapping("front-raise", 3005);
-        addMapping("rear-delt-fly", 3006);
-        addMapping("upright-row", 3007);
-        addMapping("face-pull", 3008);
-
-        // 하체 운동 (4000번대)
-        addMapping("squat", 4001);
-        addMapping("front-squat", 4002);
-        addMapping("leg-press", 4003);
-        addMapping("leg-extension", 4004);
-        addMapping("leg-curl", 4005);
-        addMapping("romanian-deadlift", 4006);
-        addMapping("walking-lunge", 4007);
-        addMapping("bulgarian-split-squat", 4008);
-        addMapping("calf-raise", 4009);
-        addMapping("seated-calf-raise", 4010);
-
-        // 팔 운동 (5000번대)
-        addMapping("barbell-curl", 5001);
-        addMapping("dumbbell-curl", 5002);
-        addMapping("hammer-curl", 5003);
-        addMapping("preacher-curl", 5004);
-        addMapping("cable-curl", 5005);
-        addMapping("tricep-extension", 5006);
-        addMapping("overhead-tricep-extension", 5007);
-        addMapping("tricep-pushdown", 5008);
-        addMapping("close-grip-bench-press", 5009);
-        addMapping("diamond-push-up", 5010);
-
-        // 복근 운동 (6000번대)
-        addMapping("crunch", 6001);
-        addMapping("sit-up", 6002);
-        addMapping("plank", 6003);
-        addMapping("side-plank", 6004);
-        addMapping("russian-twist", 6005);
-        addMapping("leg-raise", 6006);
-        addMapping("hanging-leg-raise", 6007);
-        addMapping("ab-wheel", 6008);
-        addMapping("mountain-climber", 6009);
-        addMapping("bicycle-crunch", 6010);
-
-        // 유산소 운동 (7000번대)
-        addMapping("treadmill", 7001);
-        addMapping("cycling", 7002);
-        addMapping("rowing-machine", 7003);
-        addMapping("elliptical", 7004);
-        addMapping("stairmaster", 7005);
-        addMapping("stair-climber", 7006);
-        addMapping("jump-rope", 7007);
-        addMapping("swimming", 7008);
-
-        // 맨몸 운동 (8000번대)
-        addMapping("burpees", 8001);
-        addMapping("jumping-jacks", 8002);
-        addMapping("box-jump", 8003);
-        addMapping("wall-sit", 8004);
-        addMapping("handstand-push-up", 8005);
-        addMapping("muscle-up", 8006);
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
     }
 
     /**
-     * 매핑 추가 헬퍼 메서드
+     * exercises 테이블로부터 매핑 재적재
+     * 새로운 운동이 추가된 경우 호출하면 즉시 반영된다.
      */
-    private static void addMapping(String clientId, Integer serverId) {
-        CLIENT_TO_SERVER.put(clientId, serverId);
-        SERVER_TO_CLIENT.put(serverId, clientId);
+    public synchronized void reload() {
+        List<Exercise> exercises = exerciseRepository.findAll();
+        this.snapshot = Snapshot.build(exercises);
+        this.lastReloadAt = System.currentTimeMillis();
+        log.info("Exercise ID mapping loaded: {} exercises", snapshot.size());
     }
 
     /**
      * 클라이언트 ID를 서버 ID로 변환
      */
-    public static Integer toServerId(String clientId) {
-        Integer serverId = CLIENT_TO_SERVER.get(clientId);
-        if (serverId == null) {
-            throw new IllegalArgumentException("Unknown exercise client ID: " + clientId);
+    public int toServerId(String clientId) {
+        int serverId = findServerId(clientId);
+        if (serverId == NOT_FOUND) {
+            throw new BusinessException(ErrorCode.INVALID_EXERCISE_ID,
+                "유효하지 않은 운동 ID입니다: " + clientId);
         }
         return serverId;
     }
@@ -131,32 +74,223 @@ public class ExerciseIdMapper {
     /**
      * 서버 ID를 클라이언트 ID로 변환
      */
-    public static String toClientId(Integer serverId) {
-        String clientId = SERVER_TO_CLIENT.get(serverId);
+    public String toClientId(int serverId) {
+        String clientId = snapshot.clientIdOf(serverId);
+        if (clientId == null && reloadOnMiss()) {
+            clientId = snapshot.clientIdOf(serverId);
+        }
         if (clientId == null) {
-            throw new IllegalArgumentException("Unknown exercise server ID: " + serverId);
+            throw new BusinessException(ErrorCode.INVALID_EXERCISE_ID,
+                "유효하지 않은 운동 ID입니다: " + serverId);
         }
         return clientId;
     }
 
+    /**
+     * 클라이언트 ID를 서버 ID로 변환 (없으면 NOT_FOUND)
+     */
+    public int findServerId(String clientId) {
+        if (clientId == null) {
+            return NOT_FOUND;
+        }
+        int serverId = snapshot.serverIdOf(clientId);
+        if (serverId == NOT_FOUND && reloadOnMiss()) {
+            serverId = snapshot.serverIdOf(clientId);
+        }
+        return serverId;
+    }
+
     /**
      * 클라이언트 ID 존재 여부 확인
      */
-    public static boolean hasClientId(String clientId) {
-        return CLIENT_TO_SERVER.containsKey(clientId);
+    public boolean hasClientId(String clientId) {
+        return findServerId(clientId) != NOT_FOUND;
     }
 
     /**
      * 서버 ID 존재 여부 확인
      */
-    public static boolean hasServerId(Integer serverId) {
-        return SERVER_TO_CLIENT.containsKey(serverId);
+    public boolean hasServerId(int serverId) {
+        return snapshot.clientIdOf(serverId) != null;
     }
 
     /**
      * 전체 매핑 크기
      */
-    public static int getMappingSize() {
-        return CLIENT_TO_SERVER.size();
+    public int getMappingSize() {
+        return snapshot.size();
+    }
+
+    /**
+     * 매핑에 없는 ID가 들어온 경우 간격 제한을 두고 재적재
+     * @return 재적재를 수행했는지 여부
+     */
+    private boolean reloadOnMiss() {
+        long now = System.currentTimeMillis();
+        if (now - lastReloadAt < MISS_RELOAD_INTERVAL_MS) {
+            return false;
+        }
+        synchronized (this) {
+            if (now - lastReloadAt < MISS_RELOAD_INTERVAL_MS) {
+                return false;
+            }
+            reload();
+            return true;
+        }
+    }
+
+    /**
+     * 불변 매핑 스냅샷
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, new String[0], new int[0], new String[0], new int[0]);
+
+        private final int baseId;               // dense 배열의 시작 서버 ID
+        private final String[] clientIdByOffset; // serverId - baseId 위치에 클라이언트 ID
+        private final int[] displacements;      // 버킷별 변위값 (음수는 직접 슬롯 지정)
+        private final String[] slotKeys;        // 슬롯별 클라이언트 ID (검증용)
+        private final int[] slotServerIds;      // 슬롯별 서버 ID
+
+        private Snapshot(int baseId, String[] clientIdByOffset, int[] displacements,
+                         String[] slotKeys, int[] slotServerIds) {
+            this.baseId = baseId;
+            this.clientIdByOffset = clientIdByOffset;
+            this.displacements = displacements;
+            this.slotKeys = slotKeys;
+            this.slotServerIds = slotServerIds;
+        }
+
+        int size() {
+            return slotKeys.length;
+        }
+
+        String clientIdOf(int serverId) {
+            int offset = serverId - baseId;
+            if (offset < 0 || offset >= clientIdByOffset.length) {
+                return null;
+            }
+            return clientIdByOffset[offset];
+        }
+
+        int serverIdOf(String clientId) {
+            int n = slotKeys.length;
+            if (n == 0) {
+                return NOT_FOUND;
+            }
+            int d = displacements[hash(clientId, 0) % n];
+            int slot = d < 0 ? -d - 1 : hash(clientId, d) % n;
+            return clientId.equals(slotKeys[slot]) ? slotServerIds[slot] : NOT_FOUND;
+        }
+
+        /**
+         * 운동 목록으로부터 스냅샷 생성
+         */
+        static Snapshot build(List<Exercise> exercises) {
+            List<Exercise> valid = exercises.stream()
+                .filter(e -> e.getId() != null && e.getClientId() != null)
+                .toList();
+            int n = valid.size();
+            if (n == 0) {
+                return EMPTY;
+            }
+
+            // 서버 ID dense 배열
+            int minId = Integer.MAX_VALUE;
+            int maxId = Integer.MIN_VALUE;
+            for (Exercise exercise : valid) {
+                minId = Math.min(minId, exercise.getId());
+                maxId = Math.max(maxId, exercise.getId());
+            }
+            String[] clientIdByOffset = new String[maxId - minId + 1];
+            for (Exercise exercise : valid) {
+                clientIdByOffset[exercise.getId() - minId] = exercise.getClientId();
+            }
+
+            // 1단계: 기본 해시로 버킷 분배
+            List<List<Integer>> buckets = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            for (int i = 0; i < n; i++) {
+                buckets.get(hash(valid.get(i).getClientId(), 0) % n).add(i);
+            }
+            Integer[] bucketOrder = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                bucketOrder[i] = i;
+            }
+            Arrays.sort(bucketOrder, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+            int[] displacements = new int[n];
+            String[] slotKeys = new String[n];
+            int[] slotServerIds = new int[n];
+            boolean[] occupied = new boolean[n];
+
+            // 2단계: 충돌 버킷은 변위값을 찾아 빈 슬롯에 배치
+            int orderIndex = 0;
+            for (; orderIndex < n; orderIndex++) {
+                List<Integer> bucket = buckets.get(bucketOrder[orderIndex]);
+                if (bucket.size() <= 1) {
+                    break;
+                }
+                int d = 1;
+                List<Integer> slots = new ArrayList<>(bucket.size());
+                while (true) {
+                    slots.clear();
+                    boolean placed = true;
+                    for (int item : bucket) {
+                        int slot = hash(valid.get(item).getClientId(), d) % n;
+                        if (occupied[slot] || slots.contains(slot)) {
+                            placed = false;
+                            break;
+                        }
+                        slots.add(slot);
+                    }
+                    if (placed) {
+                        break;
+                    }
+                    d++;
+                }
+                displacements[bucketOrder[orderIndex]] = d;
+                for (int i = 0; i < bucket.size(); i++) {
+                    int slot = slots.get(i);
+                    Exercise exercise = valid.get(bucket.get(i));
+                    occupied[slot] = true;
+                    slotKeys[slot] = exercise.getClientId();
+                    slotServerIds[slot] = exercise.getId();
+                }
+            }
+
+            // 3단계: 단일 항목 버킷은 남은 빈 슬롯을 직접 지정
+            int freeSlot = 0;
+            for (; orderIndex < n; orderIndex++) {
+                List<Integer> bucket = buckets.get(bucketOrder[orderIndex]);
+                if (bucket.isEmpty()) {
+                    break;
+                }
+                while (occupied[freeSlot]) {
+                    freeSlot++;
+                }
+                Exercise exercise = valid.get(bucket.get(0));
+                occupied[freeSlot] = true;
+                slotKeys[freeSlot] = exercise.getClientId();
+                slotServerIds[freeSlot] = exercise.getId();
+                displacements[bucketOrder[orderIndex]] = -freeSlot - 1;
+            }
+
+            return new Snapshot(minId, clientIdByOffset, displacements, slotKeys, slotServerIds);
+        }
+
+        /**
+         * FNV-1a 기반 시드 해시
+         */
+        private static int hash(String key, int seed) {
+            int h = seed == 0 ? 0x811C9DC5 : seed;
+            for (int i = 0; i < key.length(); i++) {
+                h ^= key.charAt(i);
+                h *= 0x01000193;
+            }
+            return h & 0x7FFFFFFF;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.sharegym.sharegym_server.common;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+
+/**
+ * 그룹 초대 코드 생성기 (6자리 영문 대문자+숫자)
+ * 코드는 예측할 수 없어야 하므로 SecureRandom으로 만든다.
+ * 중복 여부는 사전 조회 없이 invite_code 유니크 제약으로 판별한다.
+ */
+@Component
+public class InviteCodeGenerator {
+
+    public static final int CODE_LENGTH = 6;
+    public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private final SecureRandom random = new SecureRandom();
+
+    public String generate() {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(code);
+    }
+}
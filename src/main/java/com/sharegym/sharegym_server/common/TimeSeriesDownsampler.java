@@ -0,0 +1,70 @@
+package com.sharegym.sharegym_server.common;
+
+/**
+ * 시계열 다운샘플링 (Largest-Triangle-Three-Buckets)
+ * 첫/마지막 점은 유지하고, 나머지 구간을 버킷으로 나눠 인접 점과 만드는 삼각형 면적이
+ * 가장 큰 점을 선택한다. 그래프 모양(최고점/최저점)을 유지하면서 점 개수를 줄인다.
+ */
+public final class TimeSeriesDownsampler {
+
+    private TimeSeriesDownsampler() {
+    }
+
+    /**
+     * 선택된 점의 인덱스 목록 (오름차순)
+     * @param x 정렬된 x 값 (예: epoch day)
+     * @param y y 값
+     * @param threshold 목표 점 개수 (원본보다 크면 다운샘플링하지 않음, 2 이하면 첫/마지막 점만 유지)
+     */
+    public static int[] lttb(double[] x, double[] y, int threshold) {
+        int size = x.length;
+        if (threshold <= 2 && size > 2) {
+            return new int[]{0, size - 1};
+        }
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        selected[0] = 0;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 버킷의 평균점
+            int nextStart = (int) Math.floor((i + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) Math.floor((i + 2) * bucketSize) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = nextStart; j < nextEnd; j++) {
+                avgX += x[j];
+                avgY += y[j];
+            }
+            int nextCount = nextEnd - nextStart;
+            avgX /= nextCount;
+            avgY /= nextCount;
+
+            // 현재 버킷에서 삼각형 면적이 최대인 점
+            int start = (int) Math.floor(i * bucketSize) + 1;
+            int end = (int) Math.floor((i + 1) * bucketSize) + 1;
+            double maxArea = -1;
+            int maxIndex = start;
+            for (int j = start; j < end; j++) {
+                double area = Math.abs((x[a] - avgX) * (y[j] - y[a]) - (x[a] - x[j]) * (avgY - y[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = j;
+                }
+            }
+            selected[i + 1] = maxIndex;
+            a = maxIndex;
+        }
+
+        selected[threshold - 1] = size - 1;
+        return selected;
+    }
+}
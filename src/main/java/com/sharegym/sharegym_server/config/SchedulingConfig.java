@@ -0,0 +1,13 @@
+package com.sharegym.sharegym_server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 주기 작업(체크포인트, 집계 등)은 scheduler 패키지의 *Scheduler 클래스에 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
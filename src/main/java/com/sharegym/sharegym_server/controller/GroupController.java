@@ -1,12 +1,18 @@
 package com.sharegym.sharegym_server.controller;
 
+import com.sharegym.sharegym_server.dto.request.CompleteSharedCardRequest;
+import com.sharegym.sharegym_server.dto.request.CreateGroupChallengeRequest;
 import com.sharegym.sharegym_server.dto.request.CreateGroupRequest;
+import com.sharegym.sharegym_server.dto.request.CreateSharedCardRequest;
 import com.sharegym.sharegym_server.dto.request.JoinGroupRequest;
 import com.sharegym.sharegym_server.dto.request.ShareToGroupRequest;
 import com.sharegym.sharegym_server.dto.response.*;
 import com.sharegym.sharegym_server.security.CurrentUser;
 import com.sharegym.sharegym_server.security.UserPrincipal;
+import com.sharegym.sharegym_server.service.GroupChallengeService;
+import com.sharegym.sharegym_server.service.GroupLeaderboardService;
 import com.sharegym.sharegym_server.service.GroupService;
+import com.sharegym.sharegym_server.service.SharedCardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,9 +24,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 그룹 관련 API 컨트롤러
@@ -32,8 +36,12 @@ import java.util.Map;
  * - POST /groups/join - 그룹 가입
  * - POST /groups/{groupId}/leave - 그룹 탈퇴
  * - POST /groups/{groupId}/posts - 그룹에 포스트 공유
+ * - GET /groups/{groupId}/leaderboard - 그룹 리더보드
+ * - GET /groups/{groupId}/challenges - 그룹 챌린지 목록
+ * - POST /groups/{groupId}/challenges - 그룹 챌린지 생성
  * - GET /groups/{groupId}/shared-cards - 공유 카드 목록
  * - POST /shared-cards - 공유 카드 생성
+ * - POST /shared-cards/{cardId}/complete - 공유 카드 완료
  */
 @Slf4j
 @RestController
@@ -42,6 +50,9 @@ import java.util.Map;
 public class GroupController {
 
     private final GroupService groupService;
+    private final GroupLeaderboardService groupLeaderboardService;
+    private final SharedCardService sharedCardService;
+    private final GroupChallengeService groupChallengeService;
 
     /**
      * 사용자의 그룹 목록 조회
@@ -126,18 +137,21 @@ public class GroupController {
     }
 
     /**
-     * 그룹 멤버 목록 조회
+     * 그룹 멤버 목록 조회 (역할 순 → 가입 순, 커서 기반)
+     * Frontend expects: { items: GroupMember[], nextCursor: string, hasMore: boolean }
      */
     @GetMapping("/groups/{groupId}/members")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<ApiResponse<List<GroupMemberResponse>>> getGroupMembers(
+    public ResponseEntity<ApiResponse<GroupMemberPageResponse>> getGroupMembers(
             @CurrentUser UserPrincipal userPrincipal,
-            @PathVariable Long groupId) {
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
 
         log.info("Getting members for group: {} requested by user: {}",
                  groupId, userPrincipal.getId());
 
-        List<GroupMemberResponse> members = groupService.getGroupMembers(groupId, userPrincipal.getId());
+        GroupMemberPageResponse members = groupService.getGroupMembers(groupId, userPrincipal.getId(), cursor, limit);
         return ResponseEntity.ok(ApiResponse.success(members));
     }
 
@@ -179,17 +193,71 @@ public class GroupController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(post));
     }
 
+    /**
+     * 그룹 리더보드 조회
+     * metric: volume | workouts | contribution, window: week | month | all
+     */
+    @GetMapping("/groups/{groupId}/leaderboard")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApiResponse<GroupLeaderboardResponse>> getLeaderboard(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long groupId,
+            @RequestParam(defaultValue = "volume") String metric,
+            @RequestParam(defaultValue = "week") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        log.info("Getting {} {} leaderboard for group: {} requested by user: {}",
+                 window, metric, groupId, userPrincipal.getId());
+
+        GroupLeaderboardResponse leaderboard = groupLeaderboardService.getLeaderboard(groupId,
+            userPrincipal.getId(), groupLeaderboardService.parseMetric(metric),
+            groupLeaderboardService.parseWindow(window), limit);
+        return ResponseEntity.ok(ApiResponse.success(leaderboard));
+    }
+
+    /**
+     * 그룹 챌린지 목록 조회
+     */
+    @GetMapping("/groups/{groupId}/challenges")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApiResponse<List<GroupChallengeResponse>>> getChallenges(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long groupId) {
+
+        log.info("Getting challenges for group: {} requested by user: {}",
+                 groupId, userPrincipal.getId());
+
+        List<GroupChallengeResponse> challenges = groupChallengeService.getChallenges(groupId, userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success(challenges));
+    }
+
+    /**
+     * 그룹 챌린지 생성
+     */
+    @PostMapping("/groups/{groupId}/challenges")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<ApiResponse<GroupChallengeResponse>> createChallenge(
+            @CurrentUser UserPrincipal userPrincipal,
+            @PathVariable Long groupId,
+            @Valid @RequestBody CreateGroupChallengeRequest request) {
+
+        log.info("Creating challenge in group: {} for user: {}", groupId, userPrincipal.getId());
+        GroupChallengeResponse challenge = groupChallengeService.createChallenge(userPrincipal.getId(), groupId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(challenge));
+    }
+
     /**
      * 공개 그룹 목록 조회
      */
     @GetMapping("/groups")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<ApiResponse<Page<GroupResponse>>> getPublicGroups(
+            @CurrentUser UserPrincipal userPrincipal,
             @RequestParam(required = false, defaultValue = "recent") String sortBy,
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("Getting public groups sorted by: {}", sortBy);
-        Page<GroupResponse> groups = groupService.getPublicGroups(sortBy, pageable);
+        Page<GroupResponse> groups = groupService.getPublicGroups(userPrincipal.getId(), sortBy, pageable);
         return ResponseEntity.ok(ApiResponse.success(groups));
     }
 
@@ -199,70 +267,59 @@ public class GroupController {
     @GetMapping("/groups/search")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<ApiResponse<Page<GroupResponse>>> searchGroups(
+            @CurrentUser UserPrincipal userPrincipal,
             @RequestParam String keyword,
             @PageableDefault(size = 20) Pageable pageable) {
 
         log.info("Searching groups with keyword: {}", keyword);
-        Page<GroupResponse> groups = groupService.searchGroups(keyword, pageable);
+        Page<GroupResponse> groups = groupService.searchGroups(userPrincipal.getId(), keyword, pageable);
         return ResponseEntity.ok(ApiResponse.success(groups));
     }
 
     /**
      * 그룹별 공유 카드 목록 조회
      * Frontend expects: SharedWorkoutCard[] or { data: SharedWorkoutCard[] }
-     * TODO: SharedWorkoutCard 기능 구현 필요
      */
     @GetMapping("/groups/{groupId}/shared-cards")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getSharedCards(
+    public ResponseEntity<ApiResponse<List<SharedCardResponse>>> getSharedCards(
             @CurrentUser UserPrincipal userPrincipal,
             @PathVariable Long groupId) {
 
         log.info("Getting shared cards for group: {} requested by user: {}",
                  groupId, userPrincipal.getId());
 
-        // TODO: SharedWorkoutCard 기능 구현 필요
-        Map<String, Object> result = new HashMap<>();
-        result.put("cards", List.of());
-        result.put("message", "공유 카드 기능은 준비 중입니다.");
-
-        return ResponseEntity.ok(ApiResponse.success(result));
+        List<SharedCardResponse> cards = sharedCardService.getCards(groupId, userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success(cards));
     }
 
     /**
      * 공유 카드 생성
      * Frontend expects: SharedWorkoutCard or { data: SharedWorkoutCard }
-     * TODO: SharedWorkoutCard 기능 구현 필요
      */
     @PostMapping("/shared-cards")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> createSharedCard(
+    public ResponseEntity<ApiResponse<SharedCardResponse>> createSharedCard(
             @CurrentUser UserPrincipal userPrincipal,
-            @Valid @RequestBody Map<String, Object> request) {
+            @Valid @RequestBody CreateSharedCardRequest request) {
 
-        log.info("Creating shared card for user: {}", userPrincipal.getId());
-
-        // TODO: SharedWorkoutCard 기능 구현 필요
-        Map<String, Object> result = new HashMap<>();
-        result.put("message", "공유 카드 기능은 준비 중입니다.");
-
-        return ResponseEntity.ok(ApiResponse.success(result));
+        log.info("Creating shared card in group: {} for user: {}", request.getGroupId(), userPrincipal.getId());
+        SharedCardResponse card = sharedCardService.createCard(userPrincipal.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(card));
     }
 
     /**
      * 공유 카드 완료
-     * TODO: SharedWorkoutCard 기능 구현 필요
      */
     @PostMapping("/shared-cards/{cardId}/complete")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<ApiResponse<Void>> completeSharedCard(
+    public ResponseEntity<ApiResponse<SharedCardCompletionResponse>> completeSharedCard(
             @CurrentUser UserPrincipal userPrincipal,
             @PathVariable Long cardId,
-            @RequestBody Map<String, Object> request) {
+            @RequestBody(required = false) CompleteSharedCardRequest request) {
 
         log.info("Completing shared card: {} by user: {}", cardId, userPrincipal.getId());
-
-        // TODO: SharedWorkoutCard 기능 구현 필요
-        return ResponseEntity.ok(ApiResponse.success(null));
+        SharedCardCompletionResponse completion = sharedCardService.completeCard(userPrincipal.getId(), cardId, request);
+        return ResponseEntity.ok(ApiResponse.success(completion));
     }
 }
\ No newline at end of file
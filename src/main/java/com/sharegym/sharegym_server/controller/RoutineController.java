@@ -0,0 +1,166 @@
+package com.sharegym.sharegym_server.controller;
+
+import com.sharegym.sharegym_server.dto.request.CreateWorkoutRequest;
+import com.sharegym.sharegym_server.dto.request.RoutineRequest;
+import com.sharegym.sharegym_server.dto.response.ApiResponse;
+import com.sharegym.sharegym_server.dto.response.RoutineResponse;
+import com.sharegym.sharegym_server.dto.response.WorkoutResponse;
+import com.sharegym.sharegym_server.security.CurrentUser;
+import com.sharegym.sharegym_server.security.UserPrincipal;
+import com.sharegym.sharegym_server.service.RoutineDiscoveryService;
+import com.sharegym.sharegym_server.service.RoutineService;
+import com.sharegym.sharegym_server.service.WorkoutService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 루틴 관련 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequestMapping("/routines")
+@RequiredArgsConstructor
+@Tag(name = "Routine", description = "루틴 관련 API")
+public class RoutineController {
+
+    private final RoutineService routineService;
+    private final WorkoutService workoutService;
+    private final RoutineDiscoveryService routineDiscoveryService;
+
+    /**
+     * 루틴 생성
+     */
+    @PostMapping
+    @Operation(summary = "루틴 생성", description = "새로운 운동 루틴을 생성합니다.")
+    public ResponseEntity<ApiResponse<RoutineResponse>> createRoutine(
+        @CurrentUser UserPrincipal userPrincipal,
+        @Valid @RequestBody RoutineRequest request) {
+        log.info("Create routine for user: {}", userPrincipal.getId());
+        RoutineResponse response = routineService.createRoutine(userPrincipal.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 내 루틴 목록 조회
+     */
+    @GetMapping
+    @Operation(summary = "내 루틴 목록 조회", description = "로그인한 사용자의 루틴 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<RoutineResponse>>> getMyRoutines(
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Get routines for user: {}", userPrincipal.getId());
+        List<RoutineResponse> response = routineService.getMyRoutines(userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 공개 루틴 탐색
+     */
+    @GetMapping("/public")
+    @Operation(summary = "공개 루틴 탐색", description = "공개 루틴을 인기순으로 조회합니다. 카테고리/근육 그룹으로 필터링할 수 있습니다.")
+    public ResponseEntity<ApiResponse<List<RoutineResponse>>> getPublicRoutines(
+        @Parameter(description = "운동 카테고리 (예: chest, back, legs)")
+        @RequestParam(required = false) String category,
+        @Parameter(description = "근육 그룹")
+        @RequestParam(required = false) String muscle,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size) {
+        log.info("Get public routines - category: {}, muscle: {}, page: {}", category, muscle, page);
+        List<RoutineResponse> response = routineDiscoveryService.getPublicRoutines(category, muscle, page, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 루틴 조회
+     */
+    @GetMapping("/{routineId}")
+    @Operation(summary = "루틴 조회", description = "루틴 상세 정보를 조회합니다.")
+    public ResponseEntity<ApiResponse<RoutineResponse>> getRoutine(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Get routine: {} for user: {}", routineId, userPrincipal.getId());
+        RoutineResponse response = routineService.getRoutine(userPrincipal.getId(), routineId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 루틴 수정
+     */
+    @PutMapping("/{routineId}")
+    @Operation(summary = "루틴 수정", description = "루틴 정보와 운동 목록을 수정합니다.")
+    public ResponseEntity<ApiResponse<RoutineResponse>> updateRoutine(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal,
+        @Valid @RequestBody RoutineRequest request) {
+        log.info("Update routine: {} for user: {}", routineId, userPrincipal.getId());
+        RoutineResponse response = routineService.updateRoutine(userPrincipal.getId(), routineId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 루틴 삭제
+     */
+    @DeleteMapping("/{routineId}")
+    @Operation(summary = "루틴 삭제", description = "루틴을 삭제합니다.")
+    public ResponseEntity<ApiResponse<Void>> deleteRoutine(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Delete routine: {} for user: {}", routineId, userPrincipal.getId());
+        routineService.deleteRoutine(userPrincipal.getId(), routineId);
+        return ResponseEntity.ok(ApiResponse.success(null));
+    }
+
+    /**
+     * 즐겨찾기 토글
+     */
+    @PutMapping("/{routineId}/favorite")
+    @Operation(summary = "루틴 즐겨찾기", description = "루틴 즐겨찾기를 토글합니다.")
+    public ResponseEntity<ApiResponse<RoutineResponse>> toggleFavorite(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Toggle favorite routine: {} for user: {}", routineId, userPrincipal.getId());
+        RoutineResponse response = routineService.toggleFavorite(userPrincipal.getId(), routineId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 루틴 복사
+     */
+    @PostMapping("/{routineId}/copy")
+    @Operation(summary = "루틴 복사", description = "공개 루틴 또는 내 루틴을 복사합니다.")
+    public ResponseEntity<ApiResponse<RoutineResponse>> copyRoutine(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Copy routine: {} for user: {}", routineId, userPrincipal.getId());
+        RoutineResponse response = routineService.copyRoutine(userPrincipal.getId(), routineId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 루틴으로 운동 시작
+     * 루틴의 운동 목록이 추가된 세션을 한 번의 요청으로 생성
+     */
+    @PostMapping("/{routineId}/start")
+    @Operation(summary = "루틴으로 운동 시작", description = "루틴의 운동 목록으로 새로운 운동 세션을 시작합니다.")
+    public ResponseEntity<ApiResponse<WorkoutResponse>> startRoutine(
+        @PathVariable Long routineId,
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Start routine: {} for user: {}", routineId, userPrincipal.getId());
+        WorkoutResponse response = workoutService.createWorkout(userPrincipal.getId(),
+            CreateWorkoutRequest.builder()
+                .routineId(routineId)
+                .build());
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(response));
+    }
+}
@@ -86,12 +86,14 @@ public class UserController {
      * 사용자 검색
      */
     @GetMapping("/search")
-    @Operation(summary = "사용자 검색", description = "키워드로 사용자를 검색합니다.")
+    @Operation(summary = "사용자 검색", description = "사용자명 또는 표시 이름으로 사용자를 검색합니다. (일치도 / 팔로워 수 순)")
     public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
         @RequestParam String keyword,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size,
         @CurrentUser UserPrincipal userPrincipal) {
         log.info("Search users with keyword: {}", keyword);
-        List<UserResponse> response = userService.searchUsers(keyword, userPrincipal.getId());
+        List<UserResponse> response = userService.searchUsers(keyword, userPrincipal.getId(), page, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
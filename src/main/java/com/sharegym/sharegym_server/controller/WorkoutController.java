@@ -4,12 +4,27 @@ import com.sharegym.sharegym_server.dto.request.AddExerciseRequest;
 import com.sharegym.sharegym_server.dto.request.CheerRequest;
 import com.sharegym.sharegym_server.dto.request.CreateWorkoutRequest;
 import com.sharegym.sharegym_server.dto.request.SetRequest;
+import com.sharegym.sharegym_server.dto.request.WorkoutSessionRequest;
+import com.sharegym.sharegym_server.dto.request.WorkoutSyncRequest;
+import com.sharegym.sharegym_server.dto.response.ActivityCalendarResponse;
 import com.sharegym.sharegym_server.dto.response.ApiResponse;
+import com.sharegym.sharegym_server.dto.response.ExerciseProgressResponse;
+import com.sharegym.sharegym_server.dto.response.PersonalRecordResponse;
+import com.sharegym.sharegym_server.dto.response.SetUpdateResponse;
 import com.sharegym.sharegym_server.dto.response.WorkoutResponse;
 import com.sharegym.sharegym_server.dto.response.WorkoutSessionResponse;
+import com.sharegym.sharegym_server.dto.response.WorkoutStatsResponse;
+import com.sharegym.sharegym_server.dto.response.WorkoutSyncResponse;
 import com.sharegym.sharegym_server.security.CurrentUser;
 import com.sharegym.sharegym_server.security.UserPrincipal;
+import com.sharegym.sharegym_server.service.ActivityCalendarService;
+import com.sharegym.sharegym_server.service.ExerciseProgressService;
+import com.sharegym.sharegym_server.service.WorkoutExportService;
+import com.sharegym.sharegym_server.service.LiveWorkoutService;
+import com.sharegym.sharegym_server.service.PersonalRecordService;
 import com.sharegym.sharegym_server.service.WorkoutService;
+import com.sharegym.sharegym_server.service.WorkoutStatsService;
+import com.sharegym.sharegym_server.service.WorkoutSyncService;
 import com.sharegym.sharegym_server.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,10 +37,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +61,13 @@ import java.util.Map;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final LiveWorkoutService liveWorkoutService;
+    private final WorkoutStatsService workoutStatsService;
+    private final WorkoutSyncService workoutSyncService;
+    private final PersonalRecordService personalRecordService;
+    private final ExerciseProgressService exerciseProgressService;
+    private final ActivityCalendarService activityCalendarService;
+    private final WorkoutExportService workoutExportService;
     private final NotificationService notificationService;
 
     /**
@@ -53,12 +79,29 @@ public class WorkoutController {
     @Operation(summary = "운동 세션 저장", description = "완료된 운동 세션을 저장합니다.")
     public ResponseEntity<WorkoutSessionResponse> saveWorkoutSession(
         @CurrentUser UserPrincipal userPrincipal,
-        @RequestBody Map<String, Object> sessionData) {
+        @Parameter(description = "재전송 시 중복 저장 방지 키 (없으면 세션 ID 사용)")
+        @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @Valid @RequestBody WorkoutSessionRequest request) {
         log.info("Save workout session for user: {}", userPrincipal.getId());
-        WorkoutSessionResponse response = workoutService.saveWorkoutSession(userPrincipal.getId(), sessionData);
+        WorkoutSessionResponse response = workoutService.saveWorkoutSession(
+            userPrincipal.getId(), request, idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 오프라인 운동 세션 일괄 동기화
+     * 여러 세션을 한 번에 저장하고 세션별 처리 결과를 반환
+     */
+    @PostMapping("/sync")
+    @Operation(summary = "운동 세션 일괄 동기화", description = "오프라인에서 기록한 여러 운동 세션을 한 번에 저장합니다.")
+    public ResponseEntity<ApiResponse<WorkoutSyncResponse>> syncWorkoutSessions(
+        @CurrentUser UserPrincipal userPrincipal,
+        @Valid @RequestBody WorkoutSyncRequest request) {
+        log.info("Sync {} workout sessions for user: {}", request.getSessions().size(), userPrincipal.getId());
+        WorkoutSyncResponse response = workoutSyncService.sync(userPrincipal.getId(), request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 사용자 운동 히스토리 조회 (프론트엔드 규격)
      * 프론트엔드 API 규격: GET /api/v1/workouts/users/{userId}
@@ -110,6 +153,7 @@ public class WorkoutController {
         @PathVariable Long workoutId,
         @CurrentUser UserPrincipal userPrincipal) {
         log.info("Get workout: {} for user: {}", workoutId, userPrincipal.getId());
+        flushLiveSession(workoutId, userPrincipal.getId());
         WorkoutResponse response = workoutService.getWorkout(workoutId, userPrincipal.getId());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -143,6 +187,88 @@ public class WorkoutController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 기간별 운동 통계 조회
+     * 일/주/월 단위 집계 테이블에서 조회
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "운동 통계 조회", description = "일/주/월 단위 운동 통계를 조회합니다.")
+    public ResponseEntity<ApiResponse<List<WorkoutStatsResponse>>> getWorkoutStats(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(defaultValue = "week") String period,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Get workout stats for user: {} period: {}", userPrincipal.getId(), period);
+        List<WorkoutStatsResponse> response = workoutStatsService.getStats(
+            userPrincipal.getId(), period, from, to);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 운동별 개인 기록 조회
+     * 전체 운동의 최고 무게/반복 횟수/볼륨/추정 1RM을 한 번에 조회
+     */
+    @GetMapping("/records")
+    @Operation(summary = "개인 기록 조회", description = "운동별 개인 최고 기록(PR)을 조회합니다.")
+    public ResponseEntity<ApiResponse<List<PersonalRecordResponse>>> getPersonalRecords(
+        @CurrentUser UserPrincipal userPrincipal) {
+        log.info("Get personal records for user: {}", userPrincipal.getId());
+        List<PersonalRecordResponse> response = personalRecordService.getPersonalRecords(userPrincipal.getId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 운동별 진척도 조회
+     * 일간 기록을 기간 단위로 묶고 요청한 점 개수로 다운샘플링
+     */
+    @GetMapping("/progress/{exerciseId}")
+    @Operation(summary = "운동별 진척도 조회", description = "운동별 최고 무게/추정 1RM/볼륨 추이를 조회합니다.")
+    public ResponseEntity<ApiResponse<ExerciseProgressResponse>> getExerciseProgress(
+        @CurrentUser UserPrincipal userPrincipal,
+        @Parameter(description = "클라이언트 운동 ID") @PathVariable String exerciseId,
+        @RequestParam(defaultValue = "week") String period,
+        @RequestParam(defaultValue = "e1rm") String metric,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+        @RequestParam(required = false) Integer points) {
+        log.info("Get exercise progress for user: {} exercise: {}", userPrincipal.getId(), exerciseId);
+        ExerciseProgressResponse response = exerciseProgressService.getProgress(
+            userPrincipal.getId(), exerciseId, period, metric, from, to, points);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 연간 운동 캘린더(히트맵) 조회
+     * 날짜별 운동 여부 비트맵과 강도(0~3)를 반환
+     */
+    @GetMapping("/calendar")
+    @Operation(summary = "운동 캘린더 조회", description = "연간 날짜별 운동 여부와 강도를 조회합니다.")
+    public ResponseEntity<ApiResponse<ActivityCalendarResponse>> getActivityCalendar(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(required = false) Integer year) {
+        log.info("Get activity calendar for user: {} year: {}", userPrincipal.getId(), year);
+        ActivityCalendarResponse response = activityCalendarService.getCalendar(userPrincipal.getId(), year);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 전체 운동 기록 내보내기
+     * NDJSON(운동당 한 줄) 또는 CSV(세트당 한 줄)로 스트리밍
+     */
+    @GetMapping("/export")
+    @Operation(summary = "운동 기록 내보내기", description = "전체 운동 기록을 NDJSON 또는 CSV 파일로 내려받습니다.")
+    public ResponseEntity<StreamingResponseBody> exportWorkouts(
+        @CurrentUser UserPrincipal userPrincipal,
+        @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Export workouts for user: {} format: {}", userPrincipal.getId(), format);
+        WorkoutExportService.Format exportFormat = workoutExportService.parseFormat(format);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"workouts." + exportFormat.getExtension() + "\"")
+            .body(workoutExportService.export(userPrincipal.getId(), exportFormat));
+    }
+
     /**
      * 운동 추가
      */
@@ -169,11 +295,31 @@ public class WorkoutController {
         @Valid @RequestBody SetRequest request) {
         log.info("Update set for workout: {} exercise: {} user: {}",
             workoutId, exerciseId, userPrincipal.getId());
+        flushLiveSession(workoutId, userPrincipal.getId());
         WorkoutResponse response = workoutService.addOrUpdateSet(
             userPrincipal.getId(), workoutId, exerciseId, request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 세트 추가/업데이트 (변경분 응답)
+     * 운동 중 세트 기록 시 변경된 세트와 누적 합계만 반환
+     * 진행 중인 세션 저장소에 기록되며 완료/체크포인트 시 DB에 반영
+     */
+    @PatchMapping("/{workoutId}/exercises/{exerciseId}/sets")
+    @Operation(summary = "세트 기록", description = "세트를 추가/업데이트하고 변경된 세트와 누적 합계만 반환합니다.")
+    public ResponseEntity<ApiResponse<SetUpdateResponse>> updateSet(
+        @PathVariable Long workoutId,
+        @PathVariable Long exerciseId,
+        @CurrentUser UserPrincipal userPrincipal,
+        @Valid @RequestBody SetRequest request) {
+        log.info("Patch set for workout: {} exercise: {} user: {}",
+            workoutId, exerciseId, userPrincipal.getId());
+        SetUpdateResponse response = liveWorkoutService.updateSet(
+            userPrincipal.getId(), workoutId, exerciseId, request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 운동 완료
      */
@@ -183,6 +329,7 @@ public class WorkoutController {
         @PathVariable Long workoutId,
         @CurrentUser UserPrincipal userPrincipal) {
         log.info("Complete workout: {} for user: {}", workoutId, userPrincipal.getId());
+        flushLiveSession(workoutId, userPrincipal.getId());
         WorkoutResponse response = workoutService.completeWorkout(userPrincipal.getId(), workoutId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -251,4 +398,14 @@ public class WorkoutController {
 
         return ResponseEntity.ok(ApiResponse.success(result));
     }
-}
\ No newline at end of file
+
+    /**
+     * 본인 세션의 미반영 세트를 서비스 트랜잭션 시작 전에 DB에 반영
+     * (트랜잭션 안에서 별도 트랜잭션으로 반영하면 요청마다 커넥션을 두 개 사용함)
+     */
+    private void flushLiveSession(Long workoutId, Long userId) {
+        if (liveWorkoutService.isSessionOwner(workoutId, userId)) {
+            liveWorkoutService.flush(workoutId);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.sharegym.sharegym_server.dto.live;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 진행 중인 운동의 세트 상태 (Redis 해시 값)
+ * 운동 완료 또는 주기적 체크포인트 시 workout_sets 테이블로 반영된다.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveSetState {
+
+    private Long id; // 저장된 세트 ID (아직 저장 전이면 null)
+    private Long workoutExerciseId;
+    private Integer setNumber;
+    private Integer reps;
+    private Double weight;
+    private Double distance;
+    private Integer duration;
+    private Integer durationSeconds;
+    private Integer level;
+    private WorkoutSet.SetType setType;
+    private Boolean isWarmup;
+    private Boolean isFailure;
+    private Boolean isDropset;
+    private Boolean isCompleted;
+    private LocalDateTime completedAt;
+    private Integer restSeconds;
+    private String note;
+
+    /**
+     * 해시 필드명 ({workoutExerciseId}:{setNumber})
+     */
+    public String fieldKey() {
+        return fieldKey(workoutExerciseId, setNumber);
+    }
+
+    public static String fieldKey(Long workoutExerciseId, Integer setNumber) {
+        return workoutExerciseId + ":" + setNumber;
+    }
+
+    /**
+     * 통계 반영 여부 (완료 세트만)
+     */
+    public boolean counted() {
+        return Boolean.TRUE.equals(isCompleted);
+    }
+
+    /**
+     * 통계에 반영되는 반복 횟수
+     */
+    public int countedReps() {
+        return counted() && reps != null ? reps : 0;
+    }
+
+    /**
+     * 통계에 반영되는 볼륨 (무게 x 반복 횟수)
+     */
+    public double countedVolume() {
+        return counted() && weight != null && reps != null ? weight * reps : 0.0;
+    }
+
+    /**
+     * 세트 엔티티로부터 생성
+     */
+    public static LiveSetState from(WorkoutSet set, Long workoutExerciseId) {
+        return LiveSetState.builder()
+            .id(set.getId())
+            .workoutExerciseId(workoutExerciseId)
+            .setNumber(set.getSetNumber())
+            .reps(set.getReps())
+            .weight(set.getWeight())
+            .distance(set.getDistance())
+            .duration(set.getDuration())
+            .durationSeconds(set.getDurationSeconds())
+            .level(set.getLevel())
+            .setType(set.getSetType())
+            .isWarmup(set.getIsWarmup())
+            .isFailure(set.getIsFailure())
+            .isDropset(set.getIsDropset())
+            .isCompleted(set.getIsCompleted())
+            .completedAt(set.getCompletedAt())
+            .restSeconds(set.getRestSeconds())
+            .note(set.getNote())
+            .build();
+    }
+
+    /**
+     * 분리된(detached) 세트 엔티티로 변환 (workoutExercise 연관은 호출 측에서 설정)
+     */
+    public WorkoutSet toWorkoutSet() {
+        return WorkoutSet.builder()
+            .id(id)
+            .setNumber(setNumber)
+            .reps(reps)
+            .weight(weight)
+            .distance(distance)
+            .duration(duration)
+            .durationSeconds(durationSeconds)
+            .level(level)
+            .setType(setType)
+            .isWarmup(Boolean.TRUE.equals(isWarmup))
+            .isFailure(Boolean.TRUE.equals(isFailure))
+            .isDropset(Boolean.TRUE.equals(isDropset))
+            .isCompleted(isCompleted)
+            .completedAt(completedAt)
+            .restSeconds(restSeconds)
+            .note(note)
+            .build();
+    }
+}
@@ -62,6 +62,7 @@ public class FcmNotificationRequest {
     public enum NotificationType {
         WORKOUT_START,      // 운동 시작 알림
         WORKOUT_COMPLETE,   // 운동 완료 알림
+        PERSONAL_RECORD,    // 개인 기록 경신 알림
         CHEER,             // 응원 알림
         FEED_NEW,          // 새 피드 알림
         FEED_LIKE,         // 피드 좋아요 알림
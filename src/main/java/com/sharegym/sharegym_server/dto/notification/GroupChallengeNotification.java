@@ -0,0 +1,31 @@
+package com.sharegym.sharegym_server.dto.notification;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 챌린지 알림 DTO (진행도 갱신 / 목표 달성)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GroupChallengeNotification {
+    private Long groupId;
+    private Long challengeId;
+    private String title;
+    private String metric;
+    private Double progress;
+    private Double targetValue;
+    private Long userId; // 진행도를 갱신한 사용자
+    private String eventType; // PROGRESS, COMPLETED
+
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
@@ -0,0 +1,30 @@
+package com.sharegym.sharegym_server.dto.notification;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sharegym.sharegym_server.dto.response.PersonalRecordResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 개인 기록(PR) 경신 알림 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PersonalRecordNotification {
+    private Long workoutId;
+    private Long userId;
+    private String userName;
+    private List<PersonalRecordResponse> records;
+    private String message;
+
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
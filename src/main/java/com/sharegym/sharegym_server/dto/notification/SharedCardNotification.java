@@ -0,0 +1,30 @@
+package com.sharegym.sharegym_server.dto.notification;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 카드 알림 DTO (카드 생성 / 완료)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SharedCardNotification {
+    private Long groupId;
+    private Long cardId;
+    private String title;
+    private Long userId;
+    private String userName;
+    private String eventType; // CARD_CREATED, CARD_COMPLETED
+    private Long completionCount;
+
+    @Builder.Default
+    private LocalDateTime timestamp = LocalDateTime.now();
+}
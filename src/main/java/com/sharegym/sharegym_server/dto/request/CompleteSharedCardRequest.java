@@ -0,0 +1,18 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공유 카드 완료 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompleteSharedCardRequest {
+
+    private Long workoutId;  // 완료에 사용한 운동 세션 ID (선택적)
+}
@@ -0,0 +1,41 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 챌린지 생성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateGroupChallengeRequest {
+
+    @NotBlank(message = "챌린지 제목은 필수입니다.")
+    @Size(max = 100, message = "챌린지 제목은 100자 이하여야 합니다.")
+    private String title;
+
+    @Size(max = 500, message = "챌린지 설명은 500자 이하여야 합니다.")
+    private String description;
+
+    @NotBlank(message = "챌린지 지표는 필수입니다.")
+    private String metric;  // volume, workouts, sets, minutes
+
+    @NotNull(message = "목표 값은 필수입니다.")
+    @Positive(message = "목표 값은 0보다 커야 합니다.")
+    private Double targetValue;
+
+    private LocalDateTime startAt;  // 시작 시각 (없으면 즉시 시작)
+
+    @NotNull(message = "종료 시각은 필수입니다.")
+    private LocalDateTime endAt;
+}
@@ -0,0 +1,39 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공유 카드 생성 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateSharedCardRequest {
+
+    @NotNull(message = "그룹 ID는 필수입니다.")
+    private Long groupId;
+
+    @NotBlank(message = "카드 제목은 필수입니다.")
+    @Size(max = 100, message = "카드 제목은 100자 이하여야 합니다.")
+    private String title;
+
+    @Size(max = 500, message = "메시지는 500자 이하여야 합니다.")
+    private String message;
+
+    private Long workoutId;  // 운동 구성을 가져올 운동 세션 ID (선택적)
+
+    private Long routineId;  // 운동 구성을 가져올 루틴 ID (선택적)
+
+    @Min(value = 1, message = "완료 기한은 1시간 이상이어야 합니다.")
+    @Max(value = 720, message = "완료 기한은 30일(720시간) 이하여야 합니다.")
+    private Integer durationHours;  // 완료 기한 (없으면 무기한)
+}
@@ -0,0 +1,70 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 루틴 생성/수정 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutineRequest {
+
+    @NotBlank(message = "루틴 이름은 필수입니다.")
+    @Size(max = 100, message = "루틴 이름은 100자 이내여야 합니다.")
+    private String name;
+
+    @Size(max = 1000, message = "루틴 설명은 1000자 이내여야 합니다.")
+    private String description;
+
+    private Boolean isPublic;
+
+    @Min(value = 1, message = "예상 소요 시간은 1분 이상이어야 합니다.")
+    private Integer estimatedDuration; // 분
+
+    @Valid
+    @Size(max = 50, message = "루틴에는 50개 이하의 운동만 추가할 수 있습니다.")
+    @Builder.Default
+    private List<ExerciseItem> exercises = new ArrayList<>();
+
+    /**
+     * 루틴 운동 항목
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseItem {
+
+        @NotBlank(message = "운동 ID는 필수입니다.")
+        private String exerciseId; // 클라이언트 운동 ID
+
+        @Min(value = 1, message = "목표 세트 수는 1 이상이어야 합니다.")
+        @Max(value = 50, message = "목표 세트 수는 50 이하여야 합니다.")
+        private Integer targetSets;
+
+        @Min(value = 1, message = "목표 반복 횟수는 1 이상이어야 합니다.")
+        private Integer targetReps;
+
+        @Min(value = 0, message = "목표 무게는 0 이상이어야 합니다.")
+        private Double targetWeight;
+
+        @Min(value = 0, message = "휴식 시간은 0 이상이어야 합니다.")
+        private Integer restSeconds;
+
+        @Size(max = 500, message = "메모는 500자 이내여야 합니다.")
+        private String note;
+    }
+}
@@ -8,6 +8,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 /**
  * 세트 정보 요청 DTO
  */
@@ -40,4 +42,26 @@ public class SetRequest {
     private Integer restSeconds;
 
     private String note;
-}
\ No newline at end of file
+
+    /**
+     * 요청 값을 세트 엔티티에 반영
+     * 미완료 → 완료로 바뀌는 경우 완료 시간을 기록한다.
+     */
+    public void applyTo(WorkoutSet workoutSet) {
+        boolean wasCompleted = Boolean.TRUE.equals(workoutSet.getIsCompleted());
+
+        workoutSet.setReps(reps);
+        workoutSet.setWeight(weight);
+        workoutSet.setDistance(distance);
+        workoutSet.setDurationSeconds(durationSeconds);
+        workoutSet.setLevel(level);
+        workoutSet.setSetType(setType);
+        workoutSet.setIsCompleted(isCompleted);
+        workoutSet.setRestSeconds(restSeconds);
+        workoutSet.setNote(note);
+
+        if (Boolean.TRUE.equals(isCompleted) && !wasCompleted) {
+            workoutSet.setCompletedAt(LocalDateTime.now());
+        }
+    }
+}
@@ -29,4 +29,7 @@ public class UpdateProfileRequest {
     private String profileImageUrl;
 
     private String fcmToken; // FCM 토큰 업데이트
+
+    @Size(max = 50, message = "시간대는 50자 이내여야 합니다.")
+    private String timeZone; // IANA 시간대 (예: Asia/Seoul)
 }
\ No newline at end of file
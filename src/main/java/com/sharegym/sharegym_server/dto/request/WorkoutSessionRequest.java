@@ -0,0 +1,101 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 운동 세션 저장 요청 DTO (프론트엔드 WorkoutSession 형식)
+ * Jackson이 요청 본문을 스트리밍으로 바로 바인딩하며, 사용하지 않는 필드는 무시한다.
+ * 시간 값은 ISO-8601 오프셋 형식(예: 2024-01-01T10:00:00.000Z)으로 전달된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WorkoutSessionRequest {
+
+    private String id; // 클라이언트 세션 ID
+
+    @Size(max = 100, message = "운동 이름은 100자 이내여야 합니다.")
+    private String title;
+
+    @NotNull(message = "시작 시간은 필수입니다.")
+    private OffsetDateTime startTime;
+
+    private OffsetDateTime endTime;
+
+    @Valid
+    @Builder.Default
+    private List<ExerciseData> exercises = new ArrayList<>();
+
+    private Integer totalSets;
+    private Integer totalVolume;
+    private Long duration; // milliseconds
+    private Integer caloriesBurned;
+    private String notes;
+
+    /**
+     * 운동별 데이터
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class ExerciseData {
+        private String exerciseId; // 프론트엔드 문자열 ID (예: "bench-press")
+        private Integer order;
+        private Integer restTime; // seconds
+        private String notes;
+
+        @Valid
+        @Builder.Default
+        private List<SetData> sets = new ArrayList<>();
+    }
+
+    /**
+     * 세트 데이터
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SetData {
+        private Integer setNumber;
+        private Double weight; // kg or null for bodyweight
+        private Integer reps;
+        private Double distance; // km for cardio
+        private Integer duration; // seconds for time-based exercises
+        private Integer level; // for machine difficulty
+        private Boolean isWarmup;
+        private Boolean isFailure;
+        private Boolean isDropset;
+        private Boolean completed;
+        private String notes;
+        private OffsetDateTime completedAt;
+    }
+
+    /**
+     * 오프셋 시간을 서버 기준 시간대의 LocalDateTime으로 변환
+     */
+    public static LocalDateTime toServerTime(OffsetDateTime time) {
+        if (time == null) {
+            return null;
+        }
+        return time.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,27 @@
+package com.sharegym.sharegym_server.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 오프라인 운동 세션 일괄 동기화 요청 DTO
+ * 세션별 검증은 서비스에서 수행하며, 검증 실패 세션만 결과에 실패로 표시된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class WorkoutSyncRequest {
+
+    @NotEmpty(message = "동기화할 운동 세션이 없습니다.")
+    @Size(max = 200, message = "한 번에 200개 이하의 세션만 동기화할 수 있습니다.")
+    private List<WorkoutSessionRequest> sessions;
+}
@@ -0,0 +1,61 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.sharegym.sharegym_server.entity.ActivityCalendar;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Year;
+import java.util.Base64;
+
+/**
+ * 연간 운동 캘린더(히트맵) 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCalendarResponse {
+
+    private Integer year;
+    private Integer days; // 해당 연도의 일 수 (365, 366)
+    private Integer activeDayCount; // 운동한 날 수
+    private String activeDays; // 운동 여부 비트맵 (Base64, 1월 1일이 첫 바이트의 최하위 비트)
+    private String levels; // 날짜별 강도 ('0'~'3', 1월 1일부터 한 글자씩)
+
+    /**
+     * Entity를 DTO로 변환
+     */
+    public static ActivityCalendarResponse from(ActivityCalendar calendar) {
+        int days = Year.of(calendar.getYear()).length();
+        StringBuilder levels = new StringBuilder(days);
+        int activeDayCount = 0;
+        for (int day = 1; day <= days; day++) {
+            int level = calendar.levelOf(day);
+            levels.append((char) ('0' + level));
+            if (level > 0) {
+                activeDayCount++;
+            }
+        }
+
+        return ActivityCalendarResponse.builder()
+            .year(calendar.getYear())
+            .days(days)
+            .activeDayCount(activeDayCount)
+            .activeDays(Base64.getEncoder().encodeToString(calendar.getActiveDays()))
+            .levels(levels.toString())
+            .build();
+    }
+
+    /**
+     * 기록이 없는 연도
+     */
+    public static ActivityCalendarResponse empty(int year) {
+        return from(ActivityCalendar.builder()
+            .year(year)
+            .activeDays(new byte[ActivityCalendar.ACTIVE_DAYS_BYTES])
+            .intensity(new byte[ActivityCalendar.INTENSITY_BYTES])
+            .build());
+    }
+}
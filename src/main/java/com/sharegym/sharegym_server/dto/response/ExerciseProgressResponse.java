@@ -0,0 +1,41 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 운동별 진척도(시계열) 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseProgressResponse {
+
+    private String exerciseId; // 클라이언트 운동 ID
+    private String period; // day, week, month
+    private String metric; // 다운샘플링 기준 (weight, e1rm, volume)
+    private Integer totalPoints; // 다운샘플링 전 점 개수
+    private List<Point> points;
+
+    /**
+     * 기간별 기록 점
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDate date; // 기간 시작일
+        private Double maxWeight;
+        private Double estimated1RM;
+        private Double volume;
+        private Integer sets;
+        private Integer reps;
+    }
+}
@@ -0,0 +1,67 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sharegym.sharegym_server.entity.GroupChallenge;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 챌린지 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GroupChallengeResponse {
+
+    private Long id;
+    private Long groupId;
+    private Long createdBy;
+    private String title;
+    private String description;
+    private String metric;  // volume, workouts, sets, minutes
+    private Double targetValue;
+    private Double progress;
+    private Double progressRate;  // 달성률 (%, 최대 100)
+    private String status;  // UPCOMING, ACTIVE, COMPLETED, ENDED
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private LocalDateTime completedAt;
+
+    /**
+     * Entity와 진행도로부터 DTO 생성
+     */
+    public static GroupChallengeResponse from(GroupChallenge challenge, double progress, LocalDateTime now) {
+        String status;
+        if (challenge.getCompletedAt() != null) {
+            status = "COMPLETED";
+        } else if (now.isBefore(challenge.getStartAt())) {
+            status = "UPCOMING";
+        } else if (now.isBefore(challenge.getEndAt())) {
+            status = "ACTIVE";
+        } else {
+            status = "ENDED";
+        }
+
+        return GroupChallengeResponse.builder()
+            .id(challenge.getId())
+            .groupId(challenge.getGroupId())
+            .createdBy(challenge.getCreatedBy())
+            .title(challenge.getTitle())
+            .description(challenge.getDescription())
+            .metric(challenge.getMetric().name().toLowerCase())
+            .targetValue(challenge.getTargetValue())
+            .progress(progress)
+            .progressRate(Math.min(100.0, Math.round(progress / challenge.getTargetValue() * 1000) / 10.0))
+            .status(status)
+            .startAt(challenge.getStartAt())
+            .endAt(challenge.getEndAt())
+            .completedAt(challenge.getCompletedAt())
+            .build();
+    }
+}
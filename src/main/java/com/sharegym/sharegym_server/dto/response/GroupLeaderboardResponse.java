@@ -0,0 +1,47 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 그룹 리더보드 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GroupLeaderboardResponse {
+
+    private Long groupId;
+    private String metric;  // volume, workouts, contribution
+    private String window;  // week, month, all
+    private LocalDate periodStart; // 기간 시작일 (all이면 null)
+    private LocalDate periodEnd;   // 기간 종료일 (포함, all이면 null)
+    private Long participantCount;
+    private List<Entry> entries;
+    private Entry me; // 조회한 사용자의 순위 (기록이 없으면 rank null)
+
+    /**
+     * 리더보드 항목
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        private Long rank;
+        private Long userId;
+        private String username;
+        private String displayName;
+        private String profileImageUrl;
+        private Double score;
+    }
+}
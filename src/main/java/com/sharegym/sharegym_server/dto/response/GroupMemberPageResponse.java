@@ -0,0 +1,23 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 그룹 멤버 목록 페이지 응답 DTO (커서 기반)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupMemberPageResponse {
+
+    private List<GroupMemberResponse> items;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    private Boolean hasMore;
+    private Integer totalCount; // 그룹 멤버 수 (groups.member_count)
+}
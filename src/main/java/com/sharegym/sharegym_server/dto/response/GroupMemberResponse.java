@@ -28,6 +28,14 @@ public class GroupMemberResponse {
     private LocalDateTime joinedAt;
     private Integer contributionScore;
 
+    /**
+     * JPQL 생성자 프로젝션용 생성자 (멤버와 사용자 컬럼만 조회)
+     */
+    public GroupMemberResponse(Long id, Long userId, String username, String displayName, String profileImageUrl,
+                               GroupMember.MemberRole role, LocalDateTime joinedAt, Integer contributionScore) {
+        this(id, userId, username, displayName, profileImageUrl, role.name(), joinedAt, contributionScore);
+    }
+
     /**
      * Entity로부터 DTO 생성
      */
@@ -0,0 +1,60 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.sharegym.sharegym_server.entity.PersonalRecord;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운동별 개인 기록 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecordResponse {
+
+    private String exerciseId; // 클라이언트 운동 ID
+    private String exerciseName;
+    private String exerciseNameKo;
+    private Double maxWeight;
+    private Integer maxWeightReps;
+    private Integer maxReps;
+    private Double maxVolume;
+    private Double estimated1RM; // Epley
+    private Double estimated1RMBrzycki;
+    private List<String> improved; // 이번 운동에서 경신된 기록 (알림용)
+    private LocalDateTime achievedAt;
+
+    /**
+     * Entity를 DTO로 변환
+     */
+    public static PersonalRecordResponse from(PersonalRecord record) {
+        return from(record, null);
+    }
+
+    /**
+     * Entity를 DTO로 변환 (경신된 기록 포함)
+     */
+    public static PersonalRecordResponse from(PersonalRecord record, List<PersonalRecord.RecordType> improved) {
+        return PersonalRecordResponse.builder()
+            .exerciseId(record.getExercise().getClientId())
+            .exerciseName(record.getExercise().getExerciseName())
+            .exerciseNameKo(record.getExercise().getExerciseNameKo())
+            .maxWeight(record.getMaxWeight())
+            .maxWeightReps(record.getMaxWeightReps())
+            .maxReps(record.getMaxReps())
+            .maxVolume(record.getMaxVolume())
+            .estimated1RM(record.getEpley1RM())
+            .estimated1RMBrzycki(record.getBrzycki1RM())
+            .improved(improved != null
+                ? improved.stream().map(type -> type.name().toLowerCase()).toList()
+                : null)
+            .achievedAt(record.getAchievedAt())
+            .build();
+    }
+}
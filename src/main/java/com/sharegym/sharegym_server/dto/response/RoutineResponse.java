@@ -0,0 +1,85 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import com.sharegym.sharegym_server.entity.Routine;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 루틴 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutineResponse {
+
+    private Long id;
+    private Long userId;
+    private String name;
+    private String description;
+    private Boolean isPublic;
+    private Boolean isFavorite;
+    private Integer useCount;
+    private Integer copyCount;
+    private Integer estimatedDuration; // 분
+    private List<ExerciseItem> exercises;
+    private LocalDateTime createdAt;
+
+    /**
+     * 루틴 운동 항목
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExerciseItem {
+        private String exerciseId; // 클라이언트 운동 ID
+        private String exerciseName;
+        private String exerciseNameKo;
+        private String category;
+        private Integer orderIndex;
+        private Integer targetSets;
+        private Integer targetReps;
+        private Double targetWeight;
+        private Integer restSeconds;
+        private String note;
+    }
+
+    /**
+     * 루틴 행과 템플릿(운동 구성)으로 변환
+     */
+    public static RoutineResponse from(Routine routine, RoutineTemplate template) {
+        return RoutineResponse.builder()
+            .id(routine.getId())
+            .userId(template.getUserId())
+            .name(routine.getName())
+            .description(routine.getDescription())
+            .isPublic(routine.getIsPublic())
+            .isFavorite(routine.getIsFavorite())
+            .useCount(routine.getUseCount())
+            .copyCount(routine.getCopyCount())
+            .estimatedDuration(routine.getEstimatedDuration())
+            .exercises(template.getExercises().stream()
+                .map(item -> ExerciseItem.builder()
+                    .exerciseId(item.getClientId())
+                    .exerciseName(item.getExerciseName())
+                    .exerciseNameKo(item.getExerciseNameKo())
+                    .category(item.getCategory())
+                    .orderIndex(item.getOrderIndex())
+                    .targetSets(item.getTargetSets())
+                    .targetReps(item.getTargetReps())
+                    .targetWeight(item.getTargetWeight())
+                    .restSeconds(item.getRestSeconds())
+                    .note(item.getNote())
+                    .build())
+                .toList())
+            .createdAt(routine.getCreatedAt())
+            .build();
+    }
+}
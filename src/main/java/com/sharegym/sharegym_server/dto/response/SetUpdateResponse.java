@@ -0,0 +1,30 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세트 변경 응답 DTO
+ * 변경된 세트와 운동/세션의 누적 합계만 반환한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SetUpdateResponse {
+
+    private Long workoutId;
+    private Long workoutExerciseId;
+    private SetResponse set;
+
+    // 운동별 누적
+    private Integer exerciseCompletedSets;
+    private Double exerciseTotalVolume;
+
+    // 세션 누적
+    private Integer totalSets;
+    private Integer totalReps;
+    private Double totalWeight;
+}
@@ -0,0 +1,21 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공유 카드 완료 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedCardCompletionResponse {
+
+    private Long cardId;
+    private Long groupId;
+    private Boolean alreadyCompleted; // 이전에 이미 완료한 경우 true
+    private Long completionCount;
+}
@@ -0,0 +1,55 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 공유 카드 응답 DTO
+ * 그룹별 목록 캐시에 그대로 보관되며, 완료 수와 내 완료 여부는 조회 시점에 채운다.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SharedCardResponse {
+
+    private Long id;
+    private Long groupId;
+    private Long userId;
+    private String username;
+    private String displayName;
+    private String profileImageUrl;
+    private Long workoutId;
+    private Long routineId;
+    private String title;
+    private String message;
+    private List<ExerciseItem> exercises;
+    private Long completionCount;
+    private Boolean completedByMe;
+    private LocalDateTime expiresAt;
+    private LocalDateTime createdAt;
+
+    /**
+     * 카드 운동 항목 (공유 시점 스냅샷)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ExerciseItem {
+        private String exerciseId; // 클라이언트 운동 ID
+        private String exerciseName;
+        private String exerciseNameKo;
+        private Integer sets;
+        private Integer reps;
+        private Double weight;
+    }
+}
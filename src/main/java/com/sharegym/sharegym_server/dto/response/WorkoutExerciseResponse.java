@@ -1,6 +1,5 @@
 package com.sharegym.sharegym_server.dto.response;
 
-import com.sharegym.sharegym_server.common.ExerciseIdMapper;
 import com.sharegym.sharegym_server.entity.WorkoutExercise;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,12 +37,9 @@ public class WorkoutExerciseResponse {
      * Entity를 DTO로 변환
      */
     public static WorkoutExerciseResponse from(WorkoutExercise workoutExercise) {
-        ExerciseIdMapper mapper = new ExerciseIdMapper();
-        String clientExerciseId = mapper.toClientId(workoutExercise.getExercise().getId());
-
         return WorkoutExerciseResponse.builder()
             .id(workoutExercise.getId())
-            .exerciseId(clientExerciseId)
+            .exerciseId(workoutExercise.getExercise().getClientId())
             .exerciseName(workoutExercise.getExercise().getName())
             .exerciseNameKo(workoutExercise.getExercise().getNameKo())
             .category(workoutExercise.getExercise().getCategory().name())
@@ -1,7 +1,6 @@
 package com.sharegym.sharegym_server.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.sharegym.sharegym_server.common.ExerciseIdMapper;
 import com.sharegym.sharegym_server.entity.Workout;
 import com.sharegym.sharegym_server.entity.WorkoutExercise;
 import com.sharegym.sharegym_server.entity.WorkoutSet;
@@ -15,7 +14,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -101,155 +99,6 @@ public class WorkoutSessionResponse {
         private LocalDateTime completedAt;
     }
 
-    /**
-     * Map 형태의 데이터를 WorkoutSessionResponse로 변환
-     */
-    public static WorkoutSessionResponse fromMap(Map<String, Object> data) {
-        WorkoutSessionResponse response = new WorkoutSessionResponse();
-
-        // 기본 필드 매핑
-        response.setId(String.valueOf(data.getOrDefault("id", "")));
-        response.setUserId(String.valueOf(data.getOrDefault("userId", "")));
-        response.setTitle(String.valueOf(data.getOrDefault("title", "운동")));
-        response.setStatus(String.valueOf(data.getOrDefault("status", "completed")));
-
-        // 숫자 필드
-        if (data.containsKey("totalSets")) {
-            response.setTotalSets(((Number) data.get("totalSets")).intValue());
-        }
-        if (data.containsKey("totalVolume")) {
-            response.setTotalVolume(((Number) data.get("totalVolume")).intValue());
-        }
-        if (data.containsKey("duration")) {
-            response.setDuration(((Number) data.get("duration")).longValue());
-        }
-        if (data.containsKey("caloriesBurned")) {
-            response.setCaloriesBurned(((Number) data.get("caloriesBurned")).intValue());
-        }
-
-        // 날짜/시간 필드 - ISO 문자열로 전달될 수 있음
-        if (data.containsKey("date")) {
-            Object dateObj = data.get("date");
-            if (dateObj instanceof String) {
-                response.setDate(LocalDate.parse(((String) dateObj).substring(0, 10)));
-            }
-        }
-        if (data.containsKey("startTime")) {
-            Object startTimeObj = data.get("startTime");
-            if (startTimeObj instanceof String) {
-                response.setStartTime(LocalDateTime.parse(((String) startTimeObj).replace("Z", "")));
-            }
-        }
-        if (data.containsKey("endTime")) {
-            Object endTimeObj = data.get("endTime");
-            if (endTimeObj instanceof String) {
-                response.setEndTime(LocalDateTime.parse(((String) endTimeObj).replace("Z", "")));
-            }
-        }
-
-        // 운동 리스트 변환
-        if (data.containsKey("exercises") && data.get("exercises") instanceof List) {
-            List<Map<String, Object>> exercisesList = (List<Map<String, Object>>) data.get("exercises");
-            List<WorkoutExerciseData> exercises = new ArrayList<>();
-
-            for (Map<String, Object> exerciseMap : exercisesList) {
-                WorkoutExerciseData exerciseData = convertToExerciseData(exerciseMap);
-                exercises.add(exerciseData);
-            }
-
-            response.setExercises(exercises);
-        }
-
-        return response;
-    }
-
-    /**
-     * Map을 WorkoutExerciseData로 변환
-     */
-    private static WorkoutExerciseData convertToExerciseData(Map<String, Object> map) {
-        WorkoutExerciseData data = new WorkoutExerciseData();
-
-        data.setId(String.valueOf(map.getOrDefault("id", "")));
-        data.setExerciseId(String.valueOf(map.getOrDefault("exerciseId", "")));
-        data.setName(String.valueOf(map.getOrDefault("name", "")));
-        data.setNameKo(String.valueOf(map.getOrDefault("nameKo", "")));
-        data.setCategory(String.valueOf(map.getOrDefault("category", "")));
-        data.setEquipment(String.valueOf(map.getOrDefault("equipment", "")));
-        data.setUnit(String.valueOf(map.getOrDefault("unit", "kg")));
-
-        if (map.containsKey("muscleGroups") && map.get("muscleGroups") instanceof List) {
-            data.setMuscleGroups((List<String>) map.get("muscleGroups"));
-        }
-
-        if (map.containsKey("order")) {
-            data.setOrder(((Number) map.get("order")).intValue());
-        }
-        if (map.containsKey("restTime")) {
-            data.setRestTime(((Number) map.get("restTime")).intValue());
-        }
-
-        // 세트 리스트 변환
-        if (map.containsKey("sets") && map.get("sets") instanceof List) {
-            List<Map<String, Object>> setsList = (List<Map<String, Object>>) map.get("sets");
-            List<SetData> sets = new ArrayList<>();
-
-            for (Map<String, Object> setMap : setsList) {
-                SetData setData = convertToSetData(setMap);
-                sets.add(setData);
-            }
-
-            data.setSets(sets);
-        }
-
-        return data;
-    }
-
-    /**
-     * Map을 SetData로 변환
-     */
-    private static SetData convertToSetData(Map<String, Object> map) {
-        SetData data = new SetData();
-
-        data.setId(String.valueOf(map.getOrDefault("id", "")));
-
-        if (map.containsKey("setNumber")) {
-            data.setSetNumber(((Number) map.get("setNumber")).intValue());
-        }
-        if (map.containsKey("weight")) {
-            data.setWeight(((Number) map.get("weight")).doubleValue());
-        }
-        if (map.containsKey("reps")) {
-            data.setReps(((Number) map.get("reps")).intValue());
-        }
-        if (map.containsKey("distance")) {
-            data.setDistance(((Number) map.get("distance")).doubleValue());
-        }
-        if (map.containsKey("duration")) {
-            data.setDuration(((Number) map.get("duration")).intValue());
-        }
-        if (map.containsKey("level")) {
-            data.setLevel(((Number) map.get("level")).intValue());
-        }
-
-        // Boolean 필드들
-        data.setIsWarmup(Boolean.TRUE.equals(map.get("isWarmup")));
-        data.setIsFailure(Boolean.TRUE.equals(map.get("isFailure")));
-        data.setIsDropset(Boolean.TRUE.equals(map.get("isDropset")));
-        data.setCompleted(Boolean.TRUE.equals(map.get("completed")));
-
-        data.setNotes(String.valueOf(map.getOrDefault("notes", "")));
-
-        // completedAt 날짜
-        if (map.containsKey("completedAt")) {
-            Object completedAtObj = map.get("completedAt");
-            if (completedAtObj instanceof String) {
-                data.setCompletedAt(LocalDateTime.parse(((String) completedAtObj).replace("Z", "")));
-            }
-        }
-
-        return data;
-    }
-
     /**
      * Workout Entity를 WorkoutSessionResponse로 변환
      */
@@ -287,7 +136,7 @@ public class WorkoutSessionResponse {
     private static WorkoutExerciseData convertWorkoutExerciseToData(WorkoutExercise workoutExercise) {
         WorkoutExerciseData data = WorkoutExerciseData.builder()
             .id(String.valueOf(workoutExercise.getId()))
-            .exerciseId(ExerciseIdMapper.toClientId(workoutExercise.getExercise().getId())) // 숫자 ID를 문자열 ID로 변환
+            .exerciseId(workoutExercise.getExercise().getClientId()) // 프론트엔드 문자열 ID
             .name(workoutExercise.getExercise().getName())
             .nameKo(workoutExercise.getExercise().getNameKo())
             .category(workoutExercise.getExercise().getCategory().name().toLowerCase())
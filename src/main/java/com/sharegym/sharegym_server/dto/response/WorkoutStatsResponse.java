@@ -0,0 +1,44 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.sharegym.sharegym_server.entity.WorkoutRollup;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 기간별 운동 통계 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutStatsResponse {
+
+    private String period; // day, week, month
+    private LocalDate periodStart;
+    private Integer sessions;
+    private Integer sets;
+    private Integer reps;
+    private Double volume;
+    private Long duration; // seconds
+    private Integer calories;
+
+    /**
+     * Entity를 DTO로 변환
+     */
+    public static WorkoutStatsResponse from(WorkoutRollup rollup) {
+        return WorkoutStatsResponse.builder()
+            .period(rollup.getPeriodType().name().toLowerCase())
+            .periodStart(rollup.getPeriodStart())
+            .sessions(rollup.getSessionCount())
+            .sets(rollup.getSetCount())
+            .reps(rollup.getRepCount())
+            .volume(rollup.getVolume())
+            .duration(rollup.getDurationSeconds())
+            .calories(rollup.getCalories())
+            .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sharegym.sharegym_server.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 오프라인 운동 세션 일괄 동기화 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutSyncResponse {
+
+    private Integer total;
+    private Integer created;
+    private Integer duplicates;
+    private Integer failed;
+    private List<Result> results; // 요청 순서
+
+    /**
+     * 세션별 처리 결과
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        private Integer index; // 요청 내 순서
+        private String clientId; // 클라이언트 세션 ID
+        private Status status;
+        private String workoutId; // 저장된(또는 이미 저장되어 있던) 운동 ID
+        private String message; // 실패 사유
+    }
+
+    /**
+     * 처리 상태 Enum
+     */
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        FAILED
+    }
+}
@@ -0,0 +1,84 @@
+package com.sharegym.sharegym_server.dto.routine;
+
+import com.sharegym.sharegym_server.entity.Routine;
+import com.sharegym.sharegym_server.entity.RoutineExercise;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 루틴 템플릿 (캐시 값)
+ * 루틴 구성(운동 목록)만 담으며, 자주 바뀌는 사용/복사 횟수는 포함하지 않는다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutineTemplate {
+
+    private Long id;
+    private Long userId; // 루틴 생성자
+    private String name;
+    private String description;
+    private Boolean isPublic;
+    private Integer estimatedDuration;
+    private List<Item> exercises;
+
+    /**
+     * 템플릿 운동 항목
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Integer exerciseId; // 서버 운동 ID
+        private String clientId; // 클라이언트 운동 ID
+        private String exerciseName;
+        private String exerciseNameKo;
+        private String category;
+        private String muscleGroups; // 주요 근육 그룹 (쉼표로 구분)
+        private Integer orderIndex;
+        private Integer targetSets;
+        private Integer targetReps;
+        private Double targetWeight;
+        private Integer restSeconds;
+        private String note;
+    }
+
+    /**
+     * 루틴 엔티티로부터 생성 (운동 목록과 운동 정보가 로드된 상태)
+     */
+    public static RoutineTemplate from(Routine routine) {
+        List<Item> items = new ArrayList<>(routine.getExercises().size());
+        for (RoutineExercise exercise : routine.getExercises()) {
+            items.add(Item.builder()
+                .exerciseId(exercise.getExercise().getId())
+                .clientId(exercise.getExercise().getClientId())
+                .exerciseName(exercise.getExercise().getName())
+                .exerciseNameKo(exercise.getExercise().getNameKo())
+                .category(exercise.getExercise().getCategory().name())
+                .muscleGroups(exercise.getExercise().getMuscleGroups())
+                .orderIndex(exercise.getOrderIndex())
+                .targetSets(exercise.getTargetSets())
+                .targetReps(exercise.getTargetReps())
+                .targetWeight(exercise.getTargetWeight())
+                .restSeconds(exercise.getRestSeconds())
+                .note(exercise.getNote())
+                .build());
+        }
+        return RoutineTemplate.builder()
+            .id(routine.getId())
+            .userId(routine.getUser().getId())
+            .name(routine.getName())
+            .description(routine.getDescription())
+            .isPublic(routine.getIsPublic())
+            .estimatedDuration(routine.getEstimatedDuration())
+            .exercises(items)
+            .build();
+    }
+}
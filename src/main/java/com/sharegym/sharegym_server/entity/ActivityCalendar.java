@@ -0,0 +1,67 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 연간 운동 캘린더 Entity
+ * 하루 1비트 운동 여부 비트맵(46바이트)과 하루 2비트 강도(92바이트)를 한 행에 저장한다.
+ * 날짜는 사용자 시간대 기준이며, 인덱스는 dayOfYear - 1 이다.
+ */
+@Entity
+@Table(name = "activity_calendars",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_activity_calendar_user_year", columnNames = {"user_id", "calendar_year"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCalendar extends BaseEntity {
+
+    public static final int DAYS = 366;
+    public static final int MAX_LEVEL = 3;
+    public static final int ACTIVE_DAYS_BYTES = (DAYS + 7) / 8;
+    public static final int INTENSITY_BYTES = (DAYS * 2 + 7) / 8;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "calendar_year", nullable = false)
+    private Integer year;
+
+    @Column(name = "active_days", nullable = false, length = ACTIVE_DAYS_BYTES)
+    private byte[] activeDays; // 운동 여부 비트맵
+
+    @Column(nullable = false, length = INTENSITY_BYTES)
+    private byte[] intensity; // 날짜별 강도 (0~3, 2비트)
+
+    /**
+     * 날짜의 강도 (0: 운동 없음)
+     */
+    public int levelOf(int dayOfYear) {
+        int index = dayOfYear - 1;
+        return (intensity[index / 4] >> ((index % 4) * 2)) & 0b11;
+    }
+
+    /**
+     * 날짜의 강도 설정 (운동 여부 비트도 함께 갱신)
+     */
+    public void setLevel(int dayOfYear, int level) {
+        int index = dayOfYear - 1;
+        int value = Math.max(0, Math.min(MAX_LEVEL, level));
+
+        int shift = (index % 4) * 2;
+        intensity[index / 4] = (byte) ((intensity[index / 4] & ~(0b11 << shift)) | (value << shift));
+
+        int bit = 1 << (index % 8);
+        activeDays[index / 8] = (byte) (value > 0 ? activeDays[index / 8] | bit : activeDays[index / 8] & ~bit);
+    }
+}
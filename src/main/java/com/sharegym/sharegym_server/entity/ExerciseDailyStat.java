@@ -0,0 +1,59 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 사용자별 운동별 일간 기록 Entity
+ * 운동 완료 시 증분 갱신되며, 운동별 진척도 그래프는 원본 세트 대신 이 테이블을 조회한다.
+ */
+@Entity
+@Table(name = "exercise_daily_stats",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_exercise_daily_stat", columnNames = {"user_id", "exercise_id", "stat_date"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExerciseDailyStat extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate; // 사용자 시간대 기준 날짜
+
+    @Column(name = "max_weight", nullable = false)
+    @Builder.Default
+    private Double maxWeight = 0.0; // 최고 무게 (kg)
+
+    @Column(name = "max_e1rm", nullable = false)
+    @Builder.Default
+    private Double maxE1rm = 0.0; // 최고 추정 1RM (Epley)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Double volume = 0.0; // 총 볼륨 (kg)
+
+    @Column(name = "set_count", nullable = false)
+    @Builder.Default
+    private Integer setCount = 0; // 완료 세트 수
+
+    @Column(name = "rep_count", nullable = false)
+    @Builder.Default
+    private Integer repCount = 0; // 반복 횟수
+}
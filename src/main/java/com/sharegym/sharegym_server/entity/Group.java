@@ -5,7 +5,6 @@ import lombok.*;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * 그룹 Entity
@@ -37,7 +36,8 @@ public class Group extends BaseEntity {
     @Column(name = "profile_image_url")
     private String profileImageUrl; // 그룹 프로필 이미지
 
-    @Column(name = "invite_code", unique = true, length = 6)
+    // 초대 코드는 GroupRepository.assignInviteCode (JDBC) 로만 지정하므로 엔티티 변경 감지 UPDATE에서 제외
+    @Column(name = "invite_code", unique = true, length = 6, updatable = false)
     private String inviteCode; // 초대 코드 (6자리 영문+숫자)
 
     @Column(name = "member_count")
@@ -67,40 +67,6 @@ public class Group extends BaseEntity {
     @Builder.Default
     private List<Feed> sharedFeeds = new ArrayList<>();
 
-    /**
-     * 초대 코드 생성 (6자리 영문+숫자)
-     */
-    @PrePersist
-    public void generateInviteCode() {
-        if (this.inviteCode == null) {
-            String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-            StringBuilder code = new StringBuilder();
-            Random random = new Random();
-            for (int i = 0; i < 6; i++) {
-                code.append(chars.charAt(random.nextInt(chars.length())));
-            }
-            this.inviteCode = code.toString();
-        }
-    }
-
-    /**
-     * 멤버 추가
-     */
-    public void addMember(GroupMember member) {
-        members.add(member);
-        member.setGroup(this);
-        this.memberCount++;
-    }
-
-    /**
-     * 멤버 제거
-     */
-    public void removeMember(GroupMember member) {
-        members.remove(member);
-        member.setGroup(null);
-        this.memberCount = Math.max(0, this.memberCount - 1);
-    }
-
     /**
      * 그룹이 가득 찼는지 확인
      */
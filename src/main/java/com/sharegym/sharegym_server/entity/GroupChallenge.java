@@ -0,0 +1,87 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 챌린지 Entity (예: "이번 주 합계 10,000kg")
+ * 진행도는 GroupChallengeShard 행에 나누어 누적하고 조회 시 합산한다.
+ */
+@Entity
+@Table(name = "group_challenges",
+    indexes = {
+        @Index(name = "idx_group_challenge_group_end", columnList = "group_id, end_at")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupChallenge extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy; // 생성한 사용자 ID
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Metric metric;
+
+    @Column(name = "target_value", nullable = false)
+    private Double targetValue; // 목표 값
+
+    @Column(name = "start_at", nullable = false)
+    private LocalDateTime startAt;
+
+    @Column(name = "end_at", nullable = false)
+    private LocalDateTime endAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt; // 목표 달성 시각
+
+    /**
+     * 챌린지 집계 지표
+     */
+    public enum Metric {
+        VOLUME,    // 총 볼륨 (kg)
+        WORKOUTS,  // 완료 운동 수
+        SETS,      // 총 세트 수
+        MINUTES;   // 총 운동 시간 (분)
+
+        /**
+         * 운동 세션 하나가 기여하는 값
+         */
+        public double valueOf(Workout workout) {
+            return switch (this) {
+                case VOLUME -> workout.getTotalWeight() != null ? workout.getTotalWeight() : 0.0;
+                case WORKOUTS -> 1.0;
+                case SETS -> workout.getTotalSets() != null ? workout.getTotalSets() : 0;
+                case MINUTES -> workout.getDuration() != null
+                    ? workout.getDuration() / 60.0
+                    : (workout.getDurationMinutes() != null ? workout.getDurationMinutes() : 0);
+            };
+        }
+    }
+
+    /**
+     * 해당 시각이 챌린지 기간에 포함되는지 확인
+     */
+    public boolean covers(LocalDateTime time) {
+        return !time.isBefore(startAt) && time.isBefore(endAt);
+    }
+}
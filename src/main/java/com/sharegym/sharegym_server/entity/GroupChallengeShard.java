@@ -0,0 +1,37 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 그룹 챌린지 진행도 샤드 Entity
+ * 동시에 완료되는 운동들이 한 행에 몰리지 않도록 진행도를 여러 행에 나누어 누적한다.
+ * 행은 첫 누적 시 생성되며, 진행도는 챌린지의 모든 샤드 값의 합이다.
+ */
+@Entity
+@Table(name = "group_challenge_shards",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_group_challenge_shard", columnNames = {"challenge_id", "shard"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupChallengeShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "challenge_id", nullable = false)
+    private Long challengeId;
+
+    @Column(nullable = false)
+    private Integer shard;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Double amount = 0.0; // 샤드 누적 값
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
     },
     indexes = {
         @Index(name = "idx_group_id", columnList = "group_id"),
-        @Index(name = "idx_user_id", columnList = "user_id")
+        @Index(name = "idx_user_id", columnList = "user_id"),
+        @Index(name = "idx_group_role_joined", columnList = "group_id, role, joined_at")
     }
 )
 @Getter
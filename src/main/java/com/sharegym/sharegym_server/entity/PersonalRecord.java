@@ -0,0 +1,123 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 운동 개인 기록(PR) Entity
+ * 운동 완료 시 완료 세트로 증분 갱신되며, 전체 세트 기록을 다시 읽지 않는다.
+ */
+@Entity
+@Table(name = "personal_records",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_personal_record_user_exercise", columnNames = {"user_id", "exercise_id"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PersonalRecord extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Column(name = "max_weight")
+    private Double maxWeight; // 최고 무게 (kg)
+
+    @Column(name = "max_weight_reps")
+    private Integer maxWeightReps; // 최고 무게 당시 반복 횟수
+
+    @Column(name = "max_reps")
+    private Integer maxReps; // 한 세트 최다 반복 횟수
+
+    @Column(name = "max_volume")
+    private Double maxVolume; // 한 세트 최고 볼륨 (무게 x 반복 횟수)
+
+    @Column(name = "epley_1rm")
+    private Double epley1RM; // 추정 1RM (Epley)
+
+    @Column(name = "brzycki_1rm")
+    private Double brzycki1RM; // 추정 1RM (Brzycki)
+
+    @Column(name = "workout_id")
+    private Long workoutId; // 마지막으로 기록을 경신한 운동
+
+    @Column(name = "achieved_at")
+    private LocalDateTime achievedAt; // 마지막 기록 경신 시간
+
+    /**
+     * 기록 종류 Enum
+     */
+    public enum RecordType {
+        WEIGHT,
+        REPS,
+        VOLUME,
+        ESTIMATED_1RM
+    }
+
+    /**
+     * 기록 초기화 (운동 삭제 시 남은 세트로 다시 계산하기 전)
+     */
+    public void reset() {
+        maxWeight = null;
+        maxWeightReps = null;
+        maxReps = null;
+        maxVolume = null;
+        epley1RM = null;
+        brzycki1RM = null;
+        workoutId = null;
+        achievedAt = null;
+    }
+
+    /**
+     * 세트로 기록 갱신
+     * @return 경신된 기록 종류 (없으면 빈 목록)
+     */
+    public List<RecordType> apply(WorkoutSet set) {
+        List<RecordType> improved = new ArrayList<>();
+        Double weight = set.getWeight();
+        Integer reps = set.getReps();
+
+        if (weight != null && weight > 0 && (maxWeight == null || weight > maxWeight)) {
+            maxWeight = weight;
+            maxWeightReps = reps;
+            improved.add(RecordType.WEIGHT);
+        }
+        if (reps != null && reps > 0 && (maxReps == null || reps > maxReps)) {
+            maxReps = reps;
+            improved.add(RecordType.REPS);
+        }
+        if (weight != null && weight > 0 && reps != null && reps > 0) {
+            double volume = set.getVolume();
+            if (maxVolume == null || volume > maxVolume) {
+                maxVolume = volume;
+                improved.add(RecordType.VOLUME);
+            }
+            Double epley = set.getEstimated1RM();
+            if (epley != null && (epley1RM == null || epley > epley1RM)) {
+                epley1RM = epley;
+                improved.add(RecordType.ESTIMATED_1RM);
+            }
+            Double brzycki = set.getEstimated1RMBrzycki();
+            if (brzycki != null && (brzycki1RM == null || brzycki > brzycki1RM)) {
+                brzycki1RM = brzycki;
+            }
+        }
+        return improved;
+    }
+}
@@ -101,6 +101,7 @@ public class Routine extends BaseEntity {
 
     /**
      * 루틴 복사 (새로운 사용자용)
+     * 원본의 복사 횟수는 RoutineRepository.incrementCopyCount로 별도 갱신한다.
      */
     public Routine copyForUser(User newUser) {
         Routine copy = Routine.builder()
@@ -126,7 +127,6 @@ public class Routine extends BaseEntity {
             copy.addExercise(exerciseCopy);
         }
 
-        this.incrementCopyCount();
         return copy;
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 카드 완료 기록 Entity
+ * (card_id, user_id) 유니크 제약으로 사용자당 한 번만 기록되며,
+ * 저장은 SharedCardCompletionRepositoryImpl의 단일 INSERT로 수행한다.
+ */
+@Entity
+@Table(name = "shared_card_completions",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shared_card_completion", columnNames = {"card_id", "user_id"})
+    },
+    indexes = {
+        @Index(name = "idx_shared_card_completion_user", columnList = "user_id")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedCardCompletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "card_id", nullable = false)
+    private Long cardId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "workout_id")
+    private Long workoutId; // 완료에 사용한 운동 세션 (선택)
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
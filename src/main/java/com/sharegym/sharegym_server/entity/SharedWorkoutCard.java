@@ -0,0 +1,61 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 공유 운동 카드 Entity
+ * 목록 조회에서 연관 엔티티를 읽지 않도록 그룹/작성자는 ID 컬럼으로 보관하고,
+ * 운동 구성은 공유 시점의 스냅샷(JSON)으로 한 컬럼에 저장한다.
+ * 완료 수는 SharedCardStore의 카운터와 shared_card_completions 행으로 관리한다.
+ */
+@Entity
+@Table(name = "shared_workout_cards",
+    indexes = {
+        @Index(name = "idx_shared_card_group_created", columnList = "group_id, created_at")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SharedWorkoutCard extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 작성자
+
+    @Column(name = "workout_id")
+    private Long workoutId; // 원본 운동 세션 (선택)
+
+    @Column(name = "routine_id")
+    private Long routineId; // 원본 루틴 (선택)
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String message;
+
+    @Column(columnDefinition = "TEXT")
+    private String exercises; // 운동 구성 스냅샷 (JSON 배열)
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt; // 완료 가능 기한 (없으면 무기한)
+
+    /**
+     * 완료 기한 경과 여부
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
@@ -3,6 +3,7 @@ package com.sharegym.sharegym_server.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -13,7 +14,8 @@ import java.util.Set;
 @Table(name = "users",
     indexes = {
         @Index(name = "idx_email", columnList = "email"),
-        @Index(name = "idx_username", columnList = "username")
+        @Index(name = "idx_username", columnList = "username"),
+        @Index(name = "idx_streak_expiry", columnList = "time_zone, last_workout_date")
     },
     uniqueConstraints = {
         @UniqueConstraint(columnNames = "email"),
@@ -27,6 +29,8 @@ import java.util.Set;
 @AllArgsConstructor
 public class User extends BaseEntity {
 
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -77,6 +81,13 @@ public class User extends BaseEntity {
     @Builder.Default
     private Integer maxStreak = 0;
 
+    @Column(name = "last_workout_date")
+    private LocalDate lastWorkoutDate; // 마지막 운동일 (사용자 시간대 기준)
+
+    @Column(name = "time_zone", length = 50, nullable = false)
+    @Builder.Default
+    private String timeZone = DEFAULT_TIME_ZONE; // 스트릭 날짜 계산 기준 시간대
+
     // 계정 상태
     @Column(name = "is_active")
     @Builder.Default
@@ -163,12 +174,32 @@ public class User extends BaseEntity {
         this.workoutCount++;
     }
 
+    /**
+     * 운동일 기록 및 스트릭 갱신 (O(1))
+     * - 같은 날 추가 운동: 변화 없음
+     * - 마지막 운동일 다음 날: 스트릭 +1
+     * - 하루 이상 공백: 스트릭 1부터 다시 시작
+     * - 마지막 운동일보다 이전 날짜(지난 기록 저장): 변화 없음
+     */
+    public void recordWorkoutDay(LocalDate day) {
+        if (lastWorkoutDate == null) {
+            updateStreak(1);
+        } else if (day.isAfter(lastWorkoutDate)) {
+            int streak = day.equals(lastWorkoutDate.plusDays(1)) && currentStreak != null
+                ? currentStreak + 1 : 1;
+            updateStreak(streak);
+        } else {
+            return;
+        }
+        this.lastWorkoutDate = day;
+    }
+
     /**
      * 스트릭 업데이트
      */
     public void updateStreak(int newStreak) {
         this.currentStreak = newStreak;
-        if (newStreak > this.maxStreak) {
+        if (this.maxStreak == null || newStreak > this.maxStreak) {
             this.maxStreak = newStreak;
         }
     }
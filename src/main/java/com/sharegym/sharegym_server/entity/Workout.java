@@ -15,6 +15,9 @@ import java.util.List;
     indexes = {
         @Index(name = "idx_user_id", columnList = "user_id"),
         @Index(name = "idx_start_time", columnList = "start_time")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_workout_user_client_session", columnNames = {"user_id", "client_session_id"})
     }
 )
 @Getter
@@ -32,6 +35,9 @@ public class Workout extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    @Column(name = "client_session_id", length = 64)
+    private String clientSessionId; // 클라이언트 세션 ID / 멱등 키 (재전송 중복 저장 방지)
+
     @Column(name = "workout_name", length = 100)
     private String workoutName; // 운동 세션 이름
 
@@ -107,39 +113,49 @@ public class Workout extends BaseEntity {
 
     /**
      * 운동 완료 처리
+     * 통계는 세트 변경 시 누적 관리되므로 여기서 다시 계산하지 않는다. (WorkoutService에서 검증)
      */
     public void complete() {
         this.status = WorkoutStatus.COMPLETED;
         this.endTime = LocalDateTime.now();
         this.duration = (int) java.time.Duration.between(startTime, endTime).toSeconds();
         this.durationMinutes = this.duration / 60;
-        calculateTotals();
     }
 
     /**
-     * 통계 계산
+     * 세트 반영 (완료 세트만 통계에 포함)
+     */
+    public void addToTotals(WorkoutSet set) {
+        applySetToTotals(set, 1);
+    }
+
+    /**
+     * 세트 제외 (세트 변경 전 상태를 빼고 변경 후 addToTotals 호출)
      */
-    private void calculateTotals() {
-        this.totalSets = 0;
-        this.totalReps = 0;
-        this.totalWeight = 0.0;
-        this.totalVolume = 0;
-
-        for (WorkoutExercise exercise : workoutExercises) {
-            for (WorkoutSet set : exercise.getWorkoutSets()) {
-                if (set.getIsCompleted()) {
-                    this.totalSets++;
-                    if (set.getReps() != null) {
-                        this.totalReps += set.getReps();
-                    }
-                    if (set.getWeight() != null && set.getReps() != null) {
-                        double volume = set.getWeight() * set.getReps();
-                        this.totalWeight += volume;
-                        this.totalVolume += (int) Math.round(volume);
-                    }
-                }
-            }
+    public void removeFromTotals(WorkoutSet set) {
+        applySetToTotals(set, -1);
+    }
+
+    /**
+     * 통계 일괄 설정 (검증 불일치 시 집계 값으로 보정)
+     */
+    public void applyTotals(int sets, int reps, double weight) {
+        this.totalSets = sets;
+        this.totalReps = reps;
+        this.totalWeight = weight;
+        this.totalVolume = (int) Math.round(weight);
+    }
+
+    private void applySetToTotals(WorkoutSet set, int sign) {
+        if (!Boolean.TRUE.equals(set.getIsCompleted())) {
+            return;
         }
+        int reps = set.getReps() != null ? set.getReps() : 0;
+        double weight = (totalWeight != null ? totalWeight : 0.0) + sign * set.getVolume();
+        applyTotals(
+            (totalSets != null ? totalSets : 0) + sign,
+            (totalReps != null ? totalReps : 0) + sign * reps,
+            weight);
     }
 
     /**
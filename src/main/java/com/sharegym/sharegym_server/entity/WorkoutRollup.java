@@ -0,0 +1,85 @@
+package com.sharegym.sharegym_server.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 사용자별 운동 통계 집계 Entity (일/주/월 단위)
+ * 운동 완료 시 증분 갱신되며, 통계 화면은 원본 운동 기록 대신 이 테이블을 조회한다.
+ */
+@Entity
+@Table(name = "workout_rollups",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rollup_user_period", columnNames = {"user_id", "period_type", "period_start"})
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 10)
+    private PeriodType periodType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart; // 일: 해당 날짜, 주: 월요일, 월: 1일 (사용자 시간대 기준)
+
+    @Column(name = "session_count", nullable = false)
+    @Builder.Default
+    private Integer sessionCount = 0; // 운동 횟수
+
+    @Column(name = "set_count", nullable = false)
+    @Builder.Default
+    private Integer setCount = 0; // 완료 세트 수
+
+    @Column(name = "rep_count", nullable = false)
+    @Builder.Default
+    private Integer repCount = 0; // 반복 횟수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Double volume = 0.0; // 총 볼륨 (kg)
+
+    @Column(name = "duration_seconds", nullable = false)
+    @Builder.Default
+    private Long durationSeconds = 0L; // 총 운동 시간 (초)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer calories = 0; // 소모 칼로리
+
+    /**
+     * 집계 기간 Enum
+     */
+    public enum PeriodType {
+        DAY,
+        WEEK,
+        MONTH;
+
+        /**
+         * 날짜가 속한 기간의 시작일
+         */
+        public LocalDate startOf(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+    }
+}
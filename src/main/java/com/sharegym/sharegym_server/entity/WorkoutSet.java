@@ -10,8 +10,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "workout_sets",
-    indexes = {
-        @Index(name = "idx_workout_exercise_id", columnList = "workout_exercise_id")
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_workout_exercise_set", columnNames = {"workout_exercise_id", "set_number"})
     }
 )
 @Getter
@@ -118,4 +118,14 @@ public class WorkoutSet extends BaseEntity {
         }
         return weight;
     }
-}
\ No newline at end of file
+
+    /**
+     * 1RM 추정 (Brzycki 공식, 반복 횟수 37 미만에서만 유효)
+     */
+    public Double getEstimated1RMBrzycki() {
+        if (weight != null && reps != null && reps > 1) {
+            return reps < 37 ? weight * 36.0 / (37 - reps) : null;
+        }
+        return weight;
+    }
+}
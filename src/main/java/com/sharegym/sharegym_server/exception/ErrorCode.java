@@ -28,6 +28,8 @@ public enum ErrorCode {
     EXERCISE_NOT_FOUND(HttpStatus.NOT_FOUND, "운동을 찾을 수 없습니다."),
     WORKOUT_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "이미 완료된 운동입니다."),
     INVALID_EXERCISE_ID(HttpStatus.BAD_REQUEST, "유효하지 않은 운동 ID입니다."),
+    DUPLICATE_WORKOUT_SESSION(HttpStatus.CONFLICT, "이미 저장 중인 운동 세션입니다."),
+    LIVE_SET_CONFLICT(HttpStatus.CONFLICT, "세트가 동시에 수정되었습니다. 다시 시도해 주세요."),
 
     // 피드 관련
     FEED_NOT_FOUND(HttpStatus.NOT_FOUND, "피드를 찾을 수 없습니다."),
@@ -43,6 +45,8 @@ public enum ErrorCode {
     NOT_GROUP_MEMBER(HttpStatus.FORBIDDEN, "그룹 멤버가 아닙니다."),
     INVALID_INVITE_CODE(HttpStatus.BAD_REQUEST, "유효하지 않은 초대 코드입니다."),
     LAST_ADMIN_CANNOT_LEAVE(HttpStatus.BAD_REQUEST, "마지막 관리자는 그룹을 나갈 수 없습니다."),
+    SHARED_CARD_NOT_FOUND(HttpStatus.NOT_FOUND, "공유 카드를 찾을 수 없습니다."),
+    SHARED_CARD_EXPIRED(HttpStatus.BAD_REQUEST, "완료 기한이 지난 공유 카드입니다."),
 
     // 루틴 관련
     ROUTINE_NOT_FOUND(HttpStatus.NOT_FOUND, "루틴을 찾을 수 없습니다."),
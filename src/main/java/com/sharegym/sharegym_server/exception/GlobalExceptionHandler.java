@@ -3,6 +3,7 @@ package com.sharegym.sharegym_server.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
@@ -65,6 +66,25 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * 요청 본문 파싱 예외 처리 (잘못된 JSON, 타입 불일치, 날짜 형식 오류 등)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        log.error("Unreadable request body: {}", ex.getMessage());
+
+        ErrorResponse response = ErrorResponse.builder()
+            .success(false)
+            .error(ErrorResponse.ErrorDetail.builder()
+                .code(ErrorCode.INVALID_INPUT_VALUE.name())
+                .message("요청 본문 형식이 올바르지 않습니다.")
+                .build())
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * 인증 예외 처리
      */
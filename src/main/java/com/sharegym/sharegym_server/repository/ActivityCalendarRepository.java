@@ -0,0 +1,32 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.ActivityCalendar;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * ActivityCalendar Repository
+ */
+@Repository
+public interface ActivityCalendarRepository extends JpaRepository<ActivityCalendar, Long>,
+    ActivityCalendarRepositoryCustom {
+
+    /**
+     * 연간 캘린더 조회
+     */
+    @Query("SELECT c FROM ActivityCalendar c WHERE c.user.id = :userId AND c.year = :year")
+    Optional<ActivityCalendar> findByUserIdAndYear(@Param("userId") Long userId, @Param("year") Integer year);
+
+    /**
+     * 연간 캘린더 조회 (갱신용 행 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ActivityCalendar c WHERE c.user.id = :userId AND c.year = :year")
+    Optional<ActivityCalendar> findForUpdate(@Param("userId") Long userId, @Param("year") Integer year);
+}
@@ -0,0 +1,12 @@
+package com.sharegym.sharegym_server.repository;
+
+/**
+ * ActivityCalendar Repository 확장
+ */
+public interface ActivityCalendarRepositoryCustom {
+
+    /**
+     * 연간 캘린더 행이 없으면 빈 비트맵으로 생성 (이미 있으면 무시)
+     */
+    void insertIfAbsent(Long userId, int year);
+}
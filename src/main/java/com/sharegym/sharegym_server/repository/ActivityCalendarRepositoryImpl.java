@@ -0,0 +1,37 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.ActivityCalendar;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * ActivityCalendar Repository 확장 구현
+ * 행 생성은 (user_id, calendar_year) 유니크 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE로 하므로
+ * 동시 생성 시에도 예외 / 재시도 없이 기존 행을 사용한다. (중복 INSERT 실패 후 잠금 조회는 교착이 생김)
+ */
+@RequiredArgsConstructor
+public class ActivityCalendarRepositoryImpl implements ActivityCalendarRepositoryCustom {
+
+    private static final String EXISTS_CALENDAR =
+        "SELECT COUNT(*) FROM activity_calendars WHERE user_id = ? AND calendar_year = ?";
+
+    private static final String INSERT_CALENDAR =
+        "INSERT INTO activity_calendars (user_id, calendar_year, active_days, intensity, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE user_id = user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertIfAbsent(Long userId, int year) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_CALENDAR, Integer.class, userId, year);
+        if (count != null && count > 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_CALENDAR, userId, year,
+            new byte[ActivityCalendar.ACTIVE_DAYS_BYTES], new byte[ActivityCalendar.INTENSITY_BYTES], now, now);
+    }
+}
@@ -0,0 +1,30 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.ExerciseDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * ExerciseDailyStat Repository
+ */
+@Repository
+public interface ExerciseDailyStatRepository extends JpaRepository<ExerciseDailyStat, Long>,
+    ExerciseDailyStatRepositoryCustom {
+
+    /**
+     * 운동별 기간 기록 조회 (유니크 인덱스 범위 조회)
+     */
+    @Query("SELECT s FROM ExerciseDailyStat s WHERE s.user.id = :userId AND s.exercise.id = :exerciseId " +
+           "AND s.statDate BETWEEN :from AND :to ORDER BY s.statDate ASC")
+    List<ExerciseDailyStat> findRange(
+        @Param("userId") Long userId,
+        @Param("exerciseId") Integer exerciseId,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
@@ -0,0 +1,58 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ExerciseDailyStat Repository 확장 (증분 갱신)
+ */
+public interface ExerciseDailyStatRepositoryCustom {
+
+    /**
+     * 날짜의 운동별 기록 행에 병합 (없으면 생성)
+     * 최고 값은 기존 값과 비교해 큰 값을, 합계는 더한 값을 저장한다.
+     */
+    void merge(Long userId, LocalDate date, Collection<DayStat> stats);
+
+    /**
+     * 날짜의 운동별 기록 행을 주어진 값으로 교체 (운동 삭제 시 재계산용)
+     * stats에 없는 운동의 행은 삭제된다.
+     */
+    void replace(Long userId, LocalDate date, Collection<Integer> exerciseIds, Collection<DayStat> stats);
+
+    /**
+     * 운동별 일간 기록 값
+     */
+    record DayStat(int exerciseId, double maxWeight, double maxE1rm, double volume, int sets, int reps) {
+
+        /**
+         * 완료 세트(워밍업 제외)를 운동별로 집계
+         * @param sets workoutExercise.exercise 연관이 설정된 세트
+         */
+        public static Map<Integer, DayStat> aggregate(Collection<WorkoutSet> sets) {
+            Map<Integer, DayStat> stats = new LinkedHashMap<>();
+            for (WorkoutSet set : sets) {
+                if (!Boolean.TRUE.equals(set.getIsCompleted()) || Boolean.TRUE.equals(set.getIsWarmup())) {
+                    continue;
+                }
+                int exerciseId = set.getWorkoutExercise().getExercise().getId();
+                double weight = set.getWeight() != null ? set.getWeight() : 0.0;
+                int reps = set.getReps() != null ? set.getReps() : 0;
+                Double e1rm = set.getEstimated1RM();
+                DayStat stat = new DayStat(exerciseId, weight, e1rm != null ? e1rm : 0.0, weight * reps, 1, reps);
+                stats.merge(exerciseId, stat, DayStat::plus);
+            }
+            return stats;
+        }
+
+        public DayStat plus(DayStat other) {
+            return new DayStat(exerciseId,
+                Math.max(maxWeight, other.maxWeight), Math.max(maxE1rm, other.maxE1rm),
+                volume + other.volume, sets + other.sets, reps + other.reps);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.sharegym.sharegym_server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * ExerciseDailyStat Repository 확장 구현
+ * 기록 행을 읽지 않고 (user_id, exercise_id, stat_date) 유니크 키에 대한
+ * INSERT ... ON DUPLICATE KEY UPDATE (GREATEST / col + VALUES(col)) 한 문장으로 갱신한다.
+ * (UPDATE → INSERT → 중복 시 UPDATE 재시도 방식은 동시 INSERT끼리 갭 잠금 교착이 생김)
+ */
+@RequiredArgsConstructor
+public class ExerciseDailyStatRepositoryImpl implements ExerciseDailyStatRepositoryCustom {
+
+    private static final String INSERT_STAT =
+        "INSERT INTO exercise_daily_stats (user_id, exercise_id, stat_date, max_weight, max_e1rm, volume, " +
+        "set_count, rep_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String MERGE_STAT = INSERT_STAT +
+        " ON DUPLICATE KEY UPDATE max_weight = GREATEST(max_weight, VALUES(max_weight)), " +
+        "max_e1rm = GREATEST(max_e1rm, VALUES(max_e1rm)), volume = volume + VALUES(volume), " +
+        "set_count = set_count + VALUES(set_count), rep_count = rep_count + VALUES(rep_count), " +
+        "updated_at = VALUES(updated_at)";
+
+    private static final String DELETE_STATS =
+        "DELETE FROM exercise_daily_stats WHERE user_id = ? AND stat_date = ? AND exercise_id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void merge(Long userId, LocalDate date, Collection<DayStat> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date statDate = Date.valueOf(date);
+        // 동시 갱신끼리 같은 순서로 행을 잠그도록 운동 ID 순으로 실행
+        List<Object[]> rows = stats.stream()
+            .sorted(Comparator.comparingInt(DayStat::exerciseId))
+            .map(stat -> row(userId, statDate, stat, now))
+            .toList();
+        jdbcTemplate.batchUpdate(MERGE_STAT, rows);
+    }
+
+    @Override
+    public void replace(Long userId, LocalDate date, Collection<Integer> exerciseIds, Collection<DayStat> stats) {
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+        Object[] args = new Object[exerciseIds.size() + 2];
+        args[0] = userId;
+        args[1] = Date.valueOf(date);
+        int i = 2;
+        for (Integer exerciseId : exerciseIds) {
+            args[i++] = exerciseId;
+        }
+        jdbcTemplate.update(String.format(DELETE_STATS, String.join(", ", Collections.nCopies(exerciseIds.size(), "?"))),
+            args);
+
+        merge(userId, date, stats);
+    }
+
+    private static Object[] row(Long userId, Date statDate, DayStat stat, Timestamp now) {
+        return new Object[] {
+            userId, stat.exerciseId(), statDate,
+            stat.maxWeight(), stat.maxE1rm(), stat.volume(), stat.sets(), stat.reps(), now, now
+        };
+    }
+}
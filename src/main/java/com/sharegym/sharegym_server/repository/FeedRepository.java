@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -49,4 +50,15 @@ public interface FeedRepository extends JpaRepository<Feed, Long> {
      * 그룹에 공유된 피드 조회 (삭제되지 않은 것만)
      */
     Page<Feed> findBySharedGroupAndIsDeletedFalse(Group group, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 그룹 공유 횟수 집계 ([userId, count])
+     */
+    @Query("SELECT f.user.id, COUNT(f) FROM Feed f WHERE f.sharedGroup.id = :groupId AND f.isDeleted = false " +
+           "AND f.createdAt >= :from AND f.createdAt < :to GROUP BY f.user.id")
+    List<Object[]> countSharesByGroupInPeriod(
+        @Param("groupId") Long groupId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+}
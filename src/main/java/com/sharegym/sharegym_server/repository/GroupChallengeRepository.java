@@ -0,0 +1,38 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.GroupChallenge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 그룹 챌린지 리포지토리
+ */
+@Repository
+public interface GroupChallengeRepository extends JpaRepository<GroupChallenge, Long> {
+
+    /**
+     * 사용자가 속한 그룹에서 해당 시각을 기간에 포함하는 챌린지 조회
+     */
+    @Query("SELECT c FROM GroupChallenge c WHERE c.startAt <= :time AND c.endAt > :time " +
+           "AND c.groupId IN (SELECT gm.group.id FROM GroupMember gm WHERE gm.user.id = :userId)")
+    List<GroupChallenge> findCoveringForUser(@Param("userId") Long userId, @Param("time") LocalDateTime time);
+
+    /**
+     * 그룹의 최근 챌린지 조회 (종료 시각 역순)
+     */
+    List<GroupChallenge> findTop20ByGroupIdOrderByEndAtDesc(Long groupId);
+
+    /**
+     * 목표 달성 표시 (처음 달성한 요청만 1 반환)
+     */
+    @Modifying
+    @Query("UPDATE GroupChallenge c SET c.completedAt = :completedAt " +
+           "WHERE c.id = :challengeId AND c.completedAt IS NULL")
+    int markCompleted(@Param("challengeId") Long challengeId, @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,31 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.GroupChallengeShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 그룹 챌린지 샤드 리포지토리
+ */
+@Repository
+public interface GroupChallengeShardRepository extends JpaRepository<GroupChallengeShard, Long>,
+        GroupChallengeShardRepositoryCustom {
+
+    /**
+     * 챌린지 진행도 (샤드 합계)
+     */
+    @Query("SELECT COALESCE(SUM(s.amount), 0) FROM GroupChallengeShard s WHERE s.challengeId = :challengeId")
+    double sumByChallengeId(@Param("challengeId") Long challengeId);
+
+    /**
+     * 챌린지별 진행도 ([challengeId, sum])
+     */
+    @Query("SELECT s.challengeId, SUM(s.amount) FROM GroupChallengeShard s " +
+           "WHERE s.challengeId IN :challengeIds GROUP BY s.challengeId")
+    List<Object[]> sumByChallengeIds(@Param("challengeIds") Collection<Long> challengeIds);
+}
@@ -0,0 +1,17 @@
+package com.sharegym.sharegym_server.repository;
+
+/**
+ * 그룹 챌린지 샤드 Repository 확장
+ */
+public interface GroupChallengeShardRepositoryCustom {
+
+    /**
+     * 샤드 행 생성 (챌린지 생성 시 0으로 초기화)
+     */
+    void createShards(Long challengeId, int shards);
+
+    /**
+     * 샤드 값 증감
+     */
+    void add(Long challengeId, int shard, double delta);
+}
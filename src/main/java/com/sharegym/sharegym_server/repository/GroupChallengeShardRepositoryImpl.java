@@ -0,0 +1,38 @@
+package com.sharegym.sharegym_server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 그룹 챌린지 샤드 Repository 확장 구현
+ * 샤드 행은 챌린지 생성 시 모두 만들어 두고, 갱신은 행을 읽지 않는 UPDATE ... SET amount = amount + ? 로만 한다.
+ * (빈 샤드에 동시 INSERT가 몰리면 갭 잠금끼리 교착이 생기므로 갱신 경로에서 INSERT를 하지 않음)
+ */
+@RequiredArgsConstructor
+public class GroupChallengeShardRepositoryImpl implements GroupChallengeShardRepositoryCustom {
+
+    private static final String UPDATE_SHARD =
+        "UPDATE group_challenge_shards SET amount = amount + ? WHERE challenge_id = ? AND shard = ?";
+
+    private static final String INSERT_SHARD =
+        "INSERT INTO group_challenge_shards (challenge_id, shard, amount) VALUES (?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void createShards(Long challengeId, int shards) {
+        List<Object[]> rows = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            rows.add(new Object[] {challengeId, shard});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SHARD, rows);
+    }
+
+    @Override
+    public void add(Long challengeId, int shard, double delta) {
+        jdbcTemplate.update(UPDATE_SHARD, delta, challengeId, shard);
+    }
+}
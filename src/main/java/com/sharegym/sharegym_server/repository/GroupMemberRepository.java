@@ -1,15 +1,19 @@
 package com.sharegym.sharegym_server.repository;
 
+import com.sharegym.sharegym_server.dto.response.GroupMemberResponse;
 import com.sharegym.sharegym_server.entity.Group;
 import com.sharegym.sharegym_server.entity.GroupMember;
 import com.sharegym.sharegym_server.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +21,7 @@ import java.util.Optional;
  * 그룹 멤버 리포지토리
  */
 @Repository
-public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
+public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>, GroupMemberRepositoryCustom {
 
     /**
      * 그룹과 사용자로 멤버 조회
@@ -65,6 +69,21 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
            "ORDER BY gm.role DESC, gm.joinedAt ASC")
     List<GroupMember> findByGroupId(@Param("groupId") Long groupId);
 
+    /**
+     * 역할별 멤버 페이지 조회 (가입 시각, ID 기준 커서 이후, 멤버/사용자 컬럼 프로젝션)
+     */
+    @Query("SELECT new com.sharegym.sharegym_server.dto.response.GroupMemberResponse(" +
+           "gm.id, u.id, u.username, u.displayName, u.profileImageUrl, gm.role, gm.joinedAt, gm.contributionScore) " +
+           "FROM GroupMember gm JOIN gm.user u " +
+           "WHERE gm.group.id = :groupId AND gm.role = :role " +
+           "AND (gm.joinedAt > :joinedAt OR (gm.joinedAt = :joinedAt AND gm.id > :memberId)) " +
+           "ORDER BY gm.joinedAt ASC, gm.id ASC")
+    List<GroupMemberResponse> findPageByRole(@Param("groupId") Long groupId,
+                                             @Param("role") GroupMember.MemberRole role,
+                                             @Param("joinedAt") LocalDateTime joinedAt,
+                                             @Param("memberId") Long memberId,
+                                             Pageable pageable);
+
     /**
      * 사용자별 그룹 멤버십 목록 조회
      */
@@ -97,6 +116,14 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
      */
     void deleteByGroupAndUser(Group group, User user);
 
+    /**
+     * 멤버 삭제
+     * @return 삭제된 행 수 (동시 탈퇴 시 한 요청만 1)
+     */
+    @Modifying
+    @Query("DELETE FROM GroupMember m WHERE m.id = :memberId")
+    int deleteMemberById(@Param("memberId") Long memberId);
+
     /**
      * 기여도 순위별 멤버 조회
      */
@@ -104,4 +131,25 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
            "WHERE gm.group = :group " +
            "ORDER BY gm.contributionScore DESC")
     List<GroupMember> findTopContributors(@Param("group") Group group, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 여러 그룹에 대한 사용자의 역할 조회 ([groupId, role], 멤버가 아닌 그룹은 제외)
+     */
+    @Query("SELECT gm.group.id, gm.role FROM GroupMember gm " +
+           "WHERE gm.user.id = :userId AND gm.group.id IN :groupIds")
+    List<Object[]> findRolesByUserIdAndGroupIds(@Param("userId") Long userId,
+                                                @Param("groupIds") Collection<Long> groupIds);
+
+    /**
+     * 사용자가 속한 그룹 ID 목록 조회
+     */
+    @Query("SELECT gm.group.id FROM GroupMember gm WHERE gm.user.id = :userId")
+    List<Long> findGroupIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 그룹 멤버별 누적 기여도 조회 ([userId, contributionScore], 0점 제외)
+     */
+    @Query("SELECT gm.user.id, gm.contributionScore FROM GroupMember gm " +
+           "WHERE gm.group.id = :groupId AND gm.contributionScore > 0")
+    List<Object[]> findContributionScores(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,16 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.GroupMember;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 멤버 Repository 확장
+ */
+public interface GroupMemberRepositoryCustom {
+
+    /**
+     * 멤버 저장 (이미 가입한 경우 false)
+     */
+    boolean insertIfAbsent(Long groupId, Long userId, GroupMember.MemberRole role, LocalDateTime joinedAt);
+}
@@ -0,0 +1,35 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.GroupMember;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 멤버 Repository 확장 구현
+ * 초대 링크로 가입이 몰릴 때 사전 조회 없이 (group_id, user_id) 유니크 제약으로 중복 가입을 판별한다.
+ */
+@RequiredArgsConstructor
+public class GroupMemberRepositoryImpl implements GroupMemberRepositoryCustom {
+
+    private static final String INSERT_MEMBER =
+        "INSERT INTO group_members (group_id, user_id, role, joined_at, contribution_score, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long groupId, Long userId, GroupMember.MemberRole role, LocalDateTime joinedAt) {
+        Timestamp now = Timestamp.valueOf(joinedAt);
+        try {
+            jdbcTemplate.update(INSERT_MEMBER, groupId, userId, role.name(), now, now, now);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 이미 가입한 그룹
+            return false;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.sharegym.sharegym_server.entity.Group;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,7 +16,7 @@ import java.util.Optional;
  * 그룹 리포지토리
  */
 @Repository
-public interface GroupRepository extends JpaRepository<Group, Long> {
+public interface GroupRepository extends JpaRepository<Group, Long>, GroupRepositoryCustom {
 
     /**
      * 초대 코드로 그룹 조회
@@ -55,13 +56,11 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     Page<Group> findByIsPublicTrueAndIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
     /**
-     * 그룹명으로 검색
+     * 검색 색인용 활성 그룹 필드 조회
+     * @return [groupId, name, memberCount]
      */
-    @Query("SELECT g FROM Group g " +
-           "WHERE g.name LIKE %:keyword% " +
-           "AND g.isActive = true " +
-           "ORDER BY g.memberCount DESC")
-    Page<Group> searchByName(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT g.id, g.name, g.memberCount FROM Group g WHERE g.isActive = true")
+    List<Object[]> findSearchFields();
 
     /**
      * 활성 그룹 개수 조회
@@ -80,15 +79,35 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
     List<Group> findByAdminUserId(@Param("userId") Long userId);
 
     /**
-     * 초대 코드 중복 확인
+     * 멤버 수 증가 (정원 미만일 때만)
+     * @return 갱신된 행 수 (0이면 정원 초과)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount + 1 " +
+           "WHERE g.id = :groupId AND g.memberCount < g.maxMembers")
+    int incrementMemberCount(@Param("groupId") Long groupId);
+
+    /**
+     * 멤버 수 감소
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.memberCount = g.memberCount - 1 " +
+           "WHERE g.id = :groupId AND g.memberCount > 0")
+    int decrementMemberCount(@Param("groupId") Long groupId);
+
+    /**
+     * 멤버 수 점검용 조회 (id 순, [그룹 ID, 저장된 멤버 수, 실제 멤버 수])
      */
-    boolean existsByInviteCode(String inviteCode);
+    @Query("SELECT g.id, g.memberCount, (SELECT COUNT(m) FROM GroupMember m WHERE m.group = g) " +
+           "FROM Group g WHERE g.id > :afterId ORDER BY g.id")
+    List<Object[]> findMemberCountsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
     /**
-     * 그룹 멤버 수 업데이트
+     * 그룹 한 곳의 멤버 수를 실제 멤버 수로 보정
+     * @return 보정된 행 수 (0이면 이미 일치)
      */
-    @Query("UPDATE Group g SET g.memberCount = " +
-           "(SELECT COUNT(m) FROM GroupMember m WHERE m.group = g) " +
-           "WHERE g.id = :groupId")
-    void updateMemberCount(@Param("groupId") Long groupId);
-}
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Group g SET g.memberCount = (SELECT COUNT(m) FROM GroupMember m WHERE m.group = g) " +
+           "WHERE g.id = :groupId AND g.memberCount <> (SELECT COUNT(m2) FROM GroupMember m2 WHERE m2.group = g)")
+    int reconcileMemberCount(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,12 @@
+package com.sharegym.sharegym_server.repository;
+
+/**
+ * 그룹 Repository 확장
+ */
+public interface GroupRepositoryCustom {
+
+    /**
+     * 초대 코드 지정 (다른 그룹이 이미 사용 중인 코드면 false)
+     */
+    boolean assignInviteCode(Long groupId, String inviteCode);
+}
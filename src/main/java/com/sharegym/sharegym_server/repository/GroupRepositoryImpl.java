@@ -0,0 +1,28 @@
+package com.sharegym.sharegym_server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 그룹 Repository 확장 구현
+ * 초대 코드 중복은 사전 조회 없이 invite_code 유니크 제약으로 판별한다.
+ */
+@RequiredArgsConstructor
+public class GroupRepositoryImpl implements GroupRepositoryCustom {
+
+    private static final String UPDATE_INVITE_CODE =
+        "UPDATE user_groups SET invite_code = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean assignInviteCode(Long groupId, String inviteCode) {
+        try {
+            return jdbcTemplate.update(UPDATE_INVITE_CODE, inviteCode, groupId) > 0;
+        } catch (DuplicateKeyException e) {
+            // 이미 사용 중인 코드
+            return false;
+        }
+    }
+}
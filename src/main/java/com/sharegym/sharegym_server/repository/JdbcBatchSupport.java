@@ -0,0 +1,94 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC 배치 저장 공통 유틸리티 (Repository 확장 구현에서 사용)
+ */
+final class JdbcBatchSupport {
+
+    static final String INSERT_WORKOUT_SET =
+        "INSERT INTO workout_sets (workout_exercise_id, set_number, reps, weight, distance, duration, " +
+        "duration_seconds, level, set_type, is_warmup, is_failure, is_dropset, is_completed, completed_at, " +
+        "rest_seconds, note, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private JdbcBatchSupport() {
+    }
+
+    /**
+     * 단일 배치 INSERT 실행 후 생성된 ID를 입력 순서대로 반환
+     */
+    static <T> List<Long> batchInsert(JdbcTemplate jdbcTemplate, String sql, List<T> rows, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+            con -> con.prepareStatement(sql, new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    binder.bind(ps, rows.get(i));
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return rows.size();
+                }
+            },
+            keyHolder);
+
+        List<Map<String, Object>> keyList = keyHolder.getKeyList();
+        if (keyList.size() != rows.size()) {
+            throw new IllegalStateException(
+                "Generated key count mismatch: expected " + rows.size() + " but was " + keyList.size());
+        }
+        List<Long> ids = new ArrayList<>(keyList.size());
+        for (Map<String, Object> keys : keyList) {
+            // 드라이버마다 키 컬럼명이 다름 (MySQL: GENERATED_KEY, H2: ID)
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /**
+     * workout_sets INSERT 파라미터 바인딩
+     */
+    static void bindWorkoutSet(PreparedStatement ps, WorkoutSet s, Timestamp now) throws SQLException {
+        ps.setLong(1, s.getWorkoutExercise().getId());
+        ps.setInt(2, s.getSetNumber());
+        ps.setObject(3, s.getReps());
+        ps.setObject(4, s.getWeight());
+        ps.setObject(5, s.getDistance());
+        ps.setObject(6, s.getDuration());
+        ps.setObject(7, s.getDurationSeconds());
+        ps.setObject(8, s.getLevel());
+        ps.setString(9, s.getSetType() != null ? s.getSetType().name() : null);
+        ps.setObject(10, s.getIsWarmup());
+        ps.setObject(11, s.getIsFailure());
+        ps.setObject(12, s.getIsDropset());
+        ps.setObject(13, s.getIsCompleted());
+        ps.setObject(14, s.getCompletedAt());
+        ps.setObject(15, s.getRestSeconds());
+        ps.setString(16, s.getNote());
+        ps.setTimestamp(17, now);
+        ps.setTimestamp(18, now);
+    }
+
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,33 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.PersonalRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PersonalRecord Repository
+ */
+@Repository
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, Long>, PersonalRecordRepositoryCustom {
+
+    /**
+     * 사용자의 특정 운동들의 기록 조회 (운동 완료 시 1회 조회)
+     */
+    @Query("SELECT pr FROM PersonalRecord pr WHERE pr.user.id = :userId AND pr.exercise.id IN :exerciseIds")
+    List<PersonalRecord> findByUserIdAndExerciseIds(
+        @Param("userId") Long userId,
+        @Param("exerciseIds") Collection<Integer> exerciseIds
+    );
+
+    /**
+     * 사용자의 전체 운동 기록 조회 (운동 정보 함께 로드)
+     */
+    @Query("SELECT pr FROM PersonalRecord pr JOIN FETCH pr.exercise WHERE pr.user.id = :userId " +
+           "ORDER BY pr.exercise.id ASC")
+    List<PersonalRecord> findAllWithExerciseByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,18 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.PersonalRecord;
+
+import java.util.Collection;
+
+/**
+ * PersonalRecord Repository 확장 (첫 기록 저장)
+ */
+public interface PersonalRecordRepositoryCustom {
+
+    /**
+     * (user_id, exercise_id) 기준으로 첫 기록을 저장
+     * 같은 운동의 첫 완료가 동시에 들어와 행이 이미 있으면 각 기록의 큰 값으로 병합한다.
+     * (생성된 ID는 엔티티에 채우지 않음)
+     */
+    void insertOrMerge(Collection<PersonalRecord> records);
+}
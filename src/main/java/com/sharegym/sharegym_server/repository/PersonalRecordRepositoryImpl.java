@@ -0,0 +1,67 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.PersonalRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * PersonalRecord Repository 확장 구현
+ * 첫 기록은 uk_personal_record_user_exercise 유니크 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE 로 저장해
+ * 동시 첫 완료끼리 유니크 키 충돌로 실패하지 않게 한다.
+ * MySQL은 SET 절을 왼쪽부터 갱신된 값으로 평가하므로 함께 바뀌는 열(반복 횟수, 운동 ID)을 먼저 둔다.
+ */
+@RequiredArgsConstructor
+public class PersonalRecordRepositoryImpl implements PersonalRecordRepositoryCustom {
+
+    private static final String MERGE_RECORD =
+        "INSERT INTO personal_records (user_id, exercise_id, max_weight, max_weight_reps, max_reps, max_volume, " +
+        "epley_1rm, brzycki_1rm, workout_id, achieved_at, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE " +
+        "max_weight_reps = IF(max_weight IS NULL OR VALUES(max_weight) > max_weight, " +
+        "VALUES(max_weight_reps), max_weight_reps), " +
+        "max_weight = " + greatest("max_weight") + ", " +
+        "max_reps = " + greatest("max_reps") + ", " +
+        "max_volume = " + greatest("max_volume") + ", " +
+        "epley_1rm = " + greatest("epley_1rm") + ", " +
+        "brzycki_1rm = " + greatest("brzycki_1rm") + ", " +
+        "workout_id = IF(achieved_at IS NULL OR VALUES(achieved_at) > achieved_at, " +
+        "VALUES(workout_id), workout_id), " +
+        "achieved_at = " + greatest("achieved_at") + ", " +
+        "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertOrMerge(Collection<PersonalRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // 동시 저장끼리 같은 순서로 행을 잠그도록 운동 ID 순으로 실행
+        List<Object[]> rows = records.stream()
+            .sorted(Comparator.comparing(record -> record.getExercise().getId()))
+            .map(record -> new Object[] {
+                record.getUser().getId(), record.getExercise().getId(),
+                record.getMaxWeight(), record.getMaxWeightReps(), record.getMaxReps(), record.getMaxVolume(),
+                record.getEpley1RM(), record.getBrzycki1RM(), record.getWorkoutId(),
+                record.getAchievedAt() != null ? Timestamp.valueOf(record.getAchievedAt()) : null,
+                now, now
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(MERGE_RECORD, rows);
+    }
+
+    /**
+     * 기존 값과 새 값 중 큰 값 (한쪽이 NULL이면 다른 쪽)
+     */
+    private static String greatest(String column) {
+        return "COALESCE(GREATEST(" + column + ", VALUES(" + column + ")), " + column + ", VALUES(" + column + "))";
+    }
+}
@@ -0,0 +1,67 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.Routine;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Routine Repository
+ */
+@Repository
+public interface RoutineRepository extends JpaRepository<Routine, Long> {
+
+    /**
+     * 루틴 조회 (운동 목록과 운동 정보 함께 로드)
+     */
+    @Query("SELECT DISTINCT r FROM Routine r JOIN FETCH r.user LEFT JOIN FETCH r.exercises re " +
+           "LEFT JOIN FETCH re.exercise WHERE r.id = :routineId")
+    Optional<Routine> findWithExercisesById(@Param("routineId") Long routineId);
+
+    /**
+     * 사용자의 루틴 목록 조회 (운동 목록 함께 로드, 즐겨찾기 우선, 최신순)
+     */
+    @Query("SELECT DISTINCT r FROM Routine r LEFT JOIN FETCH r.exercises re LEFT JOIN FETCH re.exercise " +
+           "WHERE r.user.id = :userId ORDER BY r.isFavorite DESC, r.createdAt DESC")
+    List<Routine> findWithExercisesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 루틴 목록 조회 (운동 목록과 운동 정보 함께 로드)
+     */
+    @Query("SELECT DISTINCT r FROM Routine r JOIN FETCH r.user LEFT JOIN FETCH r.exercises re " +
+           "LEFT JOIN FETCH re.exercise WHERE r.id IN :routineIds")
+    List<Routine> findWithExercisesByIdIn(@Param("routineIds") Collection<Long> routineIds);
+
+    /**
+     * 루틴 공개 여부 조회 (캐시된 템플릿의 공개 여부 대신 다른 사용자의 접근 확인용)
+     */
+    @Query("SELECT r.isPublic FROM Routine r WHERE r.id = :routineId")
+    Optional<Boolean> findIsPublicById(@Param("routineId") Long routineId);
+
+    /**
+     * 공개 루틴 색인 재료 조회 ([routineId, useCount, copyCount, category, muscleGroups], 운동별 한 행)
+     */
+    @Query("SELECT r.id, r.useCount, r.copyCount, e.category, e.muscleGroups FROM Routine r " +
+           "LEFT JOIN r.exercises re LEFT JOIN re.exercise e WHERE r.isPublic = true")
+    List<Object[]> findPublicFacets();
+
+    /**
+     * 사용 횟수 증가 (행을 읽지 않고 원자적으로 갱신)
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.useCount = r.useCount + 1 WHERE r.id = :routineId")
+    int incrementUseCount(@Param("routineId") Long routineId);
+
+    /**
+     * 복사 횟수 증가 (행을 읽지 않고 원자적으로 갱신)
+     */
+    @Modifying
+    @Query("UPDATE Routine r SET r.copyCount = r.copyCount + 1 WHERE r.id = :routineId")
+    int incrementCopyCount(@Param("routineId") Long routineId);
+}
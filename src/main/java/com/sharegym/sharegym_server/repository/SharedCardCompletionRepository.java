@@ -0,0 +1,35 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.SharedCardCompletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 공유 카드 완료 리포지토리
+ */
+@Repository
+public interface SharedCardCompletionRepository extends JpaRepository<SharedCardCompletion, Long>,
+        SharedCardCompletionRepositoryCustom {
+
+    /**
+     * 카드별 완료 수
+     */
+    long countByCardId(Long cardId);
+
+    /**
+     * 카드별 완료 수 ([cardId, count])
+     */
+    @Query("SELECT c.cardId, COUNT(c) FROM SharedCardCompletion c WHERE c.cardId IN :cardIds GROUP BY c.cardId")
+    List<Object[]> countByCardIds(@Param("cardIds") Collection<Long> cardIds);
+
+    /**
+     * 사용자가 완료한 카드 ID
+     */
+    @Query("SELECT c.cardId FROM SharedCardCompletion c WHERE c.userId = :userId AND c.cardId IN :cardIds")
+    List<Long> findCompletedCardIds(@Param("userId") Long userId, @Param("cardIds") Collection<Long> cardIds);
+}
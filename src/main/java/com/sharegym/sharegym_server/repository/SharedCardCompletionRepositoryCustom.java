@@ -0,0 +1,14 @@
+package com.sharegym.sharegym_server.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공유 카드 완료 Repository 확장
+ */
+public interface SharedCardCompletionRepositoryCustom {
+
+    /**
+     * 완료 기록 저장 (이미 완료한 경우 false)
+     */
+    boolean insertIfAbsent(Long cardId, Long userId, Long workoutId, LocalDateTime completedAt);
+}
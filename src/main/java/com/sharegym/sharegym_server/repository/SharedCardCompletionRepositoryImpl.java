@@ -0,0 +1,32 @@
+package com.sharegym.sharegym_server.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 공유 카드 완료 Repository 확장 구현
+ * 완료 요청이 몰릴 때 사전 조회 없이 유니크 제약으로 중복을 판별한다.
+ */
+@RequiredArgsConstructor
+public class SharedCardCompletionRepositoryImpl implements SharedCardCompletionRepositoryCustom {
+
+    private static final String INSERT_COMPLETION =
+        "INSERT INTO shared_card_completions (card_id, user_id, workout_id, completed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(Long cardId, Long userId, Long workoutId, LocalDateTime completedAt) {
+        try {
+            jdbcTemplate.update(INSERT_COMPLETION, cardId, userId, workoutId, Timestamp.valueOf(completedAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 이미 완료한 카드
+            return false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.SharedWorkoutCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 공유 카드 리포지토리
+ */
+@Repository
+public interface SharedWorkoutCardRepository extends JpaRepository<SharedWorkoutCard, Long> {
+
+    /**
+     * 그룹의 최근 공유 카드 조회
+     */
+    List<SharedWorkoutCard> findTop50ByGroupIdOrderByCreatedAtDesc(Long groupId);
+}
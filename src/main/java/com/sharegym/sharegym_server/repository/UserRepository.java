@@ -2,10 +2,12 @@ package com.sharegym.sharegym_server.repository;
 
 import com.sharegym.sharegym_server.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Optional;
 import java.util.List;
 
@@ -36,13 +38,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     /**
-     * 사용자 검색 (이메일 또는 사용자명)
+     * 검색 색인용 활성 사용자 필드 조회
+     * @return [userId, username, displayName, followerCount]
      */
-    @Query("SELECT u FROM User u WHERE " +
-           "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(u.displayName) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    List<User> searchUsers(@Param("keyword") String keyword);
+    @Query("SELECT u.id, u.username, u.displayName, u.followerCount FROM User u WHERE u.isActive = true")
+    List<Object[]> findSearchFields();
 
     /**
      * 활성 사용자 목록 조회
@@ -60,4 +60,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT f FROM User u JOIN u.following f WHERE u.id = :userId")
     List<User> findFollowing(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 시간대가 비어 있는 기존 사용자에 기본 시간대 채우기 (time_zone NOT NULL 전환)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.timeZone = :defaultZone WHERE u.timeZone IS NULL")
+    int backfillTimeZone(@Param("defaultZone") String defaultZone);
+
+    /**
+     * 스트릭 진행 중인 사용자의 시간대 목록
+     */
+    @Query("SELECT DISTINCT u.timeZone FROM User u WHERE u.currentStreak > 0")
+    List<String> findStreakTimeZones();
+
+    /**
+     * 만료된 스트릭 일괄 초기화 (시간대별)
+     * idx_streak_expiry (time_zone, last_workout_date) 범위 조건으로 마지막 운동일이 cutoff 이전인 사용자만 찾는다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.currentStreak = 0 " +
+           "WHERE u.timeZone = :zone AND u.lastWorkoutDate < :cutoff AND u.currentStreak > 0")
+    int resetExpiredStreaks(
+        @Param("zone") String zone,
+        @Param("cutoff") LocalDate cutoff
+    );
+
+    /**
+     * 마지막 운동일이 기록되지 않은 스트릭 초기화 (시간대별)
+     * idx_streak_expiry (time_zone, last_workout_date) 의 IS NULL 조건으로 찾는다.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.currentStreak = 0 " +
+           "WHERE u.timeZone = :zone AND u.lastWorkoutDate IS NULL AND u.currentStreak > 0")
+    int resetStreaksWithoutWorkoutDate(@Param("zone") String zone);
+}
@@ -0,0 +1,33 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutExercise;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WorkoutExercise Repository
+ */
+@Repository
+public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, Long> {
+
+    /**
+     * 운동 세션에 속한 운동 조회 (세션 함께 로드)
+     */
+    @Query("SELECT we FROM WorkoutExercise we JOIN FETCH we.workout w " +
+           "WHERE we.id = :workoutExerciseId AND w.id = :workoutId")
+    Optional<WorkoutExercise> findWithWorkout(
+        @Param("workoutId") Long workoutId,
+        @Param("workoutExerciseId") Long workoutExerciseId
+    );
+
+    /**
+     * 운동 세션에 속한 운동 ID 목록
+     */
+    @Query("SELECT we.id FROM WorkoutExercise we WHERE we.workout.id = :workoutId")
+    List<Long> findIdsByWorkoutId(@Param("workoutId") Long workoutId);
+}
@@ -2,14 +2,18 @@ package com.sharegym.sharegym_server.repository;
 
 import com.sharegym.sharegym_server.entity.User;
 import com.sharegym.sharegym_server.entity.Workout;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +21,7 @@ import java.util.Optional;
  * Workout Repository
  */
 @Repository
-public interface WorkoutRepository extends JpaRepository<Workout, Long> {
+public interface WorkoutRepository extends JpaRepository<Workout, Long>, WorkoutRepositoryCustom {
 
     /**
      * 사용자의 운동 목록 조회 (페이징)
@@ -43,6 +47,56 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
      */
     Optional<Workout> findTopByUserOrderByStartTimeDesc(User user);
 
+    /**
+     * 운동 조회 (사용자 함께 로드)
+     */
+    @Query("SELECT w FROM Workout w JOIN FETCH w.user WHERE w.id = :workoutId")
+    Optional<Workout> findWithUserById(@Param("workoutId") Long workoutId);
+
+    /**
+     * 클라이언트 세션 ID로 운동 조회 (재전송 확인용)
+     */
+    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId AND w.clientSessionId = :clientSessionId")
+    Optional<Workout> findByUserIdAndClientSessionId(
+        @Param("userId") Long userId,
+        @Param("clientSessionId") String clientSessionId
+    );
+
+    /**
+     * 클라이언트 세션 ID로 운동 조회 (공유 잠금 조회)
+     * 현재 트랜잭션의 스냅샷이 아닌 최신 커밋을 읽으므로, 동시 재전송에서 먼저 커밋된 세션을 찾을 때 사용한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId AND w.clientSessionId = :clientSessionId")
+    Optional<Workout> findCommittedByUserIdAndClientSessionId(
+        @Param("userId") Long userId,
+        @Param("clientSessionId") String clientSessionId
+    );
+
+    /**
+     * 클라이언트 세션 ID 목록 중 이미 저장된 운동 조회 [clientSessionId, id]
+     */
+    @Query("SELECT w.clientSessionId, w.id FROM Workout w " +
+           "WHERE w.user.id = :userId AND w.clientSessionId IN :clientSessionIds")
+    List<Object[]> findIdsByClientSessionIds(
+        @Param("userId") Long userId,
+        @Param("clientSessionIds") Collection<String> clientSessionIds
+    );
+
+    /**
+     * 누적 통계 갱신 (진행 중인 세션 체크포인트용)
+     */
+    @Modifying
+    @Query("UPDATE Workout w SET w.totalSets = :totalSets, w.totalReps = :totalReps, " +
+           "w.totalWeight = :totalWeight, w.totalVolume = :totalVolume WHERE w.id = :workoutId")
+    int updateTotals(
+        @Param("workoutId") Long workoutId,
+        @Param("totalSets") Integer totalSets,
+        @Param("totalReps") Integer totalReps,
+        @Param("totalWeight") Double totalWeight,
+        @Param("totalVolume") Integer totalVolume
+    );
+
     /**
      * 사용자의 진행 중인 운동 조회
      */
@@ -56,24 +110,27 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     Long countCompletedWorkouts(@Param("user") User user);
 
     /**
-     * 사용자의 특정 기간 동안의 총 운동 시간 (분)
+     * 기간 내 사용자의 완료된 운동 수 (특정 운동 제외)
      */
-    @Query("SELECT SUM(w.durationMinutes) FROM Workout w WHERE w.user = :user " +
-           "AND w.status = 'COMPLETED' AND w.startTime BETWEEN :startTime AND :endTime")
-    Integer getTotalDurationMinutes(
-        @Param("user") User user,
-        @Param("startTime") LocalDateTime startTime,
-        @Param("endTime") LocalDateTime endTime
+    @Query("SELECT COUNT(w) FROM Workout w WHERE w.user.id = :userId AND w.status = 'COMPLETED' " +
+           "AND w.id <> :excludeWorkoutId AND w.startTime >= :from AND w.startTime < :to")
+    long countCompletedInPeriod(
+        @Param("userId") Long userId,
+        @Param("excludeWorkoutId") Long excludeWorkoutId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
     );
 
     /**
-     * 사용자의 특정 기간 동안의 총 볼륨 (kg)
+     * 기간 내 그룹 멤버별 완료 운동 집계 ([userId, count, totalWeight])
      */
-    @Query("SELECT SUM(w.totalWeight) FROM Workout w WHERE w.user = :user " +
-           "AND w.status = 'COMPLETED' AND w.startTime BETWEEN :startTime AND :endTime")
-    Double getTotalVolume(
-        @Param("user") User user,
-        @Param("startTime") LocalDateTime startTime,
-        @Param("endTime") LocalDateTime endTime
+    @Query("SELECT w.user.id, COUNT(w), COALESCE(SUM(w.totalWeight), 0) FROM Workout w " +
+           "WHERE w.status = 'COMPLETED' AND w.startTime >= :from AND w.startTime < :to " +
+           "AND w.user.id IN (SELECT gm.user.id FROM GroupMember gm WHERE gm.group.id = :groupId) " +
+           "GROUP BY w.user.id")
+    List<Object[]> sumCompletedByGroupMembers(
+        @Param("groupId") Long groupId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
     );
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.Workout;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Workout Repository 확장 (JDBC 배치 저장)
+ */
+public interface WorkoutRepositoryCustom {
+
+    /**
+     * 완료된 운동 세션(운동, 세트 포함)을 JDBC 배치로 일괄 저장
+     * IDENTITY 전략으로 인해 Hibernate 배치가 비활성화되므로
+     * 테이블별 배치 INSERT로 저장하고 생성된 ID를 엔티티에 채운다.
+     */
+    void insertSessions(List<Workout> workouts);
+
+    /**
+     * 내보내기용 운동 페이지 조회 (운동 ID 순 keyset 페이징)
+     * 페이지의 운동/운동별 세트를 두 번의 쿼리로 읽으며, 엔티티를 영속성 컨텍스트에 적재하지 않는다.
+     * @param afterWorkoutId 이전 페이지의 마지막 운동 ID (첫 페이지는 0)
+     */
+    List<ExportWorkout> findExportPage(Long userId, long afterWorkoutId, int limit);
+
+    /**
+     * 내보내기용 운동
+     */
+    record ExportWorkout(Long id, String name, String status, LocalDateTime startTime, LocalDateTime endTime,
+                         Integer duration, Integer totalSets, Integer totalReps, Double totalWeight,
+                         Integer calories, String note, List<ExportExercise> exercises) {
+    }
+
+    /**
+     * 내보내기용 운동 항목
+     */
+    record ExportExercise(String exerciseId, String name, Integer order, String note, List<ExportSet> sets) {
+    }
+
+    /**
+     * 내보내기용 세트
+     */
+    record ExportSet(Integer setNumber, Double weight, Integer reps, Double distance, Integer duration,
+                     Integer level, Boolean isWarmup, Boolean isCompleted, LocalDateTime completedAt,
+                     String note) {
+    }
+}
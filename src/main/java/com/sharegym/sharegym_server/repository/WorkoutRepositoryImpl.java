@@ -0,0 +1,188 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutExercise;
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.sharegym.sharegym_server.repository.JdbcBatchSupport.INSERT_WORKOUT_SET;
+import static com.sharegym.sharegym_server.repository.JdbcBatchSupport.batchInsert;
+
+/**
+ * Workout Repository 확장 구현 (JDBC 배치 저장)
+ * 세션 저장 시 workouts / workout_exercises / workout_sets / workout_images 테이블별로
+ * 한 번씩 배치 INSERT를 수행한다. (MySQL은 rewriteBatchedStatements=true 설정 시 다중 VALUES로 전송)
+ */
+@RequiredArgsConstructor
+public class WorkoutRepositoryImpl implements WorkoutRepositoryCustom {
+
+    private static final String INSERT_WORKOUT =
+        "INSERT INTO workouts (user_id, workout_name, start_time, end_time, duration, duration_minutes, " +
+        "total_weight, total_volume, total_sets, total_reps, calories, calories_burned, note, " +
+        "completion_image_url, status, client_session_id, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_WORKOUT_EXERCISE =
+        "INSERT INTO workout_exercises (workout_id, exercise_id, order_index, target_sets, target_reps, " +
+        "target_weight, note, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_WORKOUT_IMAGE =
+        "INSERT INTO workout_images (workout_id, image_url, image_order) VALUES (?, ?, ?)";
+
+    private static final String SELECT_EXPORT_WORKOUTS =
+        "SELECT id, workout_name, status, start_time, end_time, duration, total_sets, total_reps, total_weight, " +
+        "COALESCE(calories, calories_burned) AS calories, note " +
+        "FROM workouts WHERE user_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String SELECT_EXPORT_SETS =
+        "SELECT we.workout_id, we.id AS workout_exercise_id, e.client_id, e.exercise_name, we.order_index, " +
+        "we.note AS exercise_note, s.set_number, s.weight, s.reps, s.distance, s.duration, s.level, " +
+        "s.is_warmup, s.is_completed, s.completed_at, s.note AS set_note " +
+        "FROM workout_exercises we JOIN exercises e ON e.id = we.exercise_id " +
+        "LEFT JOIN workout_sets s ON s.workout_exercise_id = we.id " +
+        "WHERE we.workout_id IN (%s) ORDER BY we.workout_id, we.order_index, we.id, s.set_number";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertSessions(List<Workout> workouts) {
+        if (workouts.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 운동 세션
+        List<Long> workoutIds = batchInsert(jdbcTemplate, INSERT_WORKOUT, workouts, (ps, w) -> {
+            ps.setLong(1, w.getUser().getId());
+            ps.setString(2, w.getWorkoutName());
+            ps.setObject(3, w.getStartTime());
+            ps.setObject(4, w.getEndTime());
+            ps.setObject(5, w.getDuration());
+            ps.setObject(6, w.getDurationMinutes());
+            ps.setObject(7, w.getTotalWeight());
+            ps.setObject(8, w.getTotalVolume());
+            ps.setObject(9, w.getTotalSets());
+            ps.setObject(10, w.getTotalReps());
+            ps.setObject(11, w.getCalories());
+            ps.setObject(12, w.getCaloriesBurned());
+            ps.setString(13, w.getNote());
+            ps.setString(14, w.getCompletionImageUrl());
+            ps.setString(15, w.getStatus() != null ? w.getStatus().name() : null);
+            ps.setString(16, w.getClientSessionId());
+            ps.setTimestamp(17, now);
+            ps.setTimestamp(18, now);
+        });
+
+        List<WorkoutExercise> exercises = new ArrayList<>();
+        List<ImageRow> images = new ArrayList<>();
+        for (int i = 0; i < workouts.size(); i++) {
+            Workout workout = workouts.get(i);
+            workout.setId(workoutIds.get(i));
+            exercises.addAll(workout.getWorkoutExercises());
+            List<String> imageUrls = workout.getImageUrls();
+            if (imageUrls != null) {
+                for (int order = 0; order < imageUrls.size(); order++) {
+                    images.add(new ImageRow(workout.getId(), imageUrls.get(order), order));
+                }
+            }
+        }
+
+        // 2. 세션 이미지
+        if (!images.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_WORKOUT_IMAGE, images, images.size(), (ps, image) -> {
+                ps.setLong(1, image.workoutId());
+                ps.setString(2, image.url());
+                ps.setInt(3, image.order());
+            });
+        }
+
+        // 3. 세션별 운동
+        List<Long> exerciseIds = batchInsert(jdbcTemplate, INSERT_WORKOUT_EXERCISE, exercises, (ps, we) -> {
+            ps.setLong(1, we.getWorkout().getId());
+            ps.setInt(2, we.getExercise().getId());
+            ps.setInt(3, we.getOrderIndex() != null ? we.getOrderIndex() : 0);
+            ps.setObject(4, we.getTargetSets());
+            ps.setObject(5, we.getTargetReps());
+            ps.setObject(6, we.getTargetWeight());
+            ps.setString(7, we.getNote());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+
+        List<WorkoutSet> sets = new ArrayList<>();
+        for (int i = 0; i < exercises.size(); i++) {
+            WorkoutExercise workoutExercise = exercises.get(i);
+            workoutExercise.setId(exerciseIds.get(i));
+            sets.addAll(workoutExercise.getWorkoutSets());
+        }
+
+        // 4. 운동별 세트
+        List<Long> setIds = batchInsert(jdbcTemplate, INSERT_WORKOUT_SET, sets,
+            (ps, s) -> JdbcBatchSupport.bindWorkoutSet(ps, s, now));
+
+        for (int i = 0; i < sets.size(); i++) {
+            sets.get(i).setId(setIds.get(i));
+        }
+    }
+
+    @Override
+    public List<ExportWorkout> findExportPage(Long userId, long afterWorkoutId, int limit) {
+        Map<Long, List<ExportExercise>> exercisesByWorkout = new LinkedHashMap<>();
+        List<ExportWorkout> workouts = jdbcTemplate.query(SELECT_EXPORT_WORKOUTS, (rs, rowNum) -> {
+            List<ExportExercise> exercises = new ArrayList<>();
+            exercisesByWorkout.put(rs.getLong("id"), exercises);
+            return new ExportWorkout(
+                rs.getLong("id"), rs.getString("workout_name"), rs.getString("status"),
+                toLocalDateTime(rs.getTimestamp("start_time")), toLocalDateTime(rs.getTimestamp("end_time")),
+                rs.getObject("duration", Integer.class), rs.getObject("total_sets", Integer.class),
+                rs.getObject("total_reps", Integer.class), rs.getObject("total_weight", Double.class),
+                rs.getObject("calories", Integer.class), rs.getString("note"), exercises);
+        }, userId, afterWorkoutId, limit);
+        if (workouts.isEmpty()) {
+            return workouts;
+        }
+
+        // 페이지 운동의 운동 항목/세트 (정렬된 결과를 순서대로 묶음)
+        String placeholders = String.join(", ", Collections.nCopies(exercisesByWorkout.size(), "?"));
+        long[] currentId = {-1L};
+        ExportExercise[] current = new ExportExercise[1];
+        jdbcTemplate.query(String.format(SELECT_EXPORT_SETS, placeholders), (RowCallbackHandler) rs -> {
+            long workoutExerciseId = rs.getLong("workout_exercise_id");
+            if (workoutExerciseId != currentId[0]) {
+                currentId[0] = workoutExerciseId;
+                current[0] = new ExportExercise(
+                    rs.getString("client_id"), rs.getString("exercise_name"),
+                    rs.getObject("order_index", Integer.class), rs.getString("exercise_note"), new ArrayList<>());
+                exercisesByWorkout.get(rs.getLong("workout_id")).add(current[0]);
+            }
+            Integer setNumber = rs.getObject("set_number", Integer.class);
+            if (setNumber != null) {
+                current[0].sets().add(new ExportSet(setNumber,
+                    rs.getObject("weight", Double.class), rs.getObject("reps", Integer.class),
+                    rs.getObject("distance", Double.class), rs.getObject("duration", Integer.class),
+                    rs.getObject("level", Integer.class), rs.getObject("is_warmup", Boolean.class),
+                    rs.getObject("is_completed", Boolean.class), toLocalDateTime(rs.getTimestamp("completed_at")),
+                    rs.getString("set_note")));
+            }
+        }, exercisesByWorkout.keySet().toArray());
+        return workouts;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private record ImageRow(Long workoutId, String url, int order) {
+    }
+}
@@ -0,0 +1,29 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * WorkoutRollup Repository
+ */
+@Repository
+public interface WorkoutRollupRepository extends JpaRepository<WorkoutRollup, Long>, WorkoutRollupRepositoryCustom {
+
+    /**
+     * 기간별 집계 조회 (유니크 인덱스 범위 조회)
+     */
+    @Query("SELECT r FROM WorkoutRollup r WHERE r.user.id = :userId AND r.periodType = :periodType " +
+           "AND r.periodStart BETWEEN :from AND :to ORDER BY r.periodStart ASC")
+    List<WorkoutRollup> findRange(
+        @Param("userId") Long userId,
+        @Param("periodType") WorkoutRollup.PeriodType periodType,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
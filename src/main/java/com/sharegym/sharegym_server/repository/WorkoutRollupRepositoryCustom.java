@@ -0,0 +1,25 @@
+package com.sharegym.sharegym_server.repository;
+
+import java.time.LocalDate;
+
+/**
+ * WorkoutRollup Repository 확장 (증분 갱신)
+ */
+public interface WorkoutRollupRepositoryCustom {
+
+    /**
+     * 날짜가 속한 일/주/월 집계 행에 증분 반영 (없으면 생성)
+     * 값을 음수로 전달하면 차감된다. (운동 삭제 시)
+     */
+    void increment(Long userId, LocalDate date, RollupDelta delta);
+
+    /**
+     * 집계 증분 값
+     */
+    record RollupDelta(int sessions, int sets, int reps, double volume, long durationSeconds, int calories) {
+
+        public RollupDelta negate() {
+            return new RollupDelta(-sessions, -sets, -reps, -volume, -durationSeconds, -calories);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WorkoutRollup Repository 확장 구현
+ * 집계 행을 읽지 않고 (user_id, period_type, period_start) 유니크 키에 대한
+ * INSERT ... ON DUPLICATE KEY UPDATE col = col + VALUES(col) 한 문장으로 갱신한다.
+ * (UPDATE → INSERT → 중복 시 UPDATE 재시도 방식은 동시 INSERT끼리 갭 잠금 교착이 생김)
+ */
+@RequiredArgsConstructor
+public class WorkoutRollupRepositoryImpl implements WorkoutRollupRepositoryCustom {
+
+    private static final String UPSERT_ROLLUP =
+        "INSERT INTO workout_rollups (user_id, period_type, period_start, session_count, set_count, " +
+        "rep_count, volume, duration_seconds, calories, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE session_count = session_count + VALUES(session_count), " +
+        "set_count = set_count + VALUES(set_count), rep_count = rep_count + VALUES(rep_count), " +
+        "volume = volume + VALUES(volume), duration_seconds = duration_seconds + VALUES(duration_seconds), " +
+        "calories = calories + VALUES(calories), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void increment(Long userId, LocalDate date, RollupDelta delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(WorkoutRollup.PeriodType.values().length);
+        for (WorkoutRollup.PeriodType periodType : WorkoutRollup.PeriodType.values()) {
+            rows.add(new Object[] {
+                userId, periodType.name(), Date.valueOf(periodType.startOf(date)),
+                delta.sessions(), delta.sets(), delta.reps(), delta.volume(),
+                delta.durationSeconds(), delta.calories(), now, now
+            });
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ROLLUP, rows);
+    }
+}
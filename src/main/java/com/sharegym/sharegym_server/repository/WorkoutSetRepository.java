@@ -0,0 +1,72 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * WorkoutSet Repository
+ */
+@Repository
+public interface WorkoutSetRepository extends JpaRepository<WorkoutSet, Long>, WorkoutSetRepositoryCustom {
+
+    /**
+     * 운동의 특정 세트 조회 (workout_exercise_id, set_number 인덱스 사용)
+     */
+    Optional<WorkoutSet> findByWorkoutExerciseIdAndSetNumber(Long workoutExerciseId, Integer setNumber);
+
+    /**
+     * 운동 세션의 전체 세트 조회
+     */
+    @Query("SELECT s FROM WorkoutSet s WHERE s.workoutExercise.workout.id = :workoutId")
+    List<WorkoutSet> findByWorkoutId(@Param("workoutId") Long workoutId);
+
+    /**
+     * 운동 세션의 완료 세트 합계 [세트 수, 반복 횟수 합, 볼륨 합]
+     */
+    @Query("SELECT COUNT(s), COALESCE(SUM(s.reps), 0), COALESCE(SUM(s.weight * s.reps), 0) " +
+           "FROM WorkoutSet s WHERE s.workoutExercise.workout.id = :workoutId AND s.isCompleted = true")
+    List<Object[]> sumCompletedSets(@Param("workoutId") Long workoutId);
+
+    /**
+     * 운동 세션의 완료 세트 조회 (운동 정보 함께 로드, 개인 기록 갱신용)
+     */
+    @Query("SELECT s FROM WorkoutSet s JOIN FETCH s.workoutExercise we JOIN FETCH we.exercise " +
+           "WHERE we.workout.id = :workoutId AND s.isCompleted = true")
+    List<WorkoutSet> findCompletedWithExerciseByWorkoutId(@Param("workoutId") Long workoutId);
+
+    /**
+     * 기간 내 완료된 운동의 완료 세트 조회 (운동 정보 함께 로드, 일간 기록 재계산용)
+     */
+    @Query("SELECT s FROM WorkoutSet s JOIN FETCH s.workoutExercise we JOIN FETCH we.exercise e " +
+           "JOIN we.workout w WHERE w.user.id = :userId AND w.status = 'COMPLETED' AND w.id <> :excludeWorkoutId " +
+           "AND w.startTime >= :from AND w.startTime < :to AND e.id IN :exerciseIds AND s.isCompleted = true")
+    List<WorkoutSet> findCompletedWithExerciseInPeriod(
+        @Param("userId") Long userId,
+        @Param("excludeWorkoutId") Long excludeWorkoutId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("exerciseIds") Collection<Integer> exerciseIds
+    );
+
+    /**
+     * 완료된 운동의 운동별 완료 세트 전체 조회 (운동 정보 함께 로드, 운동 삭제 시 개인 기록 재계산용)
+     * 기록 경신 순서대로 다시 적용할 수 있도록 운동 시작 시간 순으로 정렬한다.
+     */
+    @Query("SELECT s FROM WorkoutSet s JOIN FETCH s.workoutExercise we JOIN FETCH we.exercise e " +
+           "JOIN FETCH we.workout w WHERE w.user.id = :userId AND w.status = 'COMPLETED' " +
+           "AND w.id <> :excludeWorkoutId AND e.id IN :exerciseIds AND s.isCompleted = true " +
+           "ORDER BY w.startTime ASC, s.setNumber ASC")
+    List<WorkoutSet> findCompletedWithExerciseByExerciseIds(
+        @Param("userId") Long userId,
+        @Param("excludeWorkoutId") Long excludeWorkoutId,
+        @Param("exerciseIds") Collection<Integer> exerciseIds
+    );
+}
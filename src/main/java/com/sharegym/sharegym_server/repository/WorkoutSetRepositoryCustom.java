@@ -0,0 +1,17 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+
+import java.util.List;
+
+/**
+ * WorkoutSet Repository 확장 (JDBC 배치 저장)
+ */
+public interface WorkoutSetRepositoryCustom {
+
+    /**
+     * (workout_exercise_id, set_number) 기준으로 세트를 일괄 저장
+     * 기존 세트는 값을 갱신하고 없는 세트는 새로 만든다. (생성된 ID는 엔티티에 채우지 않음)
+     */
+    void upsertBySetNumber(List<WorkoutSet> sets);
+}
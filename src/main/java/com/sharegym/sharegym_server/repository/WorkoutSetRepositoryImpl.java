@@ -0,0 +1,40 @@
+package com.sharegym.sharegym_server.repository;
+
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.sharegym.sharegym_server.repository.JdbcBatchSupport.INSERT_WORKOUT_SET;
+
+/**
+ * WorkoutSet Repository 확장 구현 (JDBC 배치 저장)
+ * (workout_exercise_id, set_number) 유니크 키에 대한 INSERT ... ON DUPLICATE KEY UPDATE로 저장하므로
+ * 동시에 실행된 저장끼리도 같은 세트를 중복 생성하지 않는다.
+ */
+@RequiredArgsConstructor
+public class WorkoutSetRepositoryImpl implements WorkoutSetRepositoryCustom {
+
+    private static final String UPSERT_WORKOUT_SET = INSERT_WORKOUT_SET +
+        " ON DUPLICATE KEY UPDATE reps = VALUES(reps), weight = VALUES(weight), distance = VALUES(distance), " +
+        "duration = VALUES(duration), duration_seconds = VALUES(duration_seconds), level = VALUES(level), " +
+        "set_type = VALUES(set_type), is_warmup = VALUES(is_warmup), is_failure = VALUES(is_failure), " +
+        "is_dropset = VALUES(is_dropset), is_completed = VALUES(is_completed), " +
+        "completed_at = VALUES(completed_at), rest_seconds = VALUES(rest_seconds), note = VALUES(note), " +
+        "updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertBySetNumber(List<WorkoutSet> sets) {
+        if (sets.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_WORKOUT_SET, sets, sets.size(),
+            (ps, s) -> JdbcBatchSupport.bindWorkoutSet(ps, s, now));
+    }
+}
@@ -0,0 +1,44 @@
+package com.sharegym.sharegym_server.scheduler;
+
+import com.sharegym.sharegym_server.service.GroupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 멤버 수 보정
+ * 멤버 수는 가입/탈퇴 시 원자적으로 증감하므로, 직접 데이터 수정 등으로 생긴 차이만 하루 한 번 맞춘다.
+ * 전체 그룹을 한 번에 갱신하지 않고 id 구간별로 점검한 뒤 어긋난 그룹만 그룹별 트랜잭션으로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMemberCountScheduler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final GroupService groupService;
+
+    @Scheduled(cron = "${group.member-count-reconcile-cron:0 40 4 * * *}")
+    public void reconcileMemberCounts() {
+        int corrected = 0;
+        Long afterId = 0L;
+        GroupService.MemberCountScan scan;
+        while ((scan = groupService.scanMemberCounts(afterId, BATCH_SIZE)) != null) {
+            for (Long groupId : scan.driftedGroupIds()) {
+                try {
+                    if (groupService.reconcileMemberCount(groupId)) {
+                        corrected++;
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to reconcile member count of group {}", groupId, e);
+                }
+            }
+            afterId = scan.lastGroupId();
+        }
+        if (corrected > 0) {
+            log.warn("Group member counts corrected: {} groups", corrected);
+        }
+    }
+}
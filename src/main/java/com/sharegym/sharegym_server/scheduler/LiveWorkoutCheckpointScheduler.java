@@ -0,0 +1,36 @@
+package com.sharegym.sharegym_server.scheduler;
+
+import com.sharegym.sharegym_server.service.LiveWorkoutService;
+import com.sharegym.sharegym_server.service.LiveWorkoutStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 중인 운동 세션 체크포인트
+ * 세션 저장소의 미반영 세트를 주기적으로 DB에 반영한다. (운동별 별도 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveWorkoutCheckpointScheduler {
+
+    private final LiveWorkoutStore liveWorkoutStore;
+    private final LiveWorkoutService liveWorkoutService;
+
+    @Scheduled(fixedDelayString = "${workout.live.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        int flushedSets = 0;
+        for (Long workoutId : liveWorkoutStore.getDirtyWorkoutIds()) {
+            try {
+                flushedSets += liveWorkoutService.flush(workoutId);
+            } catch (Exception e) {
+                log.error("Failed to checkpoint live workout {}", workoutId, e);
+            }
+        }
+        if (flushedSets > 0) {
+            log.info("Live workout checkpoint: {} sets flushed", flushedSets);
+        }
+    }
+}
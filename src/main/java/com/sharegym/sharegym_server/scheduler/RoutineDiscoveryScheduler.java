@@ -0,0 +1,24 @@
+package com.sharegym.sharegym_server.scheduler;
+
+import com.sharegym.sharegym_server.service.RoutineDiscoveryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 루틴 색인 재구성
+ * 여러 인스턴스에서 개별적으로 갱신되는 메모리 색인을 주기적으로 DB 기준으로 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoutineDiscoveryScheduler {
+
+    private final RoutineDiscoveryService routineDiscoveryService;
+
+    @Scheduled(cron = "${routine.discovery-rebuild-cron:0 20 * * * *}")
+    public void rebuildIndex() {
+        routineDiscoveryService.rebuild();
+    }
+}
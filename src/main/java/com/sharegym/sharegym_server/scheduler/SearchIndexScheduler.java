@@ -0,0 +1,24 @@
+package com.sharegym.sharegym_server.scheduler;
+
+import com.sharegym.sharegym_server.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 그룹 / 사용자 검색 색인 재구성
+ * 다른 인스턴스에서 생성/수정된 항목과 변경된 멤버 수 / 팔로워 수 순위를 주기적으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexScheduler {
+
+    private final SearchIndexService searchIndexService;
+
+    @Scheduled(cron = "${search.index-rebuild-cron:0 */10 * * * *}")
+    public void rebuildIndex() {
+        searchIndexService.rebuild();
+    }
+}
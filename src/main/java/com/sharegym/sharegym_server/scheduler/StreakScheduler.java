@@ -0,0 +1,27 @@
+package com.sharegym.sharegym_server.scheduler;
+
+import com.sharegym.sharegym_server.service.StreakService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트릭 만료 처리
+ * 시간대마다 자정이 다르므로 매시간 실행한다. (이미 초기화된 사용자는 다시 갱신되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreakScheduler {
+
+    private final StreakService streakService;
+
+    @Scheduled(cron = "${streak.expire-cron:0 5 * * * *}")
+    public void expireStreaks() {
+        int expired = streakService.expireStreaks();
+        if (expired > 0) {
+            log.info("Streaks expired: {} users", expired);
+        }
+    }
+}
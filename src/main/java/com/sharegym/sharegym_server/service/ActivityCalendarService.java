@@ -0,0 +1,82 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.response.ActivityCalendarResponse;
+import com.sharegym.sharegym_server.entity.ActivityCalendar;
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.ActivityCalendarRepository;
+import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * 운동 캘린더 서비스
+ * 운동 완료 시 사용자 연간 비트맵의 해당 날짜 강도를 갱신한다.
+ * 강도는 그날 완료한 운동 수 (1, 2, 3회 이상)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityCalendarService {
+
+    private final ActivityCalendarRepository activityCalendarRepository;
+    private final WorkoutRepository workoutRepository;
+
+    /**
+     * 완료된 운동을 캘린더에 반영 (호출 측 트랜잭션에서 실행)
+     */
+    public void recordWorkout(Workout workout) {
+        LocalDate date = dateOf(workout);
+        ActivityCalendar calendar = lockCalendar(workout.getUser(), date.getYear());
+        calendar.setLevel(date.getDayOfYear(), calendar.levelOf(date.getDayOfYear()) + 1);
+    }
+
+    /**
+     * 삭제될 운동을 캘린더에서 제외 (완료된 운동만 반영되어 있음)
+     * 강도는 상한이 있으므로 같은 날의 나머지 완료 운동 수로 다시 계산한다.
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        User user = workout.getUser();
+        LocalDate date = dateOf(workout);
+        long remaining = workoutRepository.countCompletedInPeriod(user.getId(), workout.getId(),
+            StreakService.startOfUserDate(user, date), StreakService.startOfUserDate(user, date.plusDays(1)));
+
+        ActivityCalendar calendar = lockCalendar(user, date.getYear());
+        calendar.setLevel(date.getDayOfYear(), (int) Math.min(remaining, ActivityCalendar.MAX_LEVEL));
+    }
+
+    /**
+     * 연간 캘린더 조회
+     * @param year 연도 (없으면 올해)
+     */
+    @Transactional(readOnly = true)
+    public ActivityCalendarResponse getCalendar(Long userId, Integer year) {
+        int calendarYear = year != null ? year : LocalDate.now().getYear();
+        if (calendarYear < 1970 || calendarYear > 9999) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "유효하지 않은 연도입니다: " + calendarYear);
+        }
+        return activityCalendarRepository.findByUserIdAndYear(userId, calendarYear)
+            .map(ActivityCalendarResponse::from)
+            .orElseGet(() -> ActivityCalendarResponse.empty(calendarYear));
+    }
+
+    private ActivityCalendar lockCalendar(User user, int year) {
+        activityCalendarRepository.insertIfAbsent(user.getId(), year);
+        return activityCalendarRepository.findForUpdate(user.getId(), year)
+            .orElseThrow(() -> new IllegalStateException("Activity calendar not found: " + user.getId()));
+    }
+
+    private LocalDate dateOf(Workout workout) {
+        return StreakService.toUserDate(workout.getUser(), workout.getStartTime());
+    }
+}
@@ -1,5 +1,6 @@
 package com.sharegym.sharegym_server.service;
 
+import com.sharegym.sharegym_server.common.AfterCommit;
 import com.sharegym.sharegym_server.dto.request.LoginRequest;
 import com.sharegym.sharegym_server.dto.request.RefreshTokenRequest;
 import com.sharegym.sharegym_server.dto.request.SignUpRequest;
@@ -32,6 +33,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtProvider jwtProvider;
+    private final SearchIndexService searchIndexService;
 
     /**
      * 회원가입
@@ -58,6 +60,7 @@ public class AuthService {
             .build();
 
         User savedUser = userRepository.save(user);
+        AfterCommit.run(() -> searchIndexService.indexUser(savedUser));
         log.info("New user registered: {}", savedUser.getEmail());
 
         // 자동 로그인 처리
@@ -212,6 +215,7 @@ public class AuthService {
         }
 
         User updatedUser = userRepository.save(user);
+        AfterCommit.run(() -> searchIndexService.indexUser(updatedUser));
         log.info("User profile updated: {}", updatedUser.getEmail());
 
         return UserResponse.from(updatedUser);
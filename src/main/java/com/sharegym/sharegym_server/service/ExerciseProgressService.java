@@ -0,0 +1,180 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.ExerciseIdMapper;
+import com.sharegym.sharegym_server.common.TimeSeriesDownsampler;
+import com.sharegym.sharegym_server.dto.response.ExerciseProgressResponse;
+import com.sharegym.sharegym_server.entity.ExerciseDailyStat;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutRollup;
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.ExerciseDailyStatRepository;
+import com.sharegym.sharegym_server.repository.ExerciseDailyStatRepositoryCustom.DayStat;
+import com.sharegym.sharegym_server.repository.WorkoutSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 운동별 진척도 서비스
+ * 운동 완료 시 운동별 일간 기록(exercise_daily_stats)을 증분 갱신하고,
+ * 진척도 조회는 일간 기록을 기간 단위로 묶은 뒤 요청한 점 개수로 다운샘플링한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExerciseProgressService {
+
+    private static final int DEFAULT_POINTS = 200;
+    private static final int MAX_POINTS = 1000;
+
+    private final ExerciseDailyStatRepository exerciseDailyStatRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final ExerciseIdMapper exerciseIdMapper;
+
+    /**
+     * 완료된 운동의 세트를 일간 기록에 반영 (호출 측 트랜잭션에서 실행)
+     * @param sets workoutExercise.exercise 연관이 설정된 세트
+     */
+    public void recordWorkout(Workout workout, Collection<WorkoutSet> sets) {
+        Map<Integer, DayStat> stats = DayStat.aggregate(sets);
+        if (stats.isEmpty()) {
+            return;
+        }
+        exerciseDailyStatRepository.merge(workout.getUser().getId(), dateOf(workout), stats.values());
+    }
+
+    /**
+     * 삭제될 운동을 일간 기록에서 제외 (완료된 운동만 반영되어 있음)
+     * 최고 값은 차감할 수 없으므로 같은 날의 나머지 운동 세트로 해당 운동의 행을 다시 계산한다.
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        Set<Integer> exerciseIds = DayStat.aggregate(
+            workoutSetRepository.findCompletedWithExerciseByWorkoutId(workout.getId())).keySet();
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+
+        LocalDate date = dateOf(workout);
+        List<WorkoutSet> remaining = workoutSetRepository.findCompletedWithExerciseInPeriod(
+            workout.getUser().getId(), workout.getId(),
+            StreakService.startOfUserDate(workout.getUser(), date),
+            StreakService.startOfUserDate(workout.getUser(), date.plusDays(1)),
+            exerciseIds);
+        exerciseDailyStatRepository.replace(workout.getUser().getId(), date, exerciseIds,
+            DayStat.aggregate(remaining).values());
+    }
+
+    /**
+     * 운동별 진척도 조회
+     * @param clientExerciseId 클라이언트 운동 ID
+     * @param period day, week, month
+     * @param metric 다운샘플링 기준 값 (weight, e1rm, volume)
+     * @param from 시작일 (없으면 종료일 기준 1년 전)
+     * @param to 종료일 (없으면 오늘)
+     * @param points 최대 점 개수 (없으면 200)
+     */
+    @Transactional(readOnly = true)
+    public ExerciseProgressResponse getProgress(Long userId, String clientExerciseId, String period, String metric,
+                                                LocalDate from, LocalDate to, Integer points) {
+        int exerciseId = exerciseIdMapper.toServerId(clientExerciseId);
+        WorkoutRollup.PeriodType periodType = parsePeriod(period);
+        String metricName = metric.toLowerCase();
+        if (!metricName.equals("weight") && !metricName.equals("e1rm") && !metricName.equals("volume")) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "기준 값은 weight, e1rm, volume 중 하나여야 합니다.");
+        }
+        int threshold = points != null ? points : DEFAULT_POINTS;
+        if (threshold < 2 || threshold > MAX_POINTS) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "점 개수는 2 이상 " + MAX_POINTS + " 이하여야 합니다.");
+        }
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "시작일은 종료일보다 이후일 수 없습니다.");
+        }
+
+        // 기간 단위로 묶기 (일간 기록은 날짜 오름차순)
+        List<ExerciseProgressResponse.Point> buckets = new ArrayList<>();
+        LocalDate bucketStart = null;
+        DayStat bucket = null;
+        for (ExerciseDailyStat stat : exerciseDailyStatRepository.findRange(
+                userId, exerciseId, periodType.startOf(start), end)) {
+            LocalDate statBucket = periodType.startOf(stat.getStatDate());
+            DayStat value = new DayStat(exerciseId, stat.getMaxWeight(), stat.getMaxE1rm(), stat.getVolume(),
+                stat.getSetCount(), stat.getRepCount());
+            if (statBucket.equals(bucketStart)) {
+                bucket = bucket.plus(value);
+                continue;
+            }
+            if (bucket != null) {
+                buckets.add(toPoint(bucketStart, bucket));
+            }
+            bucketStart = statBucket;
+            bucket = value;
+        }
+        if (bucket != null) {
+            buckets.add(toPoint(bucketStart, bucket));
+        }
+
+        // 기준 값으로 다운샘플링
+        double[] x = new double[buckets.size()];
+        double[] y = new double[buckets.size()];
+        for (int i = 0; i < buckets.size(); i++) {
+            ExerciseProgressResponse.Point point = buckets.get(i);
+            x[i] = point.getDate().toEpochDay();
+            y[i] = switch (metricName) {
+                case "weight" -> point.getMaxWeight();
+                case "volume" -> point.getVolume();
+                default -> point.getEstimated1RM();
+            };
+        }
+        int[] selected = TimeSeriesDownsampler.lttb(x, y, threshold);
+        List<ExerciseProgressResponse.Point> sampled = new ArrayList<>(selected.length);
+        for (int index : selected) {
+            sampled.add(buckets.get(index));
+        }
+
+        return ExerciseProgressResponse.builder()
+            .exerciseId(clientExerciseId)
+            .period(periodType.name().toLowerCase())
+            .metric(metricName)
+            .totalPoints(buckets.size())
+            .points(sampled)
+            .build();
+    }
+
+    private ExerciseProgressResponse.Point toPoint(LocalDate date, DayStat stat) {
+        return ExerciseProgressResponse.Point.builder()
+            .date(date)
+            .maxWeight(stat.maxWeight())
+            .estimated1RM(stat.maxE1rm())
+            .volume(stat.volume())
+            .sets(stat.sets())
+            .reps(stat.reps())
+            .build();
+    }
+
+    private WorkoutRollup.PeriodType parsePeriod(String period) {
+        try {
+            return WorkoutRollup.PeriodType.valueOf(period.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "기간 단위는 day, week, month 중 하나여야 합니다.");
+        }
+    }
+
+    private LocalDate dateOf(Workout workout) {
+        return StreakService.toUserDate(workout.getUser(), workout.getStartTime());
+    }
+}
@@ -0,0 +1,46 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.entity.GroupChallenge;
+import com.sharegym.sharegym_server.repository.GroupChallengeRepository;
+import com.sharegym.sharegym_server.repository.GroupChallengeShardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 챌린지 달성 판정 / 진행도 알림
+ * 진행도를 반영한 트랜잭션이 커밋된 뒤 별도 스레드의 새 트랜잭션에서 샤드 합계를 다시 읽는다.
+ * 반영한 트랜잭션의 스냅샷으로 판정하면 함께 목표를 넘긴 동시 운동들이 서로의 증분을 보지 못해 달성이 누락되고,
+ * 커밋 전에 알리면 롤백된 진행도가 전송된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupChallengeCompletionService {
+
+    private final GroupChallengeRepository groupChallengeRepository;
+    private final GroupChallengeShardRepository groupChallengeShardRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 커밋된 진행도로 달성 여부를 판정하고 그룹 구독자에게 알림 (달성 표시는 한 번만 기록)
+     * @param added 진행도가 증가한 경우 true (삭제로 인한 차감은 달성 판정하지 않음)
+     */
+    @Async
+    @Transactional
+    public void checkProgress(GroupChallenge challenge, Long userId, boolean added) {
+        double progress = groupChallengeShardRepository.sumByChallengeId(challenge.getId());
+
+        boolean completed = added
+            && progress >= challenge.getTargetValue()
+            && groupChallengeRepository.markCompleted(challenge.getId(), LocalDateTime.now()) == 1;
+        if (completed) {
+            log.info("Group challenge {} completed in group {}", challenge.getId(), challenge.getGroupId());
+        }
+        notificationService.notifyGroupChallengeProgress(challenge, progress, userId, completed);
+    }
+}
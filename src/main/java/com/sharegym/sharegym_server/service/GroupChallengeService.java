@@ -0,0 +1,161 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.dto.request.CreateGroupChallengeRequest;
+import com.sharegym.sharegym_server.dto.response.GroupChallengeResponse;
+import com.sharegym.sharegym_server.entity.Group;
+import com.sharegym.sharegym_server.entity.GroupChallenge;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.GroupChallengeRepository;
+import com.sharegym.sharegym_server.repository.GroupChallengeShardRepository;
+import com.sharegym.sharegym_server.repository.GroupMemberRepository;
+import com.sharegym.sharegym_server.repository.GroupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 그룹 챌린지 서비스
+ * 운동 완료/삭제 시 해당 기간의 챌린지 진행도를 임의의 샤드 행에 증분 반영하고,
+ * 진행도 조회는 샤드 합계(챌린지당 최대 SHARDS행)만 읽는다.
+ * 목표 달성 판정과 SSE 전달은 커밋 후 GroupChallengeCompletionService에서 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupChallengeService {
+
+    public static final int SHARDS = 16;
+
+    private final GroupChallengeRepository groupChallengeRepository;
+    private final GroupChallengeShardRepository groupChallengeShardRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final GroupChallengeCompletionService groupChallengeCompletionService;
+
+    /**
+     * 챌린지 생성 (그룹 멤버, 시작 시각은 현재 이후)
+     */
+    @Transactional
+    public GroupChallengeResponse createChallenge(Long userId, Long groupId, CreateGroupChallengeRequest request) {
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        if (!groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER,
+                "그룹 멤버만 챌린지를 만들 수 있습니다.");
+        }
+
+        GroupChallenge.Metric metric;
+        try {
+            metric = GroupChallenge.Metric.valueOf(request.getMetric().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "챌린지 지표는 volume, workouts, sets, minutes 중 하나여야 합니다.");
+        }
+
+        // 이미 지난 운동은 진행도에 반영되지 않으므로 시작 시각을 현재 이후로 제한
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startAt = request.getStartAt() != null && request.getStartAt().isAfter(now)
+            ? request.getStartAt() : now;
+        if (!request.getEndAt().isAfter(startAt)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "종료 시각은 시작 시각 이후여야 합니다.");
+        }
+
+        GroupChallenge challenge = groupChallengeRepository.save(GroupChallenge.builder()
+            .groupId(groupId)
+            .createdBy(userId)
+            .title(request.getTitle())
+            .description(request.getDescription())
+            .metric(metric)
+            .targetValue(request.getTargetValue())
+            .startAt(startAt)
+            .endAt(request.getEndAt())
+            .build());
+        groupChallengeShardRepository.createShards(challenge.getId(), SHARDS);
+
+        log.info("Group challenge {} created in group {} by user {}", challenge.getId(), groupId, userId);
+        return GroupChallengeResponse.from(challenge, 0.0, now);
+    }
+
+    /**
+     * 그룹 챌린지 목록 (최근 20개, 진행도는 샤드 합계를 한 번에 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<GroupChallengeResponse> getChallenges(Long groupId, Long userId) {
+        Group group = groupRepository.findById(groupId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+
+        // 비공개 그룹은 멤버만 조회 가능
+        if (!group.getIsPublic() &&
+            !groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "비공개 그룹의 챌린지는 멤버만 조회할 수 있습니다.");
+        }
+
+        List<GroupChallenge> challenges = groupChallengeRepository.findTop20ByGroupIdOrderByEndAtDesc(groupId);
+        if (challenges.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> progress = new HashMap<>();
+        for (Object[] row : groupChallengeShardRepository.sumByChallengeIds(
+                challenges.stream().map(GroupChallenge::getId).toList())) {
+            progress.put((Long) row[0], ((Number) row[1]).doubleValue());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return challenges.stream()
+            .map(challenge -> GroupChallengeResponse.from(challenge,
+                progress.getOrDefault(challenge.getId(), 0.0), now))
+            .toList();
+    }
+
+    /**
+     * 운동 완료 반영
+     */
+    public void recordWorkout(Workout workout) {
+        applyWorkout(workout, 1);
+    }
+
+    /**
+     * 운동 삭제 반영
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        applyWorkout(workout, -1);
+    }
+
+    /**
+     * 운동 시작 시각을 기간에 포함하는 챌린지에 진행도 반영
+     * 삭제된 운동의 차감도 같은 경로로 처리하며, 이미 달성한 챌린지의 달성 표시는 유지한다.
+     * (달성 판정은 동시에 커밋된 증분이 모두 보이도록 커밋 후에 수행)
+     */
+    private void applyWorkout(Workout workout, int sign) {
+        LocalDateTime time = workout.getStartTime();
+        if (time == null) {
+            return;
+        }
+        Long userId = workout.getUser().getId();
+        List<GroupChallenge> challenges = groupChallengeRepository.findCoveringForUser(userId, time);
+
+        for (GroupChallenge challenge : challenges) {
+            double delta = challenge.getMetric().valueOf(workout);
+            if (delta == 0) {
+                continue;
+            }
+            groupChallengeShardRepository.add(challenge.getId(),
+                ThreadLocalRandom.current().nextInt(SHARDS), sign * delta);
+            AfterCommit.run(() -> groupChallengeCompletionService.checkProgress(challenge, userId, sign > 0));
+        }
+    }
+}
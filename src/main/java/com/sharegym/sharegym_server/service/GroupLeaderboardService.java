@@ -0,0 +1,300 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.dto.response.GroupLeaderboardResponse;
+import com.sharegym.sharegym_server.entity.Group;
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.FeedRepository;
+import com.sharegym.sharegym_server.repository.GroupMemberRepository;
+import com.sharegym.sharegym_server.repository.GroupRepository;
+import com.sharegym.sharegym_server.repository.UserRepository;
+import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 리더보드 서비스
+ * 운동 완료 / 그룹 공유가 커밋된 뒤 GroupLeaderboardStore의 기간별 ZSET을 증분 갱신하고,
+ * 조회는 ZSET 상위 구간과 내 순위만 읽는다.
+ * 기간(주/월)이 바뀌면 새 키를 사용하므로 별도의 초기화 작업 없이 순위가 리셋되며,
+ * 키가 유실되었거나 처음 조회되는 기간은 DB 집계로 한 번 재구성한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GroupLeaderboardService {
+
+    public static final int SHARE_CONTRIBUTION = 10; // 공유 1회당 기여도
+    public static final int MAX_LIMIT = 100;
+
+    private static final String KEY_PREFIX = "group:lb:";
+    private static final LocalDateTime ALL_TIME_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final GroupLeaderboardStore groupLeaderboardStore;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final WorkoutRepository workoutRepository;
+    private final FeedRepository feedRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 리더보드 지표
+     */
+    public enum Metric {
+        VOLUME,       // 총 볼륨 (kg)
+        WORKOUTS,     // 완료 운동 수
+        CONTRIBUTION  // 기여도 (공유 등)
+    }
+
+    /**
+     * 집계 기간 (주는 월요일 시작)
+     */
+    public enum Window {
+        WEEK(Duration.ofDays(15)),
+        MONTH(Duration.ofDays(62)),
+        ALL(null);
+
+        private final Duration ttl;
+
+        Window(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public LocalDate startOf(LocalDate date) {
+            return switch (this) {
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+                case ALL -> null;
+            };
+        }
+
+        public LocalDate endOf(LocalDate start) {
+            return switch (this) {
+                case WEEK -> start.plusWeeks(1);
+                case MONTH -> start.plusMonths(1);
+                case ALL -> null;
+            };
+        }
+    }
+
+    public Metric parseMetric(String metric) {
+        try {
+            return Metric.valueOf(metric.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "리더보드 지표는 volume, workouts, contribution 중 하나여야 합니다.");
+        }
+    }
+
+    public Window parseWindow(String window) {
+        try {
+            return Window.valueOf(window.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "리더보드 기간은 week, month, all 중 하나여야 합니다.");
+        }
+    }
+
+    /**
+     * 운동 완료 반영 (사용자가 속한 모든 그룹의 볼륨 / 운동 수)
+     */
+    public void recordWorkout(Workout workout) {
+        applyWorkout(workout, 1);
+    }
+
+    /**
+     * 운동 삭제 반영
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        applyWorkout(workout, -1);
+    }
+
+    /**
+     * 그룹 공유 기여도 반영
+     */
+    public void recordShare(Long groupId, Long userId) {
+        LocalDate today = LocalDate.now();
+        AfterCommit.run(() -> {
+            try {
+                for (Window window : Window.values()) {
+                    groupLeaderboardStore.increment(key(groupId, Metric.CONTRIBUTION, window, today), userId,
+                        SHARE_CONTRIBUTION, window.ttl);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to update contribution leaderboard for group {}: {}", groupId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 그룹 탈퇴 시 현재 기간 리더보드에서 제거
+     */
+    public void removeMember(Long groupId, Long userId) {
+        LocalDate today = LocalDate.now();
+        List<String> keys = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            for (Window window : Window.values()) {
+                keys.add(key(groupId, metric, window, today));
+            }
+        }
+        AfterCommit.run(() -> {
+            try {
+                groupLeaderboardStore.remove(keys, userId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to remove user {} from group {} leaderboards: {}", userId, groupId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 리더보드 조회 (상위 limit명 + 내 순위)
+     */
+    @Transactional(readOnly = true)
+    public GroupLeaderboardResponse getLeaderboard(Long groupId, Long userId, Metric metric, Window window, int limit) {
+        Group group = groupRepository.findById(groupId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+
+        // 비공개 그룹은 멤버만 조회 가능
+        if (!group.getIsPublic() &&
+            !groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "비공개 그룹의 리더보드는 멤버만 조회할 수 있습니다.");
+        }
+
+        LocalDate today = LocalDate.now();
+        String key = key(groupId, metric, window, today);
+        if (!groupLeaderboardStore.isBuilt(key)) {
+            rebuild(groupId, metric, window, today);
+        }
+
+        List<GroupLeaderboardStore.Ranked> top = groupLeaderboardStore.top(key, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        GroupLeaderboardStore.Ranked mine = top.stream()
+            .filter(ranked -> ranked.userId().equals(userId))
+            .findFirst()
+            .orElseGet(() -> groupLeaderboardStore.rankOf(key, userId));
+
+        Set<Long> userIds = top.stream().map(GroupLeaderboardStore.Ranked::userId).collect(Collectors.toSet());
+        userIds.add(userId);
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<GroupLeaderboardResponse.Entry> entries = new ArrayList<>(top.size());
+        for (GroupLeaderboardStore.Ranked ranked : top) {
+            entries.add(toEntry(ranked.userId(), ranked.rank(), ranked.score(), users));
+        }
+
+        LocalDate start = window.startOf(today);
+        return GroupLeaderboardResponse.builder()
+            .groupId(groupId)
+            .metric(metric.name().toLowerCase())
+            .window(window.name().toLowerCase())
+            .periodStart(start)
+            .periodEnd(start != null ? window.endOf(start).minusDays(1) : null)
+            .participantCount(groupLeaderboardStore.size(key))
+            .entries(entries)
+            .me(mine != null
+                ? toEntry(userId, mine.rank(), mine.score(), users)
+                : toEntry(userId, null, 0.0, users))
+            .build();
+    }
+
+    private void applyWorkout(Workout workout, int sign) {
+        Long userId = workout.getUser().getId();
+        List<Long> groupIds = groupMemberRepository.findGroupIdsByUserId(userId);
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        LocalDate date = (workout.getStartTime() != null ? workout.getStartTime() : LocalDateTime.now()).toLocalDate();
+        double volume = workout.getTotalWeight() != null ? workout.getTotalWeight() : 0.0;
+
+        // 롤백된 운동이 점수에 남지 않도록 커밋 후 반영
+        AfterCommit.run(() -> {
+            try {
+                for (Long groupId : groupIds) {
+                    for (Window window : Window.values()) {
+                        if (volume > 0) {
+                            groupLeaderboardStore.increment(key(groupId, Metric.VOLUME, window, date), userId,
+                                sign * volume, window.ttl);
+                        }
+                        groupLeaderboardStore.increment(key(groupId, Metric.WORKOUTS, window, date), userId,
+                            sign, window.ttl);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to update workout leaderboards for user {}: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * DB 집계로 리더보드 재구성
+     * 다른 요청이 재구성 중이면 현재 ZSET을 그대로 사용한다.
+     */
+    private void rebuild(Long groupId, Metric metric, Window window, LocalDate today) {
+        String key = key(groupId, metric, window, today);
+        if (!groupLeaderboardStore.beginRebuild(key)) {
+            return;
+        }
+
+        LocalDate start = window.startOf(today);
+        LocalDateTime from = start != null ? start.atStartOfDay() : ALL_TIME_FROM;
+        LocalDateTime to = start != null ? window.endOf(start).atStartOfDay() : today.plusDays(1).atStartOfDay();
+
+        Map<Long, Double> scores = new HashMap<>();
+        if (metric == Metric.CONTRIBUTION) {
+            List<Object[]> rows = window == Window.ALL
+                ? groupMemberRepository.findContributionScores(groupId)
+                : feedRepository.countSharesByGroupInPeriod(groupId, from, to);
+            int multiplier = window == Window.ALL ? 1 : SHARE_CONTRIBUTION;
+            for (Object[] row : rows) {
+                scores.put((Long) row[0], ((Number) row[1]).doubleValue() * multiplier);
+            }
+        } else {
+            // [userId, 운동 수, 볼륨]
+            int column = metric == Metric.WORKOUTS ? 1 : 2;
+            for (Object[] row : workoutRepository.sumCompletedByGroupMembers(groupId, from, to)) {
+                double score = ((Number) row[column]).doubleValue();
+                if (score > 0) {
+                    scores.put((Long) row[0], score);
+                }
+            }
+        }
+        groupLeaderboardStore.rebuild(key, scores, window.ttl);
+        log.debug("Group {} {} {} leaderboard rebuilt", groupId, metric, window);
+    }
+
+    private static String key(Long groupId, Metric metric, Window window, LocalDate date) {
+        LocalDate start = window.startOf(date);
+        return KEY_PREFIX + groupId + ":" + metric.name().toLowerCase() + ":"
+            + (start != null ? window.name().toLowerCase() + ":" + start : "all");
+    }
+
+    private static GroupLeaderboardResponse.Entry toEntry(Long userId, Long rank, double score, Map<Long, User> users) {
+        User user = users.get(userId);
+        return GroupLeaderboardResponse.Entry.builder()
+            .rank(rank)
+            .userId(userId)
+            .username(user != null ? user.getUsername() : null)
+            .displayName(user != null ? user.getDisplayName() : null)
+            .profileImageUrl(user != null ? user.getProfileImageUrl() : null)
+            .score(score)
+            .build();
+    }
+}
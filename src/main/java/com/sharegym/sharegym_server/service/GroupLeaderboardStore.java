@@ -0,0 +1,217 @@
+package com.sharegym.sharegym_server.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 그룹 리더보드 저장소 (Redis ZSET)
+ * 점수 변경은 ZINCRBY, 순위 조회는 ZREVRANGE / ZREVRANK로 처리한다.
+ * 기간별 키는 만료 시간을 두어 기간이 끝나면 자연스럽게 정리된다.
+ * 재구성은 임시 키에 DB 집계를 채운 뒤 교체하며, 재구성 중 들어온 증감은 별도 키에도 기록했다가
+ * 교체 시 합산하므로 DB 집계 이후에 커밋된 운동이 빠지지 않는다.
+ * Redis가 없으면 (dev/test) 메모리에 보관한다.
+ *
+ * Redis 키 구조
+ * - group:lb:{groupId}:{metric}:{period}            : ZSET (member: 사용자 ID, score: 점수)
+ * - group:lb:{groupId}:{metric}:{period}:built      : DB 기준 재구성 완료 표시
+ * - group:lb:{groupId}:{metric}:{period}:rebuilding : 재구성 진행 표시 (한 요청만 재구성)
+ * - group:lb:{groupId}:{metric}:{period}:delta      : 재구성 중 들어온 증감
+ * - group:lb:{groupId}:{metric}:{period}:tmp        : 재구성 중인 ZSET
+ */
+@Slf4j
+@Component
+public class GroupLeaderboardStore {
+
+    private static final String BUILT_SUFFIX = ":built";
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final String DELTA_SUFFIX = ":delta";
+    private static final String TMP_SUFFIX = ":tmp";
+    private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(1);
+
+    // 점수 증감 (재구성 중이면 delta 키에도 기록)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]) " +
+        "if tonumber(ARGV[3]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[3]) end " +
+        "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('ZINCRBY', KEYS[3], ARGV[2], ARGV[1]) end " +
+        "return 1", Long.class);
+
+    // 재구성 결과(tmp) + 재구성 중 증감(delta)으로 교체 후 재구성 완료 표시
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[2], KEYS[3]) " +
+        "redis.call('DEL', KEYS[2], KEYS[3], KEYS[4]) " +
+        "if tonumber(ARGV[1]) > 0 then " +
+        "  redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "  redis.call('SET', KEYS[5], ARGV[2], 'EX', ARGV[1]) " +
+        "else " +
+        "  redis.call('SET', KEYS[5], ARGV[2]) " +
+        "end " +
+        "return 1", Long.class);
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소
+    private final Map<String, Map<Long, Double>> localBoards = new ConcurrentHashMap<>();
+    private final Set<String> localBuilt = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 순위 항목 (rank는 1부터)
+     */
+    public record Ranked(Long userId, double score, long rank) {
+    }
+
+    /**
+     * 점수 증감 (ttl이 null이면 만료 없음)
+     */
+    public void increment(String key, Long userId, double delta, Duration ttl) {
+        if (redisTemplate != null) {
+            redisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(key, key + REBUILDING_SUFFIX, key + DELTA_SUFFIX),
+                userId.toString(), delta, ttl != null ? ttl.getSeconds() : 0L);
+            return;
+        }
+        synchronized (localBoards) {
+            localBoards.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).merge(userId, delta, Double::sum);
+        }
+    }
+
+    /**
+     * 멤버 제거 (그룹 탈퇴 시)
+     */
+    public void remove(Collection<String> keys, Long userId) {
+        for (String key : keys) {
+            if (redisTemplate != null) {
+                redisTemplate.opsForZSet().remove(key, userId.toString());
+            } else {
+                Map<Long, Double> board = localBoards.get(key);
+                if (board != null) {
+                    board.remove(userId);
+                }
+            }
+        }
+    }
+
+    /**
+     * DB 기준 재구성 여부
+     */
+    public boolean isBuilt(String key) {
+        if (redisTemplate != null) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key + BUILT_SUFFIX));
+        }
+        return localBuilt.contains(key);
+    }
+
+    /**
+     * 재구성 시작 (DB 집계 전에 호출, 다른 요청이 재구성 중이면 false)
+     * 이후 들어오는 증감은 delta 키에도 기록된다.
+     */
+    public boolean beginRebuild(String key) {
+        if (redisTemplate != null) {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key + REBUILDING_SUFFIX, "1", REBUILD_TIMEOUT);
+            if (!Boolean.TRUE.equals(acquired)) {
+                return false;
+            }
+            redisTemplate.delete(key + DELTA_SUFFIX);
+            return true;
+        }
+        return true;
+    }
+
+    /**
+     * DB 집계 점수 + 재구성 중 증감으로 리더보드를 교체하고 재구성 완료 표시
+     */
+    public void rebuild(String key, Map<Long, Double> scores, Duration ttl) {
+        if (redisTemplate != null) {
+            String tmpKey = key + TMP_SUFFIX;
+            redisTemplate.delete(tmpKey);
+            if (!scores.isEmpty()) {
+                Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+                scores.forEach((userId, score) -> tuples.add(new DefaultTypedTuple<>(userId.toString(), score)));
+                redisTemplate.opsForZSet().add(tmpKey, tuples);
+            }
+            redisTemplate.execute(SWAP_SCRIPT,
+                List.of(key, tmpKey, key + DELTA_SUFFIX, key + REBUILDING_SUFFIX, key + BUILT_SUFFIX),
+                ttl != null ? ttl.getSeconds() : 0L, "1");
+            return;
+        }
+        synchronized (localBoards) {
+            localBoards.put(key, new ConcurrentHashMap<>(scores));
+            localBuilt.add(key);
+        }
+    }
+
+    /**
+     * 상위 순위 조회
+     */
+    public List<Ranked> top(String key, int limit) {
+        List<Ranked> ranked = new ArrayList<>();
+        if (redisTemplate != null) {
+            Set<ZSetOperations.TypedTuple<Object>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+            if (tuples == null) {
+                return ranked;
+            }
+            for (ZSetOperations.TypedTuple<Object> tuple : tuples) {
+                ranked.add(new Ranked(Long.valueOf(String.valueOf(tuple.getValue())),
+                    tuple.getScore() != null ? tuple.getScore() : 0.0, ranked.size() + 1));
+            }
+            return ranked;
+        }
+        List<Map.Entry<Long, Double>> entries = sortedLocal(key);
+        for (int i = 0; i < Math.min(limit, entries.size()); i++) {
+            ranked.add(new Ranked(entries.get(i).getKey(), entries.get(i).getValue(), i + 1));
+        }
+        return ranked;
+    }
+
+    /**
+     * 사용자 순위 조회 (없으면 null)
+     */
+    public Ranked rankOf(String key, Long userId) {
+        if (redisTemplate != null) {
+            Long rank = redisTemplate.opsForZSet().reverseRank(key, userId.toString());
+            Double score = redisTemplate.opsForZSet().score(key, userId.toString());
+            if (rank == null || score == null) {
+                return null;
+            }
+            return new Ranked(userId, score, rank + 1);
+        }
+        List<Map.Entry<Long, Double>> entries = sortedLocal(key);
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i).getKey().equals(userId)) {
+                return new Ranked(userId, entries.get(i).getValue(), i + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 참여 인원 수
+     */
+    public long size(String key) {
+        if (redisTemplate != null) {
+            Long size = redisTemplate.opsForZSet().zCard(key);
+            return size != null ? size : 0L;
+        }
+        Map<Long, Double> board = localBoards.get(key);
+        return board != null ? board.size() : 0L;
+    }
+
+    private List<Map.Entry<Long, Double>> sortedLocal(String key) {
+        Map<Long, Double> board = localBoards.getOrDefault(key, Map.of());
+        return board.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+            .toList();
+    }
+}
@@ -1,9 +1,12 @@
 package com.sharegym.sharegym_server.service;
 
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.common.InviteCodeGenerator;
 import com.sharegym.sharegym_server.dto.request.CreateGroupRequest;
 import com.sharegym.sharegym_server.dto.request.JoinGroupRequest;
 import com.sharegym.sharegym_server.dto.request.ShareToGroupRequest;
 import com.sharegym.sharegym_server.dto.response.GroupResponse;
+import com.sharegym.sharegym_server.dto.response.GroupMemberPageResponse;
 import com.sharegym.sharegym_server.dto.response.GroupMemberResponse;
 import com.sharegym.sharegym_server.dto.response.GroupPostResponse;
 import com.sharegym.sharegym_server.entity.*;
@@ -14,11 +17,18 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -29,12 +39,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class GroupService {
 
+    public static final int MAX_MEMBER_PAGE_SIZE = 100;
+    private static final int MAX_INVITE_CODE_ATTEMPTS = 10;
+
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final UserRepository userRepository;
     private final FeedRepository feedRepository;
     private final WorkoutRepository workoutRepository;
     private final NotificationService notificationService;
+    private final GroupLeaderboardService groupLeaderboardService;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final SearchIndexService searchIndexService;
 
     /**
      * 그룹 생성
@@ -44,21 +60,20 @@ public class GroupService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // 초대 코드 생성 (중복 방지)
-        String inviteCode = generateUniqueInviteCode();
-
         Group group = Group.builder()
             .name(request.getName())
             .description(request.getDescription())
             .isPublic(request.getIsPublic() != null ? request.getIsPublic() : false)
             .profileImageUrl(request.getProfileImageUrl())
-            .inviteCode(inviteCode)
             .memberCount(1)  // 생성자 포함
             .maxMembers(request.getMaxMembers() != null ? request.getMaxMembers() : 100)
             .build();
 
         Group savedGroup = groupRepository.save(group);
 
+        // 초대 코드 발급 (중복 시 새 코드로 재시도, 엔티티에는 값만 맞춰 두고 UPDATE는 발생하지 않음)
+        savedGroup.setInviteCode(assignInviteCode(savedGroup.getId()));
+
         // 생성자를 관리자로 추가
         GroupMember creator = GroupMember.builder()
             .group(savedGroup)
@@ -68,10 +83,11 @@ public class GroupService {
 
         groupMemberRepository.save(creator);
         savedGroup.getMembers().add(creator);
+        AfterCommit.run(() -> searchIndexService.indexGroup(savedGroup));
 
         log.info("Group created: {} by user: {}", savedGroup.getId(), user.getEmail());
 
-        return GroupResponse.from(savedGroup, true);  // 생성자는 당연히 멤버
+        return GroupResponse.from(savedGroup, true, true);  // 생성자는 관리자
     }
 
     /**
@@ -85,26 +101,24 @@ public class GroupService {
         Group group = groupRepository.findByInviteCode(request.getInviteCode())
             .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
 
-        // 이미 가입했는지 확인
-        if (groupMemberRepository.existsByGroupAndUser(group, user)) {
+        // 재요청/정원 초과는 잠금 없이 먼저 거절 (최종 판정은 아래 조건부 UPDATE와 유니크 제약)
+        if (groupMemberRepository.existsByGroupIdAndUserId(group.getId(), userId)) {
             throw new BusinessException(ErrorCode.ALREADY_GROUP_MEMBER);
         }
-
-        // 그룹이 가득 찼는지 확인
         if (group.isFull()) {
             throw new BusinessException(ErrorCode.GROUP_FULL);
         }
 
-        // 그룹 멤버 추가
-        GroupMember member = GroupMember.builder()
-            .group(group)
-            .user(user)
-            .role(GroupMember.MemberRole.MEMBER)
-            .build();
+        // 정원 확보: 그룹 행 잠금을 먼저 잡아야 멤버 INSERT(외래키 공유 잠금)와 교착이 생기지 않는다
+        if (groupRepository.incrementMemberCount(group.getId()) == 0) {
+            throw new BusinessException(ErrorCode.GROUP_FULL);
+        }
 
-        groupMemberRepository.save(member);
-        group.addMember(member);
-        groupRepository.save(group);
+        // 멤버 추가 (동시 중복 가입은 유니크 제약으로 실패 → 롤백으로 정원도 반환)
+        if (!groupMemberRepository.insertIfAbsent(group.getId(), userId,
+                GroupMember.MemberRole.MEMBER, LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.ALREADY_GROUP_MEMBER);
+        }
 
         // SSE 알림 전송
         notificationService.notifyGroupJoin(group, user);
@@ -112,7 +126,9 @@ public class GroupService {
         log.info("User {} joined group {} with invite code: {}",
                  userId, group.getId(), request.getInviteCode());
 
-        return GroupResponse.from(group, true);
+        // 증가된 멤버 수 반영
+        Group joined = groupRepository.findById(group.getId()).orElse(group);
+        return GroupResponse.from(joined, true, false);
     }
 
     /**
@@ -140,27 +156,61 @@ public class GroupService {
             }
         }
 
-        // 멤버 삭제
-        groupMemberRepository.delete(member);
-        group.removeMember(member);
-        groupRepository.save(group);
+        // 멤버 삭제 (실제로 삭제한 요청만 멤버 수 감소)
+        if (groupMemberRepository.deleteMemberById(member.getId()) > 0) {
+            groupRepository.decrementMemberCount(groupId);
+        }
+        groupLeaderboardService.removeMember(groupId, userId);
 
         log.info("User {} left group {}", userId, groupId);
     }
 
+    /**
+     * 멤버 수 점검 결과 (조회한 마지막 그룹 ID / 실제 멤버 수와 다른 그룹 ID)
+     */
+    public record MemberCountScan(Long lastGroupId, List<Long> driftedGroupIds) {
+    }
+
+    /**
+     * 멤버 수 정합성 점검 (afterId 다음부터 id 순으로 batchSize개 그룹)
+     * 가입/탈퇴는 멤버 수를 원자적으로 증감하므로, 이 작업은 예외 상황에서 생긴 차이만 찾는다.
+     * @return 더 점검할 그룹이 없으면 null
+     */
+    @Transactional(readOnly = true)
+    public MemberCountScan scanMemberCounts(Long afterId, int batchSize) {
+        List<Object[]> rows = groupRepository.findMemberCountsAfter(afterId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : rows) {
+            if (((Number) row[1]).longValue() != ((Number) row[2]).longValue()) {
+                drifted.add((Long) row[0]);
+            }
+        }
+        return new MemberCountScan((Long) rows.get(rows.size() - 1)[0], drifted);
+    }
+
+    /**
+     * 그룹 한 곳의 멤버 수 보정 (그룹별 짧은 트랜잭션, 보정 시점의 실제 멤버 수로 다시 계산)
+     * @return 보정 여부
+     */
+    @Transactional
+    public boolean reconcileMemberCount(Long groupId) {
+        return groupRepository.reconcileMemberCount(groupId) > 0;
+    }
+
     /**
      * 사용자가 속한 그룹 목록 조회
      */
     @Transactional(readOnly = true)
     public List<GroupResponse> getUserGroups(Long userId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
         List<Group> groups = groupRepository.findByMembersUserId(userId);
-
-        return groups.stream()
-            .map(group -> GroupResponse.from(group, true))  // 이미 멤버
-            .collect(Collectors.toList());
+        return toResponses(groups, userId);
     }
 
     /**
@@ -171,17 +221,16 @@ public class GroupService {
         Group group = groupRepository.findById(groupId)
             .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
-        boolean isMember = userId != null &&
-            groupMemberRepository.existsByGroupIdAndUserId(groupId, userId);
-
-        return GroupResponse.from(group, isMember);
+        return toResponses(List.of(group), userId).get(0);
     }
 
     /**
-     * 그룹 멤버 목록 조회
+     * 그룹 멤버 목록 조회 (역할 순 → 가입 순, 커서 기반)
+     * 역할별로 (group_id, role, joined_at) 인덱스 구간을 이어서 읽으며,
+     * 전체 멤버 수는 COUNT 없이 groups.member_count 값을 사용한다.
      */
     @Transactional(readOnly = true)
-    public List<GroupMemberResponse> getGroupMembers(Long groupId, Long userId) {
+    public GroupMemberPageResponse getGroupMembers(Long groupId, Long userId, String cursor, int limit) {
         Group group = groupRepository.findById(groupId)
             .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
 
@@ -192,11 +241,40 @@ public class GroupService {
                 "비공개 그룹의 멤버 목록은 멤버만 조회할 수 있습니다.");
         }
 
-        List<GroupMember> members = groupMemberRepository.findByGroupId(groupId);
+        int pageSize = Math.max(1, Math.min(limit, MAX_MEMBER_PAGE_SIZE));
+        MemberCursor after = MemberCursor.decode(cursor);
 
-        return members.stream()
-            .map(GroupMemberResponse::from)
-            .collect(Collectors.toList());
+        // 다음 페이지 여부 확인을 위해 한 건 더 조회
+        List<GroupMemberResponse> members = new ArrayList<>(pageSize + 1);
+        for (GroupMember.MemberRole role : GroupMember.MemberRole.values()) {
+            if (role.ordinal() < after.role().ordinal()) {
+                continue;
+            }
+            boolean sameRole = role == after.role();
+            members.addAll(groupMemberRepository.findPageByRole(groupId, role,
+                sameRole ? after.joinedAt() : MemberCursor.START.joinedAt(),
+                sameRole ? after.memberId() : MemberCursor.START.memberId(),
+                PageRequest.of(0, pageSize + 1 - members.size())));
+            if (members.size() > pageSize) {
+                break;
+            }
+        }
+
+        boolean hasMore = members.size() > pageSize;
+        List<GroupMemberResponse> items = hasMore ? members.subList(0, pageSize) : members;
+        String nextCursor = null;
+        if (hasMore) {
+            GroupMemberResponse last = items.get(items.size() - 1);
+            nextCursor = new MemberCursor(GroupMember.MemberRole.valueOf(last.getRole()),
+                last.getJoinedAt(), last.getId()).encode();
+        }
+
+        return GroupMemberPageResponse.builder()
+            .items(new ArrayList<>(items))
+            .nextCursor(nextCursor)
+            .hasMore(hasMore)
+            .totalCount(group.getMemberCount())
+            .build();
     }
 
     /**
@@ -279,8 +357,9 @@ public class GroupService {
         // 기여도 점수 증가
         GroupMember member = groupMemberRepository.findByGroupAndUser(group, user)
             .orElseThrow(() -> new BusinessException(ErrorCode.NOT_GROUP_MEMBER));
-        member.increaseContribution(10);  // 공유 시 10점
+        member.increaseContribution(GroupLeaderboardService.SHARE_CONTRIBUTION);
         groupMemberRepository.save(member);
+        groupLeaderboardService.recordShare(group.getId(), userId);
 
         log.info("User {} shared to group {}: feed {}",
                  userId, request.getGroupId(), savedFeed.getId());
@@ -292,7 +371,7 @@ public class GroupService {
      * 공개 그룹 목록 조회
      */
     @Transactional(readOnly = true)
-    public Page<GroupResponse> getPublicGroups(String sortBy, Pageable pageable) {
+    public Page<GroupResponse> getPublicGroups(Long userId, String sortBy, Pageable pageable) {
         Page<Group> groups;
 
         if ("popular".equals(sortBy)) {
@@ -301,32 +380,85 @@ public class GroupService {
             groups = groupRepository.findByIsPublicTrueAndIsActiveTrueOrderByCreatedAtDesc(pageable);
         }
 
-        return groups.map(group -> GroupResponse.from(group, false));
+        return new PageImpl<>(toResponses(groups.getContent(), userId), pageable, groups.getTotalElements());
     }
 
     /**
      * 그룹 검색
      */
     @Transactional(readOnly = true)
-    public Page<GroupResponse> searchGroups(String keyword, Pageable pageable) {
-        Page<Group> groups = groupRepository.searchByName(keyword, pageable);
-        return groups.map(group -> GroupResponse.from(group, false));
+    public Page<GroupResponse> searchGroups(Long userId, String keyword, Pageable pageable) {
+        NgramSearchIndex.Result result = searchIndexService.searchGroups(keyword, pageable.getOffset(),
+            pageable.getPageSize());
+        Map<Long, Group> loaded = groupRepository.findAllById(result.ids()).stream()
+            .collect(Collectors.toMap(Group::getId, group -> group));
+
+        // 색인 순서 유지 (색인 갱신 전 삭제된 그룹은 제외)
+        List<Group> groups = result.ids().stream()
+            .map(loaded::get)
+            .filter(group -> group != null)
+            .toList();
+        return new PageImpl<>(toResponses(groups, userId), pageable, result.total());
     }
 
     /**
-     * 유니크한 초대 코드 생성
+     * 그룹 목록을 응답으로 변환 (조회자의 멤버 여부 / 관리자 여부를 한 번의 조회로 확인)
      */
-    private String generateUniqueInviteCode() {
-        String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder code = new StringBuilder();
-
-        do {
-            code.setLength(0);
-            for (int i = 0; i < 6; i++) {
-                code.append(chars.charAt((int) (Math.random() * chars.length())));
+    private List<GroupResponse> toResponses(List<Group> groups, Long userId) {
+        Map<Long, GroupMember.MemberRole> roles = new HashMap<>();
+        if (userId != null && !groups.isEmpty()) {
+            for (Object[] row : groupMemberRepository.findRolesByUserIdAndGroupIds(userId,
+                    groups.stream().map(Group::getId).toList())) {
+                roles.put((Long) row[0], (GroupMember.MemberRole) row[1]);
             }
-        } while (groupRepository.existsByInviteCode(code.toString()));
+        }
 
-        return code.toString();
+        List<GroupResponse> responses = new ArrayList<>(groups.size());
+        for (Group group : groups) {
+            GroupMember.MemberRole role = roles.get(group.getId());
+            responses.add(GroupResponse.from(group, role != null, role == GroupMember.MemberRole.ADMIN));
+        }
+        return responses;
+    }
+
+    /**
+     * 유니크한 초대 코드 발급
+     * 사전 조회 없이 코드를 지정하고, 유니크 제약에 걸리면 새 코드로 다시 시도한다.
+     */
+    private String assignInviteCode(Long groupId) {
+        for (int attempt = 0; attempt < MAX_INVITE_CODE_ATTEMPTS; attempt++) {
+            String code = inviteCodeGenerator.generate();
+            if (groupRepository.assignInviteCode(groupId, code)) {
+                return code;
+            }
+        }
+        throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "초대 코드 발급에 실패했습니다.");
+    }
+
+    /**
+     * 멤버 목록 커서 (역할, 가입 시각, 멤버 ID)
+     */
+    private record MemberCursor(GroupMember.MemberRole role, LocalDateTime joinedAt, Long memberId) {
+
+        static final MemberCursor START = new MemberCursor(
+            GroupMember.MemberRole.values()[0], LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+        String encode() {
+            String raw = role.name() + "|" + joinedAt + "|" + memberId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static MemberCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return START;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                return new MemberCursor(GroupMember.MemberRole.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]), Long.valueOf(parts[2]));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,171 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.dto.live.LiveSetState;
+import com.sharegym.sharegym_server.dto.request.SetRequest;
+import com.sharegym.sharegym_server.dto.response.SetResponse;
+import com.sharegym.sharegym_server.dto.response.SetUpdateResponse;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.WorkoutExerciseRepository;
+import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import com.sharegym.sharegym_server.repository.WorkoutSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 진행 중인 운동 세션 서비스
+ * 세트 기록은 LiveWorkoutStore(Redis)에만 반영하고 구독자에게 workout:update 이벤트로 전달한다.
+ * DB 반영은 운동 완료 시 또는 주기적 체크포인트에서 한 번의 배치로 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveWorkoutService {
+
+    private final LiveWorkoutStore liveWorkoutStore;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 세트 추가/업데이트 (세션 저장소에 반영)
+     * 세션이 적재된 이후에는 DB에 접근하지 않는다.
+     */
+    public SetUpdateResponse updateSet(Long userId, Long workoutId, Long exerciseId, SetRequest request) {
+        LiveWorkoutStore.SessionInfo session = loadSession(workoutId);
+
+        if (!session.userId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "해당 운동에 대한 권한이 없습니다.");
+        }
+        if (!liveWorkoutStore.hasExercise(workoutId, exerciseId)) {
+            throw new BusinessException(ErrorCode.EXERCISE_NOT_FOUND,
+                "해당 운동을 찾을 수 없습니다.");
+        }
+
+        // 기존 세트에 요청 값 반영 (읽기-변경-쓰기와 합계 증감을 원자적으로 처리)
+        LiveWorkoutStore.SetChange change = liveWorkoutStore.applySet(workoutId, exerciseId, request.getSetNumber(),
+            current -> {
+                WorkoutSet set = current != null
+                    ? current.toWorkoutSet()
+                    : WorkoutSet.builder().setNumber(request.getSetNumber()).build();
+                request.applyTo(set);
+                return LiveSetState.from(set, exerciseId);
+            });
+        if (change == null) {
+            throw new BusinessException(ErrorCode.LIVE_SET_CONFLICT);
+        }
+        WorkoutSet workoutSet = change.updated().toWorkoutSet();
+        LiveWorkoutStore.LiveTotals totals = change.totals();
+
+        SetUpdateResponse response = SetUpdateResponse.builder()
+            .workoutId(workoutId)
+            .workoutExerciseId(exerciseId)
+            .set(SetResponse.from(workoutSet))
+            .exerciseCompletedSets(totals.exerciseSets())
+            .exerciseTotalVolume(totals.exerciseVolume())
+            .totalSets(totals.totalSets())
+            .totalReps(totals.totalReps())
+            .totalWeight(totals.totalWeight())
+            .build();
+
+        // 구독자에게 변경분 전송
+        notificationService.notifyWorkoutUpdate(workoutId, userId, session.userName(), "SET_UPDATED", response);
+
+        log.debug("Live set updated for workout: {} exercise: {} set: {}",
+            workoutId, exerciseId, request.getSetNumber());
+        return response;
+    }
+
+    /**
+     * 세션 저장소의 미반영 세트를 DB에 반영 (체크포인트)
+     * 별도 트랜잭션으로 커밋하므로 이후 조회/완료 처리에서 반영된 세트를 읽을 수 있다.
+     * 미반영 표시는 커밋 후에 해제하므로 커밋 실패 / 중단 시에도 다음 체크포인트에서 다시 반영된다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int flush(Long workoutId) {
+        LiveWorkoutStore.DirtySets dirty = liveWorkoutStore.peekDirtySets(workoutId);
+        List<LiveSetState> dirtySets = dirty.sets();
+        if (!dirtySets.isEmpty()) {
+            List<WorkoutSet> sets = new ArrayList<>(dirtySets.size());
+            for (LiveSetState state : dirtySets) {
+                WorkoutSet set = state.toWorkoutSet();
+                set.setWorkoutExercise(workoutExerciseRepository.getReferenceById(state.getWorkoutExerciseId()));
+                sets.add(set);
+            }
+            workoutSetRepository.upsertBySetNumber(sets);
+
+            // 누적 합계도 함께 반영
+            LiveWorkoutStore.LiveTotals totals = liveWorkoutStore.getTotals(workoutId);
+            if (totals != null) {
+                workoutRepository.updateTotals(workoutId, totals.totalSets(), totals.totalReps(),
+                    totals.totalWeight(), (int) Math.round(totals.totalWeight()));
+            }
+        }
+        AfterCommit.run(() -> liveWorkoutStore.clearDirty(workoutId, dirty.versions()));
+
+        if (!dirtySets.isEmpty()) {
+            log.debug("Live workout {} flushed: {} sets", workoutId, dirtySets.size());
+        }
+        return dirtySets.size();
+    }
+
+    /**
+     * 적재된 세션의 소유자인지 확인 (세션이 없으면 false)
+     */
+    public boolean isSessionOwner(Long workoutId, Long userId) {
+        LiveWorkoutStore.SessionInfo session = liveWorkoutStore.getSessionInfo(workoutId);
+        return session != null && session.userId().equals(userId);
+    }
+
+    /**
+     * 세션 저장소 제거
+     */
+    public void evict(Long workoutId) {
+        liveWorkoutStore.evict(workoutId);
+    }
+
+    /**
+     * 운동 추가 시 적재된 세션에 반영
+     */
+    public void onExerciseAdded(Long workoutId, Long workoutExerciseId) {
+        liveWorkoutStore.addExercise(workoutId, workoutExerciseId);
+    }
+
+    /**
+     * 세션 정보 조회 (없으면 DB에서 적재)
+     */
+    private LiveWorkoutStore.SessionInfo loadSession(Long workoutId) {
+        LiveWorkoutStore.SessionInfo session = liveWorkoutStore.getSessionInfo(workoutId);
+        if (session != null) {
+            return session;
+        }
+
+        Workout workout = workoutRepository.findWithUserById(workoutId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.WORKOUT_NOT_FOUND));
+        if (workout.getStatus() != Workout.WorkoutStatus.IN_PROGRESS) {
+            throw new BusinessException(ErrorCode.WORKOUT_ALREADY_COMPLETED);
+        }
+
+        List<Long> exerciseIds = workoutExerciseRepository.findIdsByWorkoutId(workoutId);
+        List<LiveSetState> sets = new ArrayList<>();
+        for (WorkoutSet set : workoutSetRepository.findByWorkoutId(workoutId)) {
+            sets.add(LiveSetState.from(set, set.getWorkoutExercise().getId()));
+        }
+
+        Long userId = workout.getUser().getId();
+        String userName = workout.getUser().getDisplayName();
+        liveWorkoutStore.load(workoutId, userId, userName, exerciseIds, sets);
+        return new LiveWorkoutStore.SessionInfo(userId, userName);
+    }
+}
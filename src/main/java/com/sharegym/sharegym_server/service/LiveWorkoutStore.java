@@ -0,0 +1,488 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.live.LiveSetState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * 진행 중인 운동 세션 상태 저장소
+ * Redis가 있으면 운동별 해시에, 없으면 (dev/test) 메모리에 보관한다.
+ *
+ * Redis 키 구조
+ * - workout:live:{id}:meta  : userId, userName, ex:{workoutExerciseId},
+ *                             누적 합계(totalSets, totalReps, totalWeight, exSets:{id}, exVolume:{id})
+ * - workout:live:{id}:sets  : {workoutExerciseId}:{setNumber} → LiveSetState
+ * - workout:live:{id}:pending : DB 미반영 세트 필드 → 변경 버전 (세트 저장마다 증가)
+ * - workout:live:dirty        : DB 미반영 세트가 있는 운동 ID
+ *
+ * DB 반영은 미반영 세트를 표시는 그대로 둔 채 읽고(peekDirtySets), 커밋 후 반영한 버전과 같은 표시만
+ * 해제한다(clearDirty). 커밋 실패나 중단 시에도 표시가 남아 다음 체크포인트에서 다시 반영된다.
+ */
+@Slf4j
+@Component
+public class LiveWorkoutStore {
+
+    private static final String KEY_PREFIX = "workout:live:";
+    private static final String DIRTY_WORKOUTS_KEY = "workout:live:dirty";
+    private static final String EXERCISE_FIELD_PREFIX = "ex:";
+    private static final String EXERCISE_SETS_PREFIX = "exSets:";
+    private static final String EXERCISE_VOLUME_PREFIX = "exVolume:";
+    private static final String TOTAL_SETS = "totalSets";
+    private static final String TOTAL_REPS = "totalReps";
+    private static final String TOTAL_WEIGHT = "totalWeight";
+
+    // 마지막 변경 후 보관 시간 (체크포인트가 먼저 DB에 반영함)
+    private static final Duration TTL = Duration.ofHours(12);
+
+    // 세트 동시 변경 시 재시도 횟수
+    private static final int MAX_SET_ATTEMPTS = 5;
+
+    // 반영한 버전과 같은 미반영 표시만 해제하고, 남은 표시가 없으면 미반영 운동 목록에서 제거
+    private static final RedisScript<Long> CLEAR_DIRTY_SCRIPT = new DefaultRedisScript<>(
+        "for i = 2, #ARGV, 2 do " +
+        "  if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then redis.call('HDEL', KEYS[1], ARGV[i]) end " +
+        "end " +
+        "local remaining = redis.call('HLEN', KEYS[1]) " +
+        "if remaining == 0 then redis.call('SREM', KEYS[2], ARGV[1]) end " +
+        "return remaining", Long.class);
+
+    // 세션이 없을 때만 세트 / 메타를 한 번에 기록 (ARGV: TTL초, 세트 필드 수, 세트 필드/값..., 메타 필드/값...)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+        "local setEnd = 2 + tonumber(ARGV[2]) * 2 " +
+        "if setEnd > 2 then redis.call('HSET', KEYS[2], unpack(ARGV, 3, setEnd)) end " +
+        "redis.call('HSET', KEYS[1], unpack(ARGV, setEnd + 1, #ARGV)) " +
+        "for i = 1, #KEYS do redis.call('EXPIRE', KEYS[i], ARGV[1]) end " +
+        "return 1", Long.class);
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소
+    private final Map<Long, LocalSession> localSessions = new ConcurrentHashMap<>();
+    private final Set<Long> localDirtyWorkouts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 세션 소유자 정보 (적재되지 않았으면 null)
+     */
+    public SessionInfo getSessionInfo(Long workoutId) {
+        if (redisTemplate != null) {
+            List<Object> values = redisTemplate.opsForHash()
+                .multiGet(metaKey(workoutId), List.<Object>of("userId", "userName"));
+            if (values.get(0) == null) {
+                return null;
+            }
+            return new SessionInfo(Long.valueOf(values.get(0).toString()), (String) values.get(1));
+        }
+        LocalSession session = localSessions.get(workoutId);
+        return session != null ? new SessionInfo(session.userId, session.userName) : null;
+    }
+
+    /**
+     * DB 상태로 세션 적재
+     * 이미 적재된 세션은 그대로 둔다. (늦게 끝난 적재가 그 사이 변경된 세트 / 합계를 덮어쓰지 않도록)
+     */
+    public void load(Long workoutId, Long userId, String userName,
+                     Collection<Long> workoutExerciseIds, Collection<LiveSetState> sets) {
+        if (redisTemplate != null) {
+            Map<String, Object> meta = new HashMap<>();
+            meta.put("userId", userId.toString());
+            meta.put("userName", userName);
+            for (Long workoutExerciseId : workoutExerciseIds) {
+                meta.put(EXERCISE_FIELD_PREFIX + workoutExerciseId, Boolean.TRUE);
+                meta.put(EXERCISE_SETS_PREFIX + workoutExerciseId, 0);
+                meta.put(EXERCISE_VOLUME_PREFIX + workoutExerciseId, 0.0);
+            }
+            int totalSets = 0;
+            int totalReps = 0;
+            double totalWeight = 0.0;
+            Map<String, Object> setValues = new HashMap<>();
+            for (LiveSetState set : sets) {
+                setValues.put(set.fieldKey(), set);
+                if (set.counted()) {
+                    totalSets++;
+                    totalReps += set.countedReps();
+                    totalWeight += set.countedVolume();
+                    meta.merge(EXERCISE_SETS_PREFIX + set.getWorkoutExerciseId(), 1,
+                        (a, b) -> (Integer) a + (Integer) b);
+                    meta.merge(EXERCISE_VOLUME_PREFIX + set.getWorkoutExerciseId(), set.countedVolume(),
+                        (a, b) -> (Double) a + (Double) b);
+                }
+            }
+            meta.put(TOTAL_SETS, totalSets);
+            meta.put(TOTAL_REPS, totalReps);
+            meta.put(TOTAL_WEIGHT, totalWeight);
+            seed(workoutId, setValues, meta);
+            return;
+        }
+        LocalSession session = new LocalSession(userId, userName);
+        session.exerciseIds.addAll(workoutExerciseIds);
+        for (LiveSetState set : sets) {
+            session.sets.put(set.fieldKey(), set);
+            session.increment(set.getWorkoutExerciseId(), set.counted() ? 1 : 0,
+                set.countedReps(), set.countedVolume());
+        }
+        localSessions.putIfAbsent(workoutId, session);
+    }
+
+    /**
+     * 적재된 세션에 운동 추가
+     */
+    public void addExercise(Long workoutId, Long workoutExerciseId) {
+        if (redisTemplate != null) {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(metaKey(workoutId)))) {
+                redisTemplate.opsForHash().put(metaKey(workoutId),
+                    EXERCISE_FIELD_PREFIX + workoutExerciseId, Boolean.TRUE);
+            }
+            return;
+        }
+        LocalSession session = localSessions.get(workoutId);
+        if (session != null) {
+            session.exerciseIds.add(workoutExerciseId);
+        }
+    }
+
+    /**
+     * 세션에 속한 운동인지 확인
+     */
+    public boolean hasExercise(Long workoutId, Long workoutExerciseId) {
+        if (redisTemplate != null) {
+            return Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(metaKey(workoutId),
+                EXERCISE_FIELD_PREFIX + workoutExerciseId));
+        }
+        LocalSession session = localSessions.get(workoutId);
+        return session != null && session.exerciseIds.contains(workoutExerciseId);
+    }
+
+    /**
+     * 세션의 전체 세트 조회
+     */
+    public List<LiveSetState> getSets(Long workoutId) {
+        if (redisTemplate != null) {
+            List<LiveSetState> sets = new ArrayList<>();
+            for (Object value : redisTemplate.opsForHash().values(setsKey(workoutId))) {
+                sets.add((LiveSetState) value);
+            }
+            return sets;
+        }
+        LocalSession session = localSessions.get(workoutId);
+        return session != null ? new ArrayList<>(session.sets.values()) : List.of();
+    }
+
+    /**
+     * 세트 변경 (현재 세트 → update 결과로 교체, DB 미반영 상태로 표시)
+     * 변경 전후 차이만 누적 합계에 반영하므로 세트 수와 무관하게 O(1)이며,
+     * 읽기-비교-쓰기를 WATCH/MULTI로 묶어 같은 세트를 동시에 바꿔도 합계가 어긋나지 않는다.
+     * (충돌이 계속되면 null)
+     */
+    public SetChange applySet(Long workoutId, Long workoutExerciseId, Integer setNumber,
+                              UnaryOperator<LiveSetState> update) {
+        String field = LiveSetState.fieldKey(workoutExerciseId, setNumber);
+        if (redisTemplate != null) {
+            for (int attempt = 0; attempt < MAX_SET_ATTEMPTS; attempt++) {
+                SetChange change = redisTemplate.execute(new SessionCallback<SetChange>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> SetChange execute(RedisOperations<K, V> operations) {
+                        return applySet((RedisOperations<String, Object>) operations,
+                            workoutId, workoutExerciseId, field, update);
+                    }
+                });
+                if (change != null) {
+                    return change;
+                }
+            }
+            return null;
+        }
+        LocalSession session = localSessions.get(workoutId);
+        if (session == null) {
+            return null;
+        }
+        synchronized (session) {
+            LiveSetState current = session.sets.get(field);
+            LiveSetState updated = update.apply(current);
+            session.sets.put(field, updated);
+            session.pending.merge(field, 1L, Long::sum);
+            localDirtyWorkouts.add(workoutId);
+            LiveTotals totals = session.increment(workoutExerciseId, setsDelta(current, updated),
+                repsDelta(current, updated), volumeDelta(current, updated));
+            return new SetChange(current, updated, totals);
+        }
+    }
+
+    private SetChange applySet(RedisOperations<String, Object> operations, Long workoutId,
+                               Long workoutExerciseId, String field, UnaryOperator<LiveSetState> update) {
+        String setsKey = setsKey(workoutId);
+        String metaKey = metaKey(workoutId);
+        operations.watch(setsKey);
+        LiveSetState current = (LiveSetState) operations.opsForHash().get(setsKey, field);
+        LiveSetState updated = update.apply(current);
+        int setsDelta = setsDelta(current, updated);
+        int repsDelta = repsDelta(current, updated);
+        double volumeDelta = volumeDelta(current, updated);
+
+        operations.multi();
+        operations.opsForHash().put(setsKey, field, updated);
+        operations.opsForHash().increment(pendingKey(workoutId), field, 1);
+        operations.opsForSet().add(DIRTY_WORKOUTS_KEY, workoutId.toString());
+        operations.opsForHash().increment(metaKey, EXERCISE_SETS_PREFIX + workoutExerciseId, setsDelta);
+        operations.opsForHash().increment(metaKey, EXERCISE_VOLUME_PREFIX + workoutExerciseId, volumeDelta);
+        operations.opsForHash().increment(metaKey, TOTAL_SETS, setsDelta);
+        operations.opsForHash().increment(metaKey, TOTAL_REPS, repsDelta);
+        operations.opsForHash().increment(metaKey, TOTAL_WEIGHT, volumeDelta);
+        operations.expire(metaKey, TTL);
+        operations.expire(setsKey, TTL);
+        operations.expire(pendingKey(workoutId), TTL);
+        List<Object> results = operations.exec();
+        if (results == null || results.isEmpty()) {
+            return null; // 다른 요청이 세트를 먼저 변경함 → 재시도
+        }
+        LiveTotals totals = new LiveTotals(
+            ((Number) results.get(3)).intValue(),
+            ((Number) results.get(4)).doubleValue(),
+            ((Number) results.get(5)).intValue(),
+            ((Number) results.get(6)).intValue(),
+            ((Number) results.get(7)).doubleValue());
+        return new SetChange(current, updated, totals);
+    }
+
+    private static int setsDelta(LiveSetState current, LiveSetState updated) {
+        return (updated.counted() ? 1 : 0) - (current != null && current.counted() ? 1 : 0);
+    }
+
+    private static int repsDelta(LiveSetState current, LiveSetState updated) {
+        return updated.countedReps() - (current != null ? current.countedReps() : 0);
+    }
+
+    private static double volumeDelta(LiveSetState current, LiveSetState updated) {
+        return updated.countedVolume() - (current != null ? current.countedVolume() : 0.0);
+    }
+
+    /**
+     * 세션 누적 합계 조회 (적재되지 않았으면 null)
+     */
+    public LiveTotals getTotals(Long workoutId) {
+        if (redisTemplate != null) {
+            List<Object> values = redisTemplate.opsForHash()
+                .multiGet(metaKey(workoutId), List.<Object>of(TOTAL_SETS, TOTAL_REPS, TOTAL_WEIGHT));
+            if (values.get(0) == null) {
+                return null;
+            }
+            return new LiveTotals(0, 0.0,
+                ((Number) values.get(0)).intValue(),
+                ((Number) values.get(1)).intValue(),
+                ((Number) values.get(2)).doubleValue());
+        }
+        LocalSession session = localSessions.get(workoutId);
+        return session != null ? session.totals() : null;
+    }
+
+    /**
+     * DB 미반영 세트가 있는 운동 ID 목록
+     */
+    public Set<Long> getDirtyWorkoutIds() {
+        if (redisTemplate != null) {
+            Set<Long> workoutIds = new HashSet<>();
+            Set<Object> members = redisTemplate.opsForSet().members(DIRTY_WORKOUTS_KEY);
+            if (members != null) {
+                for (Object member : members) {
+                    workoutIds.add(Long.valueOf(member.toString()));
+                }
+            }
+            return workoutIds;
+        }
+        return new HashSet<>(localDirtyWorkouts);
+    }
+
+    /**
+     * DB 미반영 세트 조회 (미반영 표시는 유지)
+     */
+    public DirtySets peekDirtySets(Long workoutId) {
+        List<LiveSetState> sets = new ArrayList<>();
+        Map<String, Long> versions = new HashMap<>();
+        if (redisTemplate != null) {
+            // 버전을 먼저 읽으므로 읽는 사이 변경된 세트는 버전이 달라 표시가 유지된다
+            redisTemplate.opsForHash().entries(pendingKey(workoutId)).forEach((field, version) ->
+                versions.put(field.toString(), ((Number) version).longValue()));
+            if (versions.isEmpty()) {
+                return new DirtySets(sets, versions);
+            }
+            List<Object> fields = new ArrayList<>(versions.keySet());
+            for (Object value : redisTemplate.opsForHash().multiGet(setsKey(workoutId), fields)) {
+                if (value != null) {
+                    sets.add((LiveSetState) value);
+                }
+            }
+            return new DirtySets(sets, versions);
+        }
+        LocalSession session = localSessions.get(workoutId);
+        if (session == null) {
+            return new DirtySets(sets, versions);
+        }
+        versions.putAll(session.pending);
+        for (String field : versions.keySet()) {
+            LiveSetState set = session.sets.get(field);
+            if (set != null) {
+                sets.add(set);
+            }
+        }
+        return new DirtySets(sets, versions);
+    }
+
+    /**
+     * DB 반영 완료 후 미반영 표시 해제 (반영 이후 다시 변경된 세트는 유지)
+     */
+    @SuppressWarnings("unchecked")
+    public void clearDirty(Long workoutId, Map<String, Long> versions) {
+        if (redisTemplate != null) {
+            // 해시 필드는 문자열, 미반영 운동 목록의 멤버는 값 직렬화 형식으로 전달
+            RedisSerializer<String> strings = RedisSerializer.string();
+            RedisSerializer<Object> values = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+            List<Object> args = new ArrayList<>(1 + versions.size() * 2);
+            args.add(values.serialize(workoutId.toString()));
+            versions.forEach((field, version) -> {
+                args.add(strings.serialize(field));
+                args.add(strings.serialize(version.toString()));
+            });
+            redisTemplate.execute(CLEAR_DIRTY_SCRIPT, RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class),
+                List.of(pendingKey(workoutId), DIRTY_WORKOUTS_KEY), args.toArray());
+            return;
+        }
+        LocalSession session = localSessions.get(workoutId);
+        if (session == null) {
+            localDirtyWorkouts.remove(workoutId);
+            return;
+        }
+        synchronized (session) {
+            versions.forEach((field, version) -> session.pending.remove(field, version));
+            if (session.pending.isEmpty()) {
+                localDirtyWorkouts.remove(workoutId);
+            }
+        }
+    }
+
+    /**
+     * 세션 제거 (완료/취소/삭제 또는 DB 직접 변경 시)
+     */
+    public void evict(Long workoutId) {
+        if (redisTemplate != null) {
+            redisTemplate.delete(List.of(metaKey(workoutId), setsKey(workoutId), pendingKey(workoutId)));
+            redisTemplate.opsForSet().remove(DIRTY_WORKOUTS_KEY, workoutId.toString());
+            return;
+        }
+        localSessions.remove(workoutId);
+        localDirtyWorkouts.remove(workoutId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void seed(Long workoutId, Map<String, Object> setValues, Map<String, Object> meta) {
+        // 해시 필드는 문자열, 값은 putAll과 같은 해시 값 직렬화 형식으로 전달
+        RedisSerializer<String> strings = RedisSerializer.string();
+        RedisSerializer<Object> values = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+        List<Object> args = new ArrayList<>(2 + (setValues.size() + meta.size()) * 2);
+        args.add(strings.serialize(String.valueOf(TTL.toSeconds())));
+        args.add(strings.serialize(String.valueOf(setValues.size())));
+        for (Map<String, Object> hash : List.of(setValues, meta)) {
+            hash.forEach((field, value) -> {
+                args.add(strings.serialize(field));
+                args.add(values.serialize(value));
+            });
+        }
+        redisTemplate.execute(LOAD_SCRIPT, RedisSerializer.byteArray(),
+            new GenericToStringSerializer<>(Long.class),
+            List.of(metaKey(workoutId), setsKey(workoutId), pendingKey(workoutId)), args.toArray());
+    }
+
+    private String metaKey(Long workoutId) {
+        return KEY_PREFIX + workoutId + ":meta";
+    }
+
+    private String setsKey(Long workoutId) {
+        return KEY_PREFIX + workoutId + ":sets";
+    }
+
+    private String pendingKey(Long workoutId) {
+        return KEY_PREFIX + workoutId + ":pending";
+    }
+
+    /**
+     * 세션 소유자 정보
+     */
+    public record SessionInfo(Long userId, String userName) {
+    }
+
+    /**
+     * 세트 변경 결과 (변경 전 세트는 없으면 null)
+     */
+    public record SetChange(LiveSetState previous, LiveSetState updated, LiveTotals totals) {
+    }
+
+    /**
+     * DB 미반영 세트와 읽은 시점의 변경 버전
+     */
+    public record DirtySets(List<LiveSetState> sets, Map<String, Long> versions) {
+    }
+
+    /**
+     * 누적 합계 (운동별 + 세션 전체)
+     */
+    public record LiveTotals(int exerciseSets, double exerciseVolume,
+                             int totalSets, int totalReps, double totalWeight) {
+    }
+
+    /**
+     * 메모리 세션 (Redis 미사용 시)
+     */
+    private static class LocalSession {
+        private final Long userId;
+        private final String userName;
+        private final Set<Long> exerciseIds = ConcurrentHashMap.newKeySet();
+        private final Map<String, LiveSetState> sets = new ConcurrentHashMap<>();
+        private final Map<String, Long> pending = new ConcurrentHashMap<>();
+        private final Map<Long, int[]> exerciseSets = new HashMap<>();
+        private final Map<Long, double[]> exerciseVolumes = new HashMap<>();
+        private int totalSets;
+        private int totalReps;
+        private double totalWeight;
+
+        LocalSession(Long userId, String userName) {
+            this.userId = userId;
+            this.userName = userName;
+        }
+
+        synchronized LiveTotals increment(Long workoutExerciseId, int setsDelta, int repsDelta, double volumeDelta) {
+            totalSets += setsDelta;
+            totalReps += repsDelta;
+            totalWeight += volumeDelta;
+            int[] sets = exerciseSets.computeIfAbsent(workoutExerciseId, id -> new int[1]);
+            double[] volume = exerciseVolumes.computeIfAbsent(workoutExerciseId, id -> new double[1]);
+            sets[0] += setsDelta;
+            volume[0] += volumeDelta;
+            return new LiveTotals(sets[0], volume[0], totalSets, totalReps, totalWeight);
+        }
+
+        synchronized LiveTotals totals() {
+            return new LiveTotals(0, 0.0, totalSets, totalReps, totalWeight);
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.sharegym.sharegym_server.service;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 부분 문자열 검색용 n-gram 역색인 (메모리)
+ * 검색 대상 문자열을 정규화(NFKC, 소문자, 공백 제거)한 뒤 1-gram / 2-gram 단위로 문서 ID 집합을 보관한다.
+ * 한글은 음절 단위로 잘리므로 별도 형태소 분석 없이 부분 일치 검색이 가능하다.
+ * 검색은 질의의 n-gram 집합 교집합으로 후보를 좁힌 뒤 실제 포함 여부를 확인하고,
+ * 완전 일치 → 접두 일치 → 부분 일치, 같은 등급 안에서는 rank 내림차순으로 정렬한다.
+ * 색인은 volatile 스냅샷으로 보관해 검색은 잠금 없이 읽고, 전체 재구성은 잠금 밖에서 새 스냅샷을 만든 뒤 교체한다.
+ * 개별 추가/제거만 서로 직렬화하고, 재구성 중(원본 조회 ~ 교체)의 추가/제거는 기록해 두었다가 새 스냅샷에 다시 적용한다.
+ */
+public class NgramSearchIndex {
+
+    private static final Comparator<Match> ORDER = Comparator.comparingInt(Match::tier)
+        .thenComparing(Comparator.comparingLong(Match::rank).reversed())
+        .thenComparing(Comparator.comparingLong(Match::id).reversed());
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    // 재구성은 한 번에 하나만 (검색 / 개별 추가·제거는 막지 않음)
+    private final Object rebuildLock = new Object();
+
+    // 재구성 중 기존 스냅샷에 적용된 변경 (재구성 중이 아니면 null, this 잠금으로 보호)
+    private List<Consumer<Snapshot>> pendingChanges;
+
+    /**
+     * 색인 문서 (검색 필드 / 정렬 가중치)
+     */
+    public record Document(List<String> fields, long rank) {
+
+        public static Document of(long rank, String... fields) {
+            List<String> normalized = new ArrayList<>(fields.length);
+            for (String field : fields) {
+                String value = normalize(field);
+                if (!value.isEmpty()) {
+                    normalized.add(value);
+                }
+            }
+            return new Document(normalized, rank);
+        }
+    }
+
+    /**
+     * 검색 결과 (요청 구간의 문서 ID / 전체 일치 수)
+     */
+    public record Result(List<Long> ids, long total) {
+
+        public static final Result EMPTY = new Result(List.of(), 0);
+    }
+
+    /**
+     * 전체 재구성 (새 스냅샷을 만든 뒤 교체하므로 재구성 중에도 기존 색인으로 검색된다)
+     * loader 호출 전부터 교체 직전까지의 추가/제거를 새 스냅샷에 순서대로 다시 적용해 유실되지 않게 한다.
+     * @param loader 전체 문서 조회 (DB 조회)
+     */
+    public void rebuild(Supplier<Map<Long, Document>> loader) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+            try {
+                Snapshot rebuilt = Snapshot.empty();
+                loader.get().forEach(rebuilt::add);
+                synchronized (this) {
+                    pendingChanges.forEach(change -> change.accept(rebuilt));
+                    snapshot = rebuilt;
+                }
+            } finally {
+                synchronized (this) {
+                    pendingChanges = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * 문서 추가/교체
+     */
+    public synchronized void put(Long id, Document document) {
+        apply(current -> {
+            current.remove(id);
+            current.add(id, document);
+        });
+    }
+
+    /**
+     * 문서 제거
+     */
+    public synchronized void remove(Long id) {
+        apply(current -> current.remove(id));
+    }
+
+    /**
+     * 현재 스냅샷에 변경 적용 (재구성 중이면 새 스냅샷에 다시 적용하도록 기록, this 잠금 안에서 호출)
+     */
+    private void apply(Consumer<Snapshot> change) {
+        change.accept(snapshot);
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    public int size() {
+        return snapshot.documents().size();
+    }
+
+    /**
+     * 검색 (filter를 통과한 문서만 결과 / 전체 수에 포함)
+     * 일치 문서 전체를 정렬하지 않고 offset + limit개만 힙으로 추려 한 글자 질의처럼 후보가 많아도 비용을 제한한다.
+     */
+    public Result search(String query, long offset, int limit, Predicate<Long> filter) {
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return Result.EMPTY;
+        }
+        Snapshot current = snapshot;
+
+        // 질의 n-gram의 게시 목록 교집합 (작은 집합부터)
+        int[] codePoints = keyword.codePoints().toArray();
+        int n = Math.min(codePoints.length, 2);
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(codePoints, n)) {
+            Set<Long> ids = current.postings().get(gram);
+            if (ids == null) {
+                return Result.EMPTY;
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        Set<Long> candidates = lists.get(0);
+        if (lists.size() > 1) {
+            candidates = new HashSet<>(candidates);
+            for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(lists.get(i));
+            }
+        }
+
+        // 실제 포함 여부 확인 후 상위 offset + limit개만 유지 (힙 머리가 가장 낮은 순위)
+        long window = Math.max(0, offset) + Math.max(0, limit);
+        PriorityQueue<Match> top = new PriorityQueue<>(ORDER.reversed());
+        long total = 0;
+        for (Long id : candidates) {
+            Document document = current.documents().get(id);
+            if (document == null) {
+                continue;
+            }
+            int tier = tier(document, keyword);
+            if (tier < 0 || !filter.test(id)) {
+                continue;
+            }
+            total++;
+            Match match = new Match(id, tier, document.rank());
+            if (top.size() < window) {
+                top.add(match);
+            } else if (!top.isEmpty() && ORDER.compare(match, top.peek()) < 0) {
+                top.poll();
+                top.add(match);
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(ORDER);
+        List<Long> ids = matches.stream()
+            .skip(offset)
+            .limit(limit)
+            .map(Match::id)
+            .toList();
+        return new Result(ids, total);
+    }
+
+    /**
+     * 일치 등급 (0: 완전 일치, 1: 접두 일치, 2: 부분 일치, -1: 불일치)
+     */
+    private static int tier(Document document, String keyword) {
+        int best = -1;
+        for (String field : document.fields()) {
+            int tier = field.equals(keyword) ? 0
+                : field.startsWith(keyword) ? 1
+                : field.contains(keyword) ? 2
+                : -1;
+            if (tier >= 0 && (best < 0 || tier < best)) {
+                best = tier;
+            }
+        }
+        return best;
+    }
+
+    private static Set<String> grams(Document document) {
+        Set<String> grams = new HashSet<>();
+        for (String field : document.fields()) {
+            int[] codePoints = field.codePoints().toArray();
+            grams.addAll(grams(codePoints, 1));
+            grams.addAll(grams(codePoints, 2));
+        }
+        return grams;
+    }
+
+    private static Set<String> grams(int[] codePoints, int n) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + n <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, n));
+        }
+        return grams;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("\\s+", "");
+    }
+
+    private record Match(Long id, int tier, long rank) {
+    }
+
+    /**
+     * 색인 스냅샷 (검색 스레드와 공유되므로 동시성 컬렉션 사용, 변경은 NgramSearchIndex 잠금 안에서만)
+     */
+    private record Snapshot(Map<String, Set<Long>> postings, Map<Long, Document> documents) {
+
+        static Snapshot empty() {
+            return new Snapshot(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void add(Long id, Document document) {
+            documents.put(id, document);
+            for (String gram : grams(document)) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            for (String gram : grams(document)) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sharegym.sharegym_server.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sharegym.sharegym_server.dto.notification.*;
+import com.sharegym.sharegym_server.dto.response.PersonalRecordResponse;
 import com.sharegym.sharegym_server.entity.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -70,18 +72,28 @@ public class NotificationService {
      */
     @Async
     public void notifyWorkoutUpdate(Workout workout, String updateType, Object details) {
+        notifyWorkoutUpdate(workout.getId(), workout.getUser().getId(),
+            workout.getUser().getDisplayName(), updateType, details);
+    }
+
+    /**
+     * 운동 업데이트 알림 (엔티티 없이 전송 - 진행 중인 세션 저장소용)
+     */
+    @Async
+    public void notifyWorkoutUpdate(Long workoutId, Long userId, String userName,
+                                    String updateType, Object details) {
         WorkoutUpdateNotification notification = WorkoutUpdateNotification.builder()
-            .workoutId(workout.getId())
-            .userId(workout.getUser().getId())
-            .userName(workout.getUser().getDisplayName())
+            .workoutId(workoutId)
+            .userId(userId)
+            .userName(userName)
             .updateType(updateType)
             .details(details)
             .build();
 
         // 운동 구독자들에게 알림
-        sseEmitterService.sendToWorkoutSubscribers(workout.getId(), "workout:update", notification);
+        sseEmitterService.sendToWorkoutSubscribers(workoutId, "workout:update", notification);
 
-        log.debug("Workout update notification sent for workout {}", workout.getId());
+        log.debug("Workout update notification sent for workout {}", workoutId);
     }
 
     /**
@@ -124,6 +136,43 @@ public class NotificationService {
         log.info("Workout complete notification sent for workout {}", workout.getId());
     }
 
+    /**
+     * 개인 기록(PR) 경신 알림
+     */
+    @Async
+    public void notifyPersonalRecord(Long userId, String userName, Long workoutId,
+                                     List<PersonalRecordResponse> records) {
+        PersonalRecordNotification notification = PersonalRecordNotification.builder()
+            .workoutId(workoutId)
+            .userId(userId)
+            .userName(userName)
+            .records(records)
+            .message(records.size() + "개 운동에서 개인 기록을 경신했습니다!")
+            .build();
+
+        String exerciseName = records.get(0).getExerciseNameKo() != null
+            ? records.get(0).getExerciseNameKo() : records.get(0).getExerciseName();
+        String body = records.size() > 1
+            ? String.format("%s 외 %d개 운동에서 새 기록을 세웠습니다!", exerciseName, records.size() - 1)
+            : String.format("%s에서 새 기록을 세웠습니다!", exerciseName);
+
+        // 본인에게 알림 (SSE 실패시 FCM 폴백)
+        sendNotificationWithFallback(
+            userId,
+            "workout:personal-record",
+            notification,
+            "개인 기록 경신 🏆",
+            body,
+            FcmNotificationRequest.NotificationType.PERSONAL_RECORD,
+            Map.of("workoutId", String.valueOf(workoutId))
+        );
+
+        // 운동 구독자들에게 알림
+        sseEmitterService.sendToWorkoutSubscribers(workoutId, "workout:personal-record", notification);
+
+        log.info("Personal record notification sent for user {} ({} exercises)", userId, records.size());
+    }
+
     /**
      * 응원 알림
      */
@@ -301,6 +350,68 @@ public class NotificationService {
         log.info("Group post notification sent for group {}", group.getId());
     }
 
+    /**
+     * 공유 카드 생성 알림
+     */
+    @Async
+    public void notifySharedCardCreated(Long groupId, Long cardId, String title, Long userId, String userName) {
+        SharedCardNotification notification = SharedCardNotification.builder()
+            .groupId(groupId)
+            .cardId(cardId)
+            .title(title)
+            .userId(userId)
+            .userName(userName)
+            .eventType("CARD_CREATED")
+            .completionCount(0L)
+            .build();
+
+        sseEmitterService.sendToGroupSubscribers(groupId, "group:shared-card", notification);
+
+        log.debug("Shared card created notification sent for group {}", groupId);
+    }
+
+    /**
+     * 공유 카드 완료 알림 (완료 수 포함)
+     */
+    @Async
+    public void notifySharedCardCompleted(Long groupId, Long cardId, Long userId, String userName,
+                                          long completionCount) {
+        SharedCardNotification notification = SharedCardNotification.builder()
+            .groupId(groupId)
+            .cardId(cardId)
+            .userId(userId)
+            .userName(userName)
+            .eventType("CARD_COMPLETED")
+            .completionCount(completionCount)
+            .build();
+
+        sseEmitterService.sendToGroupSubscribers(groupId, "group:shared-card-complete", notification);
+
+        log.debug("Shared card {} completion notification sent for group {}", cardId, groupId);
+    }
+
+    /**
+     * 그룹 챌린지 진행도 알림 (목표 달성 시 group:challenge-complete)
+     */
+    @Async
+    public void notifyGroupChallengeProgress(GroupChallenge challenge, double progress, Long userId, boolean completed) {
+        GroupChallengeNotification notification = GroupChallengeNotification.builder()
+            .groupId(challenge.getGroupId())
+            .challengeId(challenge.getId())
+            .title(challenge.getTitle())
+            .metric(challenge.getMetric().name().toLowerCase())
+            .progress(progress)
+            .targetValue(challenge.getTargetValue())
+            .userId(userId)
+            .eventType(completed ? "COMPLETED" : "PROGRESS")
+            .build();
+
+        sseEmitterService.sendToGroupSubscribers(challenge.getGroupId(),
+            completed ? "group:challenge-complete" : "group:challenge-progress", notification);
+
+        log.debug("Group challenge {} progress notification sent: {}", challenge.getId(), progress);
+    }
+
     /**
      * 팔로우 알림
      */
@@ -0,0 +1,156 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.dto.response.PersonalRecordResponse;
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.entity.PersonalRecord;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import com.sharegym.sharegym_server.repository.PersonalRecordRepository;
+import com.sharegym.sharegym_server.repository.WorkoutSetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * 개인 기록(PR) 서비스
+ * 운동 완료 시 해당 운동의 완료 세트만으로 운동별 기록을 증분 갱신하고,
+ * 운동 삭제 시 해당 운동에 포함된 운동별 기록만 남은 세트로 다시 계산한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PersonalRecordService {
+
+    private final PersonalRecordRepository personalRecordRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * 완료된 운동의 세트를 개인 기록에 반영 (호출 측 트랜잭션에서 실행)
+     * 기존 기록은 한 번에 조회하고, 경신된 기록이 있으면 알림을 전송한다.
+     * @param sets workoutExercise.exercise 연관이 설정된 세트
+     */
+    public void recordWorkout(Workout workout, Collection<WorkoutSet> sets) {
+        // 운동별 완료 세트 (워밍업 세트 제외)
+        Map<Integer, Exercise> exercises = new LinkedHashMap<>();
+        Map<Integer, List<WorkoutSet>> setsByExercise = new HashMap<>();
+        for (WorkoutSet set : sets) {
+            if (!Boolean.TRUE.equals(set.getIsCompleted()) || Boolean.TRUE.equals(set.getIsWarmup())) {
+                continue;
+            }
+            Exercise exercise = set.getWorkoutExercise().getExercise();
+            exercises.putIfAbsent(exercise.getId(), exercise);
+            setsByExercise.computeIfAbsent(exercise.getId(), id -> new ArrayList<>()).add(set);
+        }
+        if (exercises.isEmpty()) {
+            return;
+        }
+
+        Long userId = workout.getUser().getId();
+        Map<Integer, PersonalRecord> records = new HashMap<>();
+        for (PersonalRecord record : personalRecordRepository.findByUserIdAndExerciseIds(userId, exercises.keySet())) {
+            records.put(record.getExercise().getId(), record);
+        }
+
+        List<PersonalRecord> created = new ArrayList<>();
+        List<PersonalRecordResponse> improvedRecords = new ArrayList<>();
+        for (Map.Entry<Integer, Exercise> entry : exercises.entrySet()) {
+            PersonalRecord record = records.get(entry.getKey());
+            boolean isNew = record == null;
+            if (isNew) {
+                record = PersonalRecord.builder()
+                    .user(workout.getUser())
+                    .exercise(entry.getValue())
+                    .build();
+            }
+
+            EnumSet<PersonalRecord.RecordType> improved = EnumSet.noneOf(PersonalRecord.RecordType.class);
+            for (WorkoutSet set : setsByExercise.get(entry.getKey())) {
+                improved.addAll(record.apply(set));
+            }
+            if (improved.isEmpty()) {
+                continue;
+            }
+
+            record.setWorkoutId(workout.getId());
+            record.setAchievedAt(workout.getEndTime() != null ? workout.getEndTime() : workout.getStartTime());
+            if (isNew) {
+                created.add(record);
+            } else {
+                // 첫 기록은 경신 알림 대상에서 제외
+                improvedRecords.add(PersonalRecordResponse.from(record, new ArrayList<>(improved)));
+            }
+        }
+
+        // 기존 기록은 변경 감지로 UPDATE, 신규 기록은 동시 첫 완료와 병합되도록 INSERT ... ON DUPLICATE KEY UPDATE
+        personalRecordRepository.insertOrMerge(created);
+
+        if (!improvedRecords.isEmpty()) {
+            String displayName = workout.getUser().getDisplayName();
+            Long workoutId = workout.getId();
+            AfterCommit.run(() -> notificationService.notifyPersonalRecord(userId, displayName, workoutId,
+                improvedRecords));
+            log.info("Personal records updated for user: {} ({} exercises)", userId, improvedRecords.size());
+        }
+    }
+
+    /**
+     * 삭제되는 운동에 포함된 운동별 기록을 남은 완료 세트로 다시 계산 (호출 측 트랜잭션에서 실행)
+     * 남은 세트가 없으면 기록을 삭제한다.
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        Set<Integer> exerciseIds = new HashSet<>();
+        for (WorkoutSet set : workoutSetRepository.findCompletedWithExerciseByWorkoutId(workout.getId())) {
+            if (!Boolean.TRUE.equals(set.getIsWarmup())) {
+                exerciseIds.add(set.getWorkoutExercise().getExercise().getId());
+            }
+        }
+        if (exerciseIds.isEmpty()) {
+            return;
+        }
+
+        Long userId = workout.getUser().getId();
+        Map<Integer, List<WorkoutSet>> setsByExercise = new HashMap<>();
+        for (WorkoutSet set : workoutSetRepository.findCompletedWithExerciseByExerciseIds(
+                userId, workout.getId(), exerciseIds)) {
+            if (!Boolean.TRUE.equals(set.getIsWarmup())) {
+                setsByExercise.computeIfAbsent(set.getWorkoutExercise().getExercise().getId(),
+                    id -> new ArrayList<>()).add(set);
+            }
+        }
+
+        for (PersonalRecord record : personalRecordRepository.findByUserIdAndExerciseIds(userId, exerciseIds)) {
+            List<WorkoutSet> remaining = setsByExercise.get(record.getExercise().getId());
+            if (remaining == null) {
+                personalRecordRepository.delete(record);
+                continue;
+            }
+            // 시작 시간 순으로 다시 적용해 마지막으로 기록을 경신한 운동을 찾는다
+            record.reset();
+            for (WorkoutSet set : remaining) {
+                if (!record.apply(set).isEmpty()) {
+                    Workout source = set.getWorkoutExercise().getWorkout();
+                    record.setWorkoutId(source.getId());
+                    record.setAchievedAt(source.getEndTime() != null ? source.getEndTime() : source.getStartTime());
+                }
+            }
+        }
+    }
+
+    /**
+     * 전체 운동의 개인 기록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PersonalRecordResponse> getPersonalRecords(Long userId) {
+        return personalRecordRepository.findAllWithExerciseByUserId(userId).stream()
+            .map(PersonalRecordResponse::from)
+            .toList();
+    }
+}
@@ -0,0 +1,145 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 공개 루틴 필터용 역색인 (메모리)
+ * 카테고리 / 근육 그룹별로 해당 운동을 포함한 공개 루틴 ID 집합을 보관한다.
+ * 필터 조회는 집합 교집합으로 처리하므로 routines 테이블을 스캔하지 않는다.
+ * 전체 재구성은 RoutineDiscoveryService가 시작 시와 주기적으로 수행하고,
+ * 루틴 생성/수정/삭제 시에는 해당 루틴만 갱신한다.
+ */
+@Component
+public class RoutineDiscoveryIndex {
+
+    private final Map<String, Set<Long>> byCategory = new HashMap<>();
+    private final Map<String, Set<Long>> byMuscle = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    /**
+     * 색인 항목 (루틴에 포함된 카테고리 / 근육 그룹)
+     */
+    public record Entry(Set<String> categories, Set<String> muscles) {
+
+        public static Entry of(Collection<String> categories, Collection<String> muscleGroups) {
+            Set<String> categoryKeys = new HashSet<>();
+            for (String category : categories) {
+                if (category != null) {
+                    categoryKeys.add(normalize(category));
+                }
+            }
+            Set<String> muscleKeys = new HashSet<>();
+            for (String muscleGroup : muscleGroups) {
+                muscleKeys.addAll(splitMuscles(muscleGroup));
+            }
+            return new Entry(categoryKeys, muscleKeys);
+        }
+
+        public static Entry from(RoutineTemplate template) {
+            return of(template.getExercises().stream().map(RoutineTemplate.Item::getCategory).toList(),
+                template.getExercises().stream().map(RoutineTemplate.Item::getMuscleGroups).toList());
+        }
+    }
+
+    /**
+     * 전체 재구성 (기존 색인 교체)
+     */
+    public synchronized void rebuild(Map<Long, Entry> newEntries) {
+        byCategory.clear();
+        byMuscle.clear();
+        entries.clear();
+        newEntries.forEach(this::add);
+    }
+
+    /**
+     * 루틴 색인 추가/교체
+     */
+    public synchronized void put(Long routineId, Entry entry) {
+        remove(routineId);
+        add(routineId, entry);
+    }
+
+    /**
+     * 루틴 색인 제거
+     */
+    public synchronized void remove(Long routineId) {
+        Entry entry = entries.remove(routineId);
+        if (entry == null) {
+            return;
+        }
+        entry.categories().forEach(key -> detach(byCategory, key, routineId));
+        entry.muscles().forEach(key -> detach(byMuscle, key, routineId));
+    }
+
+    public synchronized boolean contains(Long routineId) {
+        return entries.containsKey(routineId);
+    }
+
+    public synchronized Set<Long> routineIds() {
+        return new HashSet<>(entries.keySet());
+    }
+
+    /**
+     * 조건에 맞는 공개 루틴 ID (null 조건은 무시, 작은 집합부터 교집합)
+     */
+    public synchronized Set<Long> find(String category, String muscle) {
+        List<Set<Long>> postings = new ArrayList<>(2);
+        if (category != null) {
+            postings.add(byCategory.getOrDefault(normalize(category), Set.of()));
+        }
+        if (muscle != null) {
+            postings.add(byMuscle.getOrDefault(normalize(muscle), Set.of()));
+        }
+        if (postings.isEmpty()) {
+            return new HashSet<>(entries.keySet());
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size(); i++) {
+            result.retainAll(postings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 필터 조건 키 (정규화한 카테고리 / 근육 그룹, null 조건은 빈 값)
+     */
+    public static String filterKey(String category, String muscle) {
+        return (category != null ? normalize(category) : "") + ":" + (muscle != null ? normalize(muscle) : "");
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void add(Long routineId, Entry entry) {
+        entries.put(routineId, entry);
+        entry.categories().forEach(key -> byCategory.computeIfAbsent(key, k -> new HashSet<>()).add(routineId));
+        entry.muscles().forEach(key -> byMuscle.computeIfAbsent(key, k -> new HashSet<>()).add(routineId));
+    }
+
+    private static void detach(Map<String, Set<Long>> postings, String key, Long routineId) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null && ids.remove(routineId) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static List<String> splitMuscles(String muscleGroups) {
+        if (muscleGroups == null || muscleGroups.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(muscleGroups.split(","))
+            .map(String::trim)
+            .filter(muscle -> !muscle.isEmpty())
+            .map(RoutineDiscoveryIndex::normalize)
+            .toList();
+    }
+
+    private static String normalize(String key) {
+        return key.trim().toLowerCase(Locale.ROOT);
+    }
+}
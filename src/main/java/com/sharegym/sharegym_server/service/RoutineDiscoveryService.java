@@ -0,0 +1,185 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.response.RoutineResponse;
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.entity.Routine;
+import com.sharegym.sharegym_server.repository.RoutineRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공개 루틴 탐색 서비스
+ * 순위는 RoutinePopularityStore(감쇠 인기도 ZSET), 필터는 RoutineDiscoveryIndex(역색인)로 처리하고
+ * DB에는 결과 페이지의 루틴만 ID로 조회한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutineDiscoveryService {
+
+    public static final int MAX_PAGE_SIZE = 50;
+
+    private final RoutineRepository routineRepository;
+    private final RoutineDiscoveryIndex routineDiscoveryIndex;
+    private final RoutinePopularityStore routinePopularityStore;
+    private final RoutineTemplateCache routineTemplateCache;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 공개 루틴 색인 전체 재구성 (인기도 ZSET의 누락/잔여 항목도 함께 정리)
+     */
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        Map<Long, List<String>> categories = new HashMap<>();
+        Map<Long, List<String>> muscleGroups = new HashMap<>();
+        Map<Long, Double> initialWeights = new HashMap<>();
+        for (Object[] row : routineRepository.findPublicFacets()) {
+            Long routineId = (Long) row[0];
+            List<String> routineCategories = categories.computeIfAbsent(routineId, id -> new ArrayList<>());
+            List<String> routineMuscles = muscleGroups.computeIfAbsent(routineId, id -> new ArrayList<>());
+            initialWeights.computeIfAbsent(routineId, id ->
+                count(row[1]) * RoutinePopularityStore.USE_WEIGHT + count(row[2]) * RoutinePopularityStore.COPY_WEIGHT);
+            if (row[3] != null) {
+                routineCategories.add(((Exercise.Category) row[3]).name());
+            }
+            routineMuscles.add((String) row[4]);
+        }
+
+        Map<Long, RoutineDiscoveryIndex.Entry> entries = new HashMap<>();
+        categories.forEach((routineId, routineCategories) ->
+            entries.put(routineId, RoutineDiscoveryIndex.Entry.of(routineCategories, muscleGroups.get(routineId))));
+        routineDiscoveryIndex.rebuild(entries);
+        routinePopularityStore.register(initialWeights);
+        int removed = routinePopularityStore.retain(entries.keySet());
+
+        log.info("Routine discovery index rebuilt: {} public routines ({} stale ranking entries removed)",
+            entries.size(), removed);
+        return entries.size();
+    }
+
+    /**
+     * 공개 루틴 인기순 조회 (카테고리 / 근육 그룹 필터)
+     */
+    @Transactional(readOnly = true)
+    public List<RoutineResponse> getPublicRoutines(String category, String muscle, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long offset = (long) Math.max(page, 0) * pageSize;
+        String categoryFilter = category != null && !category.isBlank() ? category : null;
+        String muscleFilter = muscle != null && !muscle.isBlank() ? muscle : null;
+
+        List<Long> pageIds;
+        if (categoryFilter == null && muscleFilter == null) {
+            // 필터가 없으면 ZSET 순위 구간을 그대로 사용
+            pageIds = routinePopularityStore.top(offset, pageSize).stream()
+                .filter(routineDiscoveryIndex::contains)
+                .toList();
+        } else {
+            // 필터별 인기도 ZSET의 페이지 구간만 조회 (후보 집합은 필터 ZSET이 없을 때만 계산)
+            pageIds = routinePopularityStore.topWithin(
+                    RoutineDiscoveryIndex.filterKey(categoryFilter, muscleFilter),
+                    () -> routineDiscoveryIndex.find(categoryFilter, muscleFilter), offset, pageSize).stream()
+                .filter(routineDiscoveryIndex::contains)
+                .toList();
+        }
+        return toResponses(pageIds);
+    }
+
+    /**
+     * 루틴 생성/수정 시 색인 반영 (비공개 루틴은 제거)
+     */
+    public void index(RoutineTemplate template) {
+        if (!Boolean.TRUE.equals(template.getIsPublic())) {
+            unindex(template.getId());
+            return;
+        }
+        routineDiscoveryIndex.put(template.getId(), RoutineDiscoveryIndex.Entry.from(template));
+        routinePopularityStore.register(Map.of(template.getId(), 0.0));
+    }
+
+    /**
+     * 루틴 삭제/비공개 전환 시 색인 제거
+     */
+    public void unindex(Long routineId) {
+        routineDiscoveryIndex.remove(routineId);
+        routinePopularityStore.remove(routineId);
+    }
+
+    /**
+     * 공개 루틴 사용/복사 이벤트 반영
+     */
+    public void recordUse(RoutineTemplate template) {
+        if (Boolean.TRUE.equals(template.getIsPublic())) {
+            routinePopularityStore.record(template.getId(), RoutinePopularityStore.USE_WEIGHT);
+        }
+    }
+
+    public void recordCopy(RoutineTemplate template) {
+        if (Boolean.TRUE.equals(template.getIsPublic())) {
+            routinePopularityStore.record(template.getId(), RoutinePopularityStore.COPY_WEIGHT);
+        }
+    }
+
+    /**
+     * 페이지 루틴을 순위 순서대로 응답 변환 (루틴 행은 ID로 한 번에 조회, 템플릿은 캐시 우선)
+     */
+    private List<RoutineResponse> toResponses(List<Long> routineIds) {
+        if (routineIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, RoutineTemplate> templates = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long routineId : routineIds) {
+            RoutineTemplate template = routineTemplateCache.get(routineId);
+            if (template != null) {
+                templates.put(routineId, template);
+            } else {
+                missing.add(routineId);
+            }
+        }
+
+        Map<Long, Routine> routines;
+        if (missing.isEmpty()) {
+            routines = routineRepository.findAllById(routineIds).stream()
+                .collect(Collectors.toMap(Routine::getId, Function.identity()));
+        } else {
+            // 캐시에 없는 템플릿이 있으면 운동 목록까지 함께 로드
+            routines = routineRepository.findWithExercisesByIdIn(routineIds).stream()
+                .collect(Collectors.toMap(Routine::getId, Function.identity()));
+            for (Long routineId : missing) {
+                Routine routine = routines.get(routineId);
+                if (routine != null) {
+                    RoutineTemplate template = RoutineTemplate.from(routine);
+                    routineTemplateCache.put(template);
+                    templates.put(routineId, template);
+                }
+            }
+        }
+
+        List<RoutineResponse> responses = new ArrayList<>(routineIds.size());
+        for (Long routineId : routineIds) {
+            Routine routine = routines.get(routineId);
+            RoutineTemplate template = templates.get(routineId);
+            if (routine != null && template != null && Boolean.TRUE.equals(routine.getIsPublic())) {
+                responses.add(RoutineResponse.from(routine, template));
+            }
+        }
+        return responses;
+    }
+
+    private static double count(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+}
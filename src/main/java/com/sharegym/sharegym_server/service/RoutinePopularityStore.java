@@ -0,0 +1,188 @@
+package com.sharegym.sharegym_server.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 공개 루틴 인기도 저장소 (forward decay)
+ * 사용/복사 이벤트마다 weight * 2^((t - 기준 시각) / 반감기) 를 점수에 더한다.
+ * 점수를 다시 계산하지 않아도 최근 이벤트가 오래된 이벤트보다 항상 크게 반영되며,
+ * 순위는 점수 내림차순 그대로 사용한다. (기준 시각 이후 약 19년까지 double 범위 내)
+ * Redis가 없으면 (dev/test) 메모리에 보관한다.
+ *
+ * Redis 키 구조
+ * - routine:popular : ZSET (member: 루틴 ID, score: 감쇠 인기도)
+ * - routine:popular:filter:{filterKey} : 필터 후보만 남긴 인기도 ZSET (ZINTERSTORE 결과, 짧은 TTL)
+ */
+@Slf4j
+@Component
+public class RoutinePopularityStore {
+
+    private static final String KEY = "routine:popular";
+    private static final String FILTER_KEY_PREFIX = "routine:popular:filter:";
+    private static final Duration FILTER_TTL = Duration.ofSeconds(60);
+    private static final Instant LANDMARK = Instant.parse("2025-01-01T00:00:00Z");
+    private static final double HALF_LIFE_SECONDS = Duration.ofDays(7).toSeconds();
+
+    public static final double USE_WEIGHT = 1.0;
+    public static final double COPY_WEIGHT = 3.0;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소
+    private final Map<Long, Double> localScores = new ConcurrentHashMap<>();
+
+    /**
+     * 이벤트 반영 (현재 시각 기준 감쇠 가중치를 더함)
+     */
+    public void record(Long routineId, double weight) {
+        double increment = decayed(weight);
+        if (redisTemplate != null) {
+            redisTemplate.opsForZSet().incrementScore(KEY, routineId.toString(), increment);
+            return;
+        }
+        localScores.merge(routineId, increment, Double::sum);
+    }
+
+    /**
+     * 공개 루틴 등록 (이미 있으면 점수 유지)
+     * 처음 등록되는 루틴은 누적 가중치(사용/복사 횟수)를 현재 시점의 이벤트로 간주해 초기 점수로 사용한다.
+     */
+    public void register(Map<Long, Double> initialWeights) {
+        if (initialWeights.isEmpty()) {
+            return;
+        }
+        if (redisTemplate != null) {
+            Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+            initialWeights.forEach((routineId, weight) ->
+                tuples.add(new DefaultTypedTuple<>(routineId.toString(), decayed(weight))));
+            redisTemplate.opsForZSet().addIfAbsent(KEY, tuples);
+            return;
+        }
+        initialWeights.forEach((routineId, weight) -> localScores.putIfAbsent(routineId, decayed(weight)));
+    }
+
+    /**
+     * 루틴 제거 (비공개 전환/삭제 시)
+     */
+    public void remove(Long routineId) {
+        if (redisTemplate != null) {
+            redisTemplate.opsForZSet().remove(KEY, routineId.toString());
+            return;
+        }
+        localScores.remove(routineId);
+    }
+
+    /**
+     * 공개 루틴 목록에 없는 항목 제거 (인덱스 재구성 시)
+     */
+    public int retain(Set<Long> routineIds) {
+        if (redisTemplate != null) {
+            Set<Object> members = redisTemplate.opsForZSet().range(KEY, 0, -1);
+            if (members == null) {
+                return 0;
+            }
+            Object[] stale = members.stream()
+                .filter(member -> !routineIds.contains(Long.valueOf(member.toString())))
+                .toArray();
+            if (stale.length > 0) {
+                redisTemplate.opsForZSet().remove(KEY, stale);
+            }
+            return stale.length;
+        }
+        int before = localScores.size();
+        localScores.keySet().retainAll(routineIds);
+        return before - localScores.size();
+    }
+
+    /**
+     * 인기순 루틴 ID (offset부터 limit개)
+     */
+    public List<Long> top(long offset, int limit) {
+        if (redisTemplate != null) {
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(KEY, offset, offset + limit - 1);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream().map(member -> Long.valueOf(member.toString())).toList();
+        }
+        return localScores.entrySet().stream()
+            .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+            .skip(offset)
+            .limit(limit)
+            .map(Map.Entry::getKey)
+            .toList();
+    }
+
+    /**
+     * 후보 루틴 안에서 인기순 ID (offset부터 limit개)
+     * Redis에서는 후보 집합과 인기도 ZSET의 교집합(ZINTERSTORE)을 필터별 ZSET으로 FILTER_TTL 동안 보관하고
+     * 페이지 구간만 읽는다. 후보 전체의 점수를 매 요청마다 조회해 정렬하지 않는다.
+     * @param filterKey 후보 집합을 구분하는 필터 키 (TTL 동안 같은 키는 같은 후보로 간주)
+     * @param candidates 후보 루틴 ID (필터 ZSET이 없을 때만 호출)
+     */
+    public List<Long> topWithin(String filterKey, Supplier<Collection<Long>> candidates, long offset, int limit) {
+        if (redisTemplate != null) {
+            String key = FILTER_KEY_PREFIX + filterKey;
+            Set<Object> members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + limit - 1);
+            if ((members == null || members.isEmpty()) && !Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                storeFiltered(key, candidates.get());
+                members = redisTemplate.opsForZSet().reverseRange(key, offset, offset + limit - 1);
+            }
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream().map(member -> Long.valueOf(member.toString())).toList();
+        }
+        return candidates.get().stream()
+            .sorted(Comparator.comparing((Long id) -> localScores.getOrDefault(id, 0.0)).reversed()
+                .thenComparing(Comparator.reverseOrder()))
+            .skip(offset)
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * 후보 집합을 임시 SET에 담아 인기도 ZSET과 교집합 저장 (점수는 인기도만 사용, 한 트랜잭션으로 실행)
+     * 임시 키는 요청마다 달라 동시에 같은 필터 ZSET을 만들어도 서로의 후보를 지우지 않는다.
+     */
+    private void storeFiltered(String key, Collection<Long> candidates) {
+        if (candidates.isEmpty()) {
+            return;
+        }
+        String candidateKey = key + ":candidates:" + UUID.randomUUID();
+        Object[] members = candidates.stream().map(Object::toString).toArray();
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.multi();
+                ops.opsForSet().add(candidateKey, members);
+                ops.opsForZSet().intersectAndStore(KEY, List.of(candidateKey), key, Aggregate.SUM, Weights.of(1, 0));
+                ops.expire(key, FILTER_TTL);
+                ops.delete(candidateKey);
+                return ops.exec();
+            }
+        });
+    }
+
+    private static double decayed(double weight) {
+        return weight * Math.pow(2, (Instant.now().getEpochSecond() - LANDMARK.getEpochSecond()) / HALF_LIFE_SECONDS);
+    }
+}
@@ -0,0 +1,282 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.common.ExerciseIdMapper;
+import com.sharegym.sharegym_server.dto.request.RoutineRequest;
+import com.sharegym.sharegym_server.dto.response.RoutineResponse;
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.entity.Routine;
+import com.sharegym.sharegym_server.entity.RoutineExercise;
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.ExerciseRepository;
+import com.sharegym.sharegym_server.repository.RoutineRepository;
+import com.sharegym.sharegym_server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 서비스
+ * 루틴 구성은 RoutineTemplateCache에 캐시하고, 사용/복사 횟수는 원자적 UPDATE로 증가시킨다.
+ * 캐시 / 탐색 색인 변경은 커밋 후에 반영해 커밋 전 데이터가 캐시에 다시 적재되지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutineService {
+
+    private final RoutineRepository routineRepository;
+    private final UserRepository userRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseIdMapper exerciseIdMapper;
+    private final RoutineTemplateCache routineTemplateCache;
+    private final RoutineDiscoveryService routineDiscoveryService;
+
+    /**
+     * 루틴 생성
+     */
+    @Transactional
+    public RoutineResponse createRoutine(Long userId, RoutineRequest request) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Routine routine = Routine.builder()
+            .user(user)
+            .name(request.getName())
+            .description(request.getDescription())
+            .isPublic(Boolean.TRUE.equals(request.getIsPublic()))
+            .estimatedDuration(request.getEstimatedDuration())
+            .build();
+        addExercises(routine, request.getExercises());
+
+        Routine savedRoutine = routineRepository.save(routine);
+        RoutineTemplate template = RoutineTemplate.from(savedRoutine);
+        AfterCommit.run(() -> {
+            routineTemplateCache.put(template);
+            routineDiscoveryService.index(template);
+        });
+
+        log.info("Routine created: {} for user: {}", savedRoutine.getId(), user.getEmail());
+        return RoutineResponse.from(savedRoutine, template);
+    }
+
+    /**
+     * 루틴 수정 (운동 목록 전체 교체)
+     */
+    @Transactional
+    public RoutineResponse updateRoutine(Long userId, Long routineId, RoutineRequest request) {
+        Routine routine = getOwnedRoutine(userId, routineId);
+
+        routine.setName(request.getName());
+        routine.setDescription(request.getDescription());
+        if (request.getIsPublic() != null) {
+            routine.setIsPublic(request.getIsPublic());
+        }
+        routine.setEstimatedDuration(request.getEstimatedDuration());
+        new ArrayList<>(routine.getExercises()).forEach(routine::removeExercise);
+        addExercises(routine, request.getExercises());
+
+        RoutineTemplate template = RoutineTemplate.from(routine);
+        AfterCommit.run(() -> {
+            routineTemplateCache.evict(routineId);
+            routineDiscoveryService.index(template);
+        });
+
+        log.info("Routine updated: {}", routineId);
+        return RoutineResponse.from(routine, template);
+    }
+
+    /**
+     * 루틴 삭제
+     */
+    @Transactional
+    public void deleteRoutine(Long userId, Long routineId) {
+        Routine routine = getOwnedRoutine(userId, routineId);
+        routineRepository.delete(routine);
+        AfterCommit.run(() -> {
+            routineTemplateCache.evict(routineId);
+            routineDiscoveryService.unindex(routineId);
+        });
+
+        log.info("Routine deleted: {}", routineId);
+    }
+
+    /**
+     * 루틴 조회 (생성자 또는 공개 루틴)
+     */
+    @Transactional(readOnly = true)
+    public RoutineResponse getRoutine(Long userId, Long routineId) {
+        RoutineTemplate template = getAccessibleTemplate(userId, routineId);
+        Routine routine = routineRepository.findById(routineId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ROUTINE_NOT_FOUND));
+        return RoutineResponse.from(routine, template);
+    }
+
+    /**
+     * 내 루틴 목록 조회 (한 번의 조회로 운동 목록까지 로드하고 템플릿 캐시를 채움)
+     */
+    @Transactional(readOnly = true)
+    public List<RoutineResponse> getMyRoutines(Long userId) {
+        List<RoutineResponse> responses = new ArrayList<>();
+        for (Routine routine : routineRepository.findWithExercisesByUserId(userId)) {
+            RoutineTemplate template = RoutineTemplate.from(routine);
+            routineTemplateCache.put(template);
+            responses.add(RoutineResponse.from(routine, template));
+        }
+        return responses;
+    }
+
+    /**
+     * 즐겨찾기 토글
+     */
+    @Transactional
+    public RoutineResponse toggleFavorite(Long userId, Long routineId) {
+        Routine routine = getOwnedRoutine(userId, routineId);
+        routine.toggleFavorite();
+        return RoutineResponse.from(routine, RoutineTemplate.from(routine));
+    }
+
+    /**
+     * 루틴 복사 (다른 사용자의 공개 루틴 또는 내 루틴)
+     */
+    @Transactional
+    public RoutineResponse copyRoutine(Long userId, Long routineId) {
+        RoutineTemplate template = getAccessibleTemplate(userId, routineId);
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Routine copy = Routine.builder()
+            .user(user)
+            .name(template.getName() + " (복사본)")
+            .description(template.getDescription())
+            .isPublic(false)
+            .estimatedDuration(template.getEstimatedDuration())
+            .build();
+        Map<Integer, Exercise> exercises = loadExercises(template.getExercises().stream()
+            .map(RoutineTemplate.Item::getExerciseId)
+            .collect(Collectors.toSet()));
+        for (RoutineTemplate.Item item : template.getExercises()) {
+            copy.addExercise(RoutineExercise.builder()
+                .exercise(exercises.get(item.getExerciseId()))
+                .orderIndex(item.getOrderIndex())
+                .targetSets(item.getTargetSets())
+                .targetReps(item.getTargetReps())
+                .targetWeight(item.getTargetWeight())
+                .restSeconds(item.getRestSeconds())
+                .note(item.getNote())
+                .build());
+        }
+
+        Routine savedCopy = routineRepository.save(copy);
+        routineRepository.incrementCopyCount(routineId);
+        RoutineTemplate copyTemplate = RoutineTemplate.from(savedCopy);
+        AfterCommit.run(() -> {
+            routineDiscoveryService.recordCopy(template);
+            routineTemplateCache.put(copyTemplate);
+        });
+
+        log.info("Routine {} copied to {} for user: {}", routineId, savedCopy.getId(), userId);
+        return RoutineResponse.from(savedCopy, copyTemplate);
+    }
+
+    /**
+     * 루틴 템플릿 조회 (생성자 또는 공개 루틴, 사용 횟수는 변경하지 않음)
+     */
+    public RoutineTemplate getRoutineTemplate(Long userId, Long routineId) {
+        return getAccessibleTemplate(userId, routineId);
+    }
+
+    /**
+     * 운동 시작용 루틴 템플릿 조회 (접근 확인 후 사용 횟수 증가, 호출 측 트랜잭션에서 실행)
+     */
+    public RoutineTemplate useRoutine(Long userId, Long routineId) {
+        RoutineTemplate template = getAccessibleTemplate(userId, routineId);
+        routineRepository.incrementUseCount(routineId);
+        AfterCommit.run(() -> routineDiscoveryService.recordUse(template));
+        return template;
+    }
+
+    /**
+     * 루틴 템플릿 조회 (캐시 우선, 없으면 한 번의 조회로 적재)
+     */
+    private RoutineTemplate getTemplate(Long routineId) {
+        RoutineTemplate template = routineTemplateCache.get(routineId);
+        if (template != null) {
+            return template;
+        }
+        Routine routine = routineRepository.findWithExercisesById(routineId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ROUTINE_NOT_FOUND));
+        template = RoutineTemplate.from(routine);
+        routineTemplateCache.put(template);
+        return template;
+    }
+
+    /**
+     * 접근 가능한 루틴 템플릿 조회
+     * 생성자는 바뀌지 않으므로 캐시로 확인하고, 다른 사용자는 공개 여부를 DB에서 확인한다.
+     * (비공개 전환 직후 이전 템플릿이 다시 캐시에 채워져도 TTL 동안 노출되지 않도록)
+     */
+    private RoutineTemplate getAccessibleTemplate(Long userId, Long routineId) {
+        RoutineTemplate template = getTemplate(routineId);
+        if (template.getUserId().equals(userId)) {
+            return template;
+        }
+        boolean isPublic = routineRepository.findIsPublicById(routineId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ROUTINE_NOT_FOUND));
+        if (!isPublic) {
+            throw new BusinessException(ErrorCode.ROUTINE_ACCESS_DENIED);
+        }
+        return template;
+    }
+
+    private Routine getOwnedRoutine(Long userId, Long routineId) {
+        Routine routine = routineRepository.findWithExercisesById(routineId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.ROUTINE_NOT_FOUND));
+        if (!routine.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ROUTINE_ACCESS_DENIED);
+        }
+        return routine;
+    }
+
+    /**
+     * 요청 운동 항목을 루틴에 추가 (운동 정보는 한 번에 조회)
+     */
+    private void addExercises(Routine routine, List<RoutineRequest.ExerciseItem> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        List<Integer> serverIds = items.stream()
+            .map(item -> exerciseIdMapper.toServerId(item.getExerciseId()))
+            .toList();
+        Map<Integer, Exercise> exercises = loadExercises(new HashSet<>(serverIds));
+
+        for (int i = 0; i < items.size(); i++) {
+            RoutineRequest.ExerciseItem item = items.get(i);
+            routine.addExercise(RoutineExercise.builder()
+                .exercise(exercises.get(serverIds.get(i)))
+                .orderIndex(i)
+                .targetSets(item.getTargetSets())
+                .targetReps(item.getTargetReps())
+                .targetWeight(item.getTargetWeight())
+                .restSeconds(item.getRestSeconds() != null ? item.getRestSeconds() : 60)
+                .note(item.getNote())
+                .build());
+        }
+    }
+
+    private Map<Integer, Exercise> loadExercises(Set<Integer> exerciseIds) {
+        Map<Integer, Exercise> exercises = exerciseRepository.findAllById(exerciseIds).stream()
+            .collect(Collectors.toMap(Exercise::getId, exercise -> exercise));
+        if (exercises.size() != exerciseIds.size()) {
+            throw new BusinessException(ErrorCode.EXERCISE_NOT_FOUND);
+        }
+        return exercises;
+    }
+}
@@ -0,0 +1,75 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 루틴 템플릿 캐시
+ * 루틴 구성은 수정보다 조회가 훨씬 많으므로 Redis에 보관하고, 수정/삭제 시 제거한다.
+ * Redis가 없으면 (dev/test) 메모리에 보관한다.
+ *
+ * Redis 키 구조
+ * - routine:template:{id} : RoutineTemplate
+ */
+@Slf4j
+@Component
+public class RoutineTemplateCache {
+
+    private static final String KEY_PREFIX = "routine:template:";
+    private static final Duration TTL = Duration.ofHours(6);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소
+    private final Map<Long, RoutineTemplate> localTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 템플릿 조회 (없으면 null)
+     */
+    public RoutineTemplate get(Long routineId) {
+        if (redisTemplate != null) {
+            try {
+                Object value = redisTemplate.opsForValue().get(KEY_PREFIX + routineId);
+                return value instanceof RoutineTemplate template ? template : null;
+            } catch (RuntimeException e) {
+                log.warn("Failed to read routine template {} from cache: {}", routineId, e.getMessage());
+                return null;
+            }
+        }
+        return localTemplates.get(routineId);
+    }
+
+    /**
+     * 템플릿 저장
+     */
+    public void put(RoutineTemplate template) {
+        if (redisTemplate != null) {
+            redisTemplate.opsForValue().set(KEY_PREFIX + template.getId(), template, TTL);
+            return;
+        }
+        if (localTemplates.size() >= LOCAL_MAX_SIZE) {
+            localTemplates.clear();
+        }
+        localTemplates.put(template.getId(), template);
+    }
+
+    /**
+     * 템플릿 제거 (루틴 수정/삭제 시)
+     */
+    public void evict(Long routineId) {
+        if (redisTemplate != null) {
+            redisTemplate.delete(KEY_PREFIX + routineId);
+            return;
+        }
+        localTemplates.remove(routineId);
+    }
+}
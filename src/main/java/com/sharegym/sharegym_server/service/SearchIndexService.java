@@ -0,0 +1,105 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.entity.Group;
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.repository.GroupRepository;
+import com.sharegym.sharegym_server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * 그룹 / 사용자 검색 색인 서비스
+ * 그룹명, 사용자명, 표시 이름을 NgramSearchIndex로 검색하고 DB에는 결과 페이지의 ID만 조회한다.
+ * 전체 재구성은 시작 시와 주기적으로 수행하고, 생성/수정 시에는 해당 항목만 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private final GroupRepository groupRepository;
+    private final UserRepository userRepository;
+
+    private final NgramSearchIndex groupIndex = new NgramSearchIndex();
+    private final NgramSearchIndex userIndex = new NgramSearchIndex();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * 검색 색인 전체 재구성 (멤버 수 / 팔로워 수 순위도 함께 갱신)
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        groupIndex.rebuild(() -> {
+            Map<Long, NgramSearchIndex.Document> groups = new HashMap<>();
+            for (Object[] row : groupRepository.findSearchFields()) {
+                groups.put((Long) row[0], NgramSearchIndex.Document.of(count(row[2]), (String) row[1]));
+            }
+            return groups;
+        });
+
+        userIndex.rebuild(() -> {
+            Map<Long, NgramSearchIndex.Document> users = new HashMap<>();
+            for (Object[] row : userRepository.findSearchFields()) {
+                users.put((Long) row[0],
+                    NgramSearchIndex.Document.of(count(row[3]), (String) row[1], (String) row[2]));
+            }
+            return users;
+        });
+
+        log.info("Search index rebuilt: {} groups, {} users", groupIndex.size(), userIndex.size());
+    }
+
+    /**
+     * 그룹 검색 (그룹명)
+     */
+    public NgramSearchIndex.Result searchGroups(String keyword, long offset, int limit) {
+        return groupIndex.search(keyword, offset, limit, id -> true);
+    }
+
+    /**
+     * 사용자 검색 (사용자명 / 표시 이름, 제외할 사용자 지정 가능)
+     */
+    public NgramSearchIndex.Result searchUsers(String keyword, long offset, int limit, Long excludedUserId) {
+        Predicate<Long> filter = excludedUserId != null ? id -> !id.equals(excludedUserId) : id -> true;
+        return userIndex.search(keyword, offset, limit, filter);
+    }
+
+    /**
+     * 그룹 생성/수정 시 색인 반영 (비활성 그룹은 제거)
+     */
+    public void indexGroup(Group group) {
+        if (!Boolean.TRUE.equals(group.getIsActive())) {
+            groupIndex.remove(group.getId());
+            return;
+        }
+        groupIndex.put(group.getId(), NgramSearchIndex.Document.of(count(group.getMemberCount()), group.getName()));
+    }
+
+    /**
+     * 가입/프로필 수정 시 색인 반영 (비활성 사용자는 제거)
+     */
+    public void indexUser(User user) {
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            userIndex.remove(user.getId());
+            return;
+        }
+        userIndex.put(user.getId(), NgramSearchIndex.Document.of(count(user.getFollowerCount()),
+            user.getUsername(), user.getDisplayName()));
+    }
+
+    private static long count(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+}
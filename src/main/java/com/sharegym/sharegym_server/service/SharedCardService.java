@@ -0,0 +1,329 @@
+package com.sharegym.sharegym_server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sharegym.sharegym_server.common.AfterCommit;
+import com.sharegym.sharegym_server.dto.request.CompleteSharedCardRequest;
+import com.sharegym.sharegym_server.dto.request.CreateSharedCardRequest;
+import com.sharegym.sharegym_server.dto.response.SharedCardCompletionResponse;
+import com.sharegym.sharegym_server.dto.response.SharedCardResponse;
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.entity.Group;
+import com.sharegym.sharegym_server.entity.SharedWorkoutCard;
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutExercise;
+import com.sharegym.sharegym_server.entity.WorkoutSet;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 공유 카드 서비스
+ * 카드 목록은 SharedCardStore의 그룹별 캐시에서 제공하고,
+ * 완료는 유니크 제약 INSERT + 원자적 카운터 증가로 처리해 카드 행을 갱신하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SharedCardService {
+
+    private static final TypeReference<List<SharedCardResponse.ExerciseItem>> EXERCISE_LIST = new TypeReference<>() {
+    };
+
+    private final SharedWorkoutCardRepository sharedWorkoutCardRepository;
+    private final SharedCardCompletionRepository sharedCardCompletionRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final RoutineService routineService;
+    private final SharedCardStore sharedCardStore;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 공유 카드 생성 (운동 세션 또는 루틴의 구성을 스냅샷으로 저장)
+     */
+    @Transactional
+    public SharedCardResponse createCard(Long userId, CreateSharedCardRequest request) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        Long groupId = request.getGroupId();
+        if (!groupRepository.existsById(groupId)) {
+            throw new BusinessException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        if (!groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER,
+                "그룹 멤버만 공유 카드를 만들 수 있습니다.");
+        }
+
+        List<SharedCardResponse.ExerciseItem> exercises;
+        if (request.getWorkoutId() != null) {
+            exercises = exercisesOfWorkout(userId, request.getWorkoutId());
+        } else if (request.getRoutineId() != null) {
+            exercises = exercisesOfRoutine(routineService.getRoutineTemplate(userId, request.getRoutineId()));
+        } else {
+            exercises = List.of();
+        }
+
+        SharedWorkoutCard card = sharedWorkoutCardRepository.save(SharedWorkoutCard.builder()
+            .groupId(groupId)
+            .userId(userId)
+            .workoutId(request.getWorkoutId())
+            .routineId(request.getWorkoutId() == null ? request.getRoutineId() : null)
+            .title(request.getTitle())
+            .message(request.getMessage())
+            .exercises(writeExercises(exercises))
+            .expiresAt(request.getDurationHours() != null
+                ? LocalDateTime.now().plusHours(request.getDurationHours()) : null)
+            .build());
+
+        // 커밋 전에 비우면 그 사이 조회가 새 카드 없는 목록을 다시 캐시하고,
+        // 커밋 전에 알리면 롤백된 카드가 전송되므로 모두 커밋 후 반영
+        AfterCommit.run(() -> {
+            sharedCardStore.seedCount(card.getId(), () -> 0L);
+            sharedCardStore.evictCards(groupId);
+            notificationService.notifySharedCardCreated(groupId, card.getId(), card.getTitle(),
+                userId, user.getDisplayName());
+        });
+
+        log.info("Shared card {} created in group {} by user {}", card.getId(), groupId, userId);
+        return toResponse(card, exercises, Map.of(userId, user)).toBuilder()
+            .completionCount(0L)
+            .completedByMe(false)
+            .build();
+    }
+
+    /**
+     * 그룹 공유 카드 목록 (최근 50개, 기한이 지난 카드 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<SharedCardResponse> getCards(Long groupId, Long userId) {
+        Group group = groupRepository.findById(groupId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+
+        // 비공개 그룹은 멤버만 조회 가능
+        if (!group.getIsPublic() &&
+            !groupMemberRepository.existsByGroupIdAndUserId(groupId, userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "비공개 그룹의 공유 카드는 멤버만 조회할 수 있습니다.");
+        }
+
+        List<SharedCardResponse> cached = sharedCardStore.getCards(groupId);
+        if (cached == null) {
+            cached = loadCards(groupId);
+            sharedCardStore.putCards(groupId, cached);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SharedCardResponse> cards = cached.stream()
+            .filter(card -> card.getExpiresAt() == null || now.isBefore(card.getExpiresAt()))
+            .toList();
+        if (cards.isEmpty()) {
+            return cards;
+        }
+
+        List<Long> cardIds = cards.stream().map(SharedCardResponse::getId).toList();
+        Map<Long, Long> counts = completionCounts(cardIds);
+        Set<Long> completed = new HashSet<>(sharedCardCompletionRepository.findCompletedCardIds(userId, cardIds));
+
+        List<SharedCardResponse> responses = new ArrayList<>(cards.size());
+        for (SharedCardResponse card : cards) {
+            responses.add(card.toBuilder()
+                .completionCount(counts.getOrDefault(card.getId(), 0L))
+                .completedByMe(completed.contains(card.getId()))
+                .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 공유 카드 완료
+     * 같은 사용자의 재요청은 기존 완료로 응답하며 카운터를 다시 증가시키지 않는다.
+     */
+    @Transactional
+    public SharedCardCompletionResponse completeCard(Long userId, Long cardId, CompleteSharedCardRequest request) {
+        SharedWorkoutCard card = sharedWorkoutCardRepository.findById(cardId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.SHARED_CARD_NOT_FOUND));
+        if (card.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.SHARED_CARD_EXPIRED);
+        }
+        if (!groupMemberRepository.existsByGroupIdAndUserId(card.getGroupId(), userId)) {
+            throw new BusinessException(ErrorCode.NOT_GROUP_MEMBER,
+                "그룹 멤버만 공유 카드를 완료할 수 있습니다.");
+        }
+
+        // 카운터 유실 시 기록 기준으로 복구 (자신의 INSERT 이전 값)
+        sharedCardStore.seedCount(cardId, () -> sharedCardCompletionRepository.countByCardId(cardId));
+        Long workoutId = request != null ? request.getWorkoutId() : null;
+        boolean inserted = sharedCardCompletionRepository.insertIfAbsent(cardId, userId, workoutId,
+            LocalDateTime.now());
+        if (!inserted) {
+            return SharedCardCompletionResponse.builder()
+                .cardId(cardId)
+                .groupId(card.getGroupId())
+                .alreadyCompleted(true)
+                .completionCount(sharedCardStore.getCounts(List.of(cardId)).getOrDefault(cardId, 0L))
+                .build();
+        }
+
+        // 카운터 증가와 알림은 커밋 후 반영 (롤백된 완료가 카운터 / 구독자에게 남지 않도록)
+        // 응답에는 현재 카운터에 자신의 완료를 더한 값을 사용
+        long count = sharedCardStore.getCounts(List.of(cardId)).getOrDefault(cardId, 0L) + 1;
+        String userName = userRepository.findById(userId).map(User::getDisplayName).orElse(null);
+        AfterCommit.run(() -> {
+            long committedCount = sharedCardStore.incrementCount(cardId);
+            notificationService.notifySharedCardCompleted(card.getGroupId(), cardId, userId, userName,
+                committedCount);
+        });
+
+        log.debug("Shared card {} completed by user {} ({} completions)", cardId, userId, count);
+        return SharedCardCompletionResponse.builder()
+            .cardId(cardId)
+            .groupId(card.getGroupId())
+            .alreadyCompleted(false)
+            .completionCount(count)
+            .build();
+    }
+
+    /**
+     * 그룹 카드 목록 적재 (작성자 정보는 한 번에 조회)
+     */
+    private List<SharedCardResponse> loadCards(Long groupId) {
+        List<SharedWorkoutCard> cards = sharedWorkoutCardRepository.findTop50ByGroupIdOrderByCreatedAtDesc(groupId);
+        Map<Long, User> users = userRepository.findAllById(cards.stream()
+                .map(SharedWorkoutCard::getUserId)
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<SharedCardResponse> responses = new ArrayList<>(cards.size());
+        for (SharedWorkoutCard card : cards) {
+            responses.add(toResponse(card, readExercises(card.getExercises()), users));
+        }
+        return responses;
+    }
+
+    /**
+     * 카드별 완료 수 (카운터가 없는 카드는 기록 기준으로 한 번에 집계해 카운터 생성)
+     */
+    private Map<Long, Long> completionCounts(List<Long> cardIds) {
+        Map<Long, Long> counts = sharedCardStore.getCounts(cardIds);
+        List<Long> missing = cardIds.stream().filter(id -> !counts.containsKey(id)).toList();
+        if (missing.isEmpty()) {
+            return counts;
+        }
+        Map<Long, Long> committed = new HashMap<>();
+        for (Object[] row : sharedCardCompletionRepository.countByCardIds(missing)) {
+            committed.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        for (Long cardId : missing) {
+            long count = committed.getOrDefault(cardId, 0L);
+            sharedCardStore.seedCount(cardId, () -> count);
+            counts.put(cardId, count);
+        }
+        return counts;
+    }
+
+    private List<SharedCardResponse.ExerciseItem> exercisesOfWorkout(Long userId, Long workoutId) {
+        Workout workout = workoutRepository.findById(workoutId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.WORKOUT_NOT_FOUND));
+        if (!workout.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "본인의 운동만 공유할 수 있습니다.");
+        }
+
+        // 완료 세트를 운동 항목별로 묶어 세트 수 / 최고 중량 / 해당 반복 수로 요약
+        Map<Long, List<WorkoutSet>> setsByExercise = new LinkedHashMap<>();
+        for (WorkoutSet set : workoutSetRepository.findCompletedWithExerciseByWorkoutId(workoutId)) {
+            setsByExercise.computeIfAbsent(set.getWorkoutExercise().getId(), id -> new ArrayList<>()).add(set);
+        }
+        List<List<WorkoutSet>> grouped = new ArrayList<>(setsByExercise.values());
+        grouped.sort(Comparator.comparingInt(sets -> {
+            Integer orderIndex = sets.get(0).getWorkoutExercise().getOrderIndex();
+            return orderIndex != null ? orderIndex : 0;
+        }));
+        List<SharedCardResponse.ExerciseItem> items = new ArrayList<>(grouped.size());
+        for (List<WorkoutSet> sets : grouped) {
+            WorkoutExercise workoutExercise = sets.get(0).getWorkoutExercise();
+            Exercise exercise = workoutExercise.getExercise();
+            WorkoutSet top = sets.stream()
+                .max(Comparator.comparingDouble(set -> set.getWeight() != null ? set.getWeight() : 0.0))
+                .orElseThrow();
+            items.add(SharedCardResponse.ExerciseItem.builder()
+                .exerciseId(exercise.getClientId())
+                .exerciseName(exercise.getExerciseName())
+                .exerciseNameKo(exercise.getExerciseNameKo())
+                .sets(sets.size())
+                .reps(top.getReps())
+                .weight(top.getWeight())
+                .build());
+        }
+        return items;
+    }
+
+    private static List<SharedCardResponse.ExerciseItem> exercisesOfRoutine(RoutineTemplate template) {
+        return template.getExercises().stream()
+            .map(item -> SharedCardResponse.ExerciseItem.builder()
+                .exerciseId(item.getClientId())
+                .exerciseName(item.getExerciseName())
+                .exerciseNameKo(item.getExerciseNameKo())
+                .sets(item.getTargetSets())
+                .reps(item.getTargetReps())
+                .weight(item.getTargetWeight())
+                .build())
+            .toList();
+    }
+
+    private String writeExercises(List<SharedCardResponse.ExerciseItem> exercises) {
+        try {
+            return objectMapper.writeValueAsString(exercises);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "운동 구성을 저장할 수 없습니다.");
+        }
+    }
+
+    private List<SharedCardResponse.ExerciseItem> readExercises(String exercises) {
+        if (exercises == null || exercises.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(exercises, EXERCISE_LIST);
+        } catch (JsonProcessingException e) {
+            log.warn("Invalid shared card exercise snapshot: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static SharedCardResponse toResponse(SharedWorkoutCard card, List<SharedCardResponse.ExerciseItem> exercises,
+                                                 Map<Long, User> users) {
+        User author = users.get(card.getUserId());
+        return SharedCardResponse.builder()
+            .id(card.getId())
+            .groupId(card.getGroupId())
+            .userId(card.getUserId())
+            .username(author != null ? author.getUsername() : null)
+            .displayName(author != null ? author.getDisplayName() : null)
+            .profileImageUrl(author != null ? author.getProfileImageUrl() : null)
+            .workoutId(card.getWorkoutId())
+            .routineId(card.getRoutineId())
+            .title(card.getTitle())
+            .message(card.getMessage())
+            .exercises(new ArrayList<>(exercises))
+            .expiresAt(card.getExpiresAt())
+            .createdAt(card.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.response.SharedCardResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 공유 카드 캐시 / 완료 카운터
+ * 그룹별 카드 목록은 생성 시 무효화되는 캐시로 제공하고,
+ * 완료 수는 카드별 원자적 카운터(INCR)로 관리해 완료 요청이 몰려도 카드 행을 잠그지 않는다.
+ * Redis가 없으면 (dev/test) 메모리에 보관한다.
+ *
+ * Redis 키 구조
+ * - shared-card:group:{groupId} : List<SharedCardResponse> (완료 수 제외)
+ * - shared-card:count:{cardId}  : 완료 수
+ */
+@Slf4j
+@Component
+public class SharedCardStore {
+
+    private static final String LIST_KEY_PREFIX = "shared-card:group:";
+    private static final String COUNT_KEY_PREFIX = "shared-card:count:";
+    private static final Duration LIST_TTL = Duration.ofMinutes(10);
+    private static final Duration COUNT_TTL = Duration.ofDays(31);
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소
+    private final Map<Long, List<SharedCardResponse>> localCards = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> localCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시된 그룹 카드 목록 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public List<SharedCardResponse> getCards(Long groupId) {
+        if (redisTemplate != null) {
+            try {
+                Object value = redisTemplate.opsForValue().get(LIST_KEY_PREFIX + groupId);
+                return value instanceof List<?> cards ? (List<SharedCardResponse>) cards : null;
+            } catch (RuntimeException e) {
+                log.warn("Failed to read shared cards of group {} from cache: {}", groupId, e.getMessage());
+                return null;
+            }
+        }
+        return localCards.get(groupId);
+    }
+
+    public void putCards(Long groupId, List<SharedCardResponse> cards) {
+        if (redisTemplate != null) {
+            redisTemplate.opsForValue().set(LIST_KEY_PREFIX + groupId, new ArrayList<>(cards), LIST_TTL);
+            return;
+        }
+        localCards.put(groupId, List.copyOf(cards));
+    }
+
+    public void evictCards(Long groupId) {
+        if (redisTemplate != null) {
+            redisTemplate.delete(LIST_KEY_PREFIX + groupId);
+            return;
+        }
+        localCards.remove(groupId);
+    }
+
+    /**
+     * 카운터가 없으면 주어진 값으로 생성 (이미 있으면 유지)
+     * 완료 기록 INSERT 전에 호출해야 이후 증가분이 중복 반영되지 않는다.
+     */
+    public void seedCount(Long cardId, LongSupplier committedCount) {
+        if (redisTemplate != null) {
+            String key = COUNT_KEY_PREFIX + cardId;
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.opsForValue().setIfAbsent(key, committedCount.getAsLong(), COUNT_TTL);
+            }
+            return;
+        }
+        localCounts.computeIfAbsent(cardId, id -> new AtomicLong(committedCount.getAsLong()));
+    }
+
+    /**
+     * 완료 수 증가 (증가 후 값)
+     */
+    public long incrementCount(Long cardId) {
+        if (redisTemplate != null) {
+            String key = COUNT_KEY_PREFIX + cardId;
+            Long count = redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, COUNT_TTL);
+            return count != null ? count : 0L;
+        }
+        return localCounts.computeIfAbsent(cardId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 카드별 완료 수 (카운터가 없는 카드는 결과에서 제외)
+     */
+    public Map<Long, Long> getCounts(List<Long> cardIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (cardIds.isEmpty()) {
+            return counts;
+        }
+        if (redisTemplate != null) {
+            List<Object> values = redisTemplate.opsForValue().multiGet(
+                cardIds.stream().map(id -> COUNT_KEY_PREFIX + id).toList());
+            for (int i = 0; i < cardIds.size(); i++) {
+                Object value = values != null ? values.get(i) : null;
+                if (value != null) {
+                    counts.put(cardIds.get(i), Long.valueOf(value.toString()));
+                }
+            }
+            return counts;
+        }
+        for (Long cardId : cardIds) {
+            AtomicLong count = localCounts.get(cardId);
+            if (count != null) {
+                counts.put(cardId, count.get());
+            }
+        }
+        return counts;
+    }
+}
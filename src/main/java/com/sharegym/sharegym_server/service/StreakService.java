@@ -0,0 +1,109 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.entity.User;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 운동 스트릭 서비스
+ * 운동 완료 시 사용자의 마지막 운동일만 비교해 O(1)로 스트릭을 갱신하고,
+ * 끊긴 스트릭은 스케줄러가 시간대별 일괄 UPDATE로 초기화한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StreakService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 운동 완료 반영 (호출 측 트랜잭션에서 사용자 엔티티 변경)
+     * @param workoutTime 서버 시간대 기준 운동 시작 시간
+     */
+    public void recordWorkout(User user, LocalDateTime workoutTime) {
+        user.recordWorkoutDay(toUserDate(user, workoutTime));
+    }
+
+    /**
+     * 서버 시간을 사용자 시간대의 날짜로 변환
+     */
+    public static LocalDate toUserDate(User user, LocalDateTime serverTime) {
+        return serverTime.atZone(ZoneId.systemDefault())
+            .withZoneSameInstant(safeZone(user.getTimeZone()))
+            .toLocalDate();
+    }
+
+    /**
+     * 사용자 시간대 기준 날짜의 시작 시각 (서버 시간)
+     */
+    public static LocalDateTime startOfUserDate(User user, LocalDate date) {
+        return date.atStartOfDay(safeZone(user.getTimeZone()))
+            .withZoneSameInstant(ZoneId.systemDefault())
+            .toLocalDateTime();
+    }
+
+    /**
+     * 시간대가 비어 있는 기존 사용자에 기본 시간대 채우기
+     * 스트릭 만료 쿼리가 COALESCE 없이 time_zone 인덱스를 쓰도록 시작 시 한 번 실행한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillTimeZones() {
+        int updated = userRepository.backfillTimeZone(User.DEFAULT_TIME_ZONE);
+        if (updated > 0) {
+            log.info("Backfilled default time zone for {} users", updated);
+        }
+    }
+
+    /**
+     * 끊긴 스트릭 일괄 초기화
+     * 각 시간대의 "어제"보다 마지막 운동일이 이전인 사용자의 스트릭을 0으로 만든다.
+     * @return 초기화된 사용자 수
+     */
+    @Transactional
+    public int expireStreaks() {
+        int expired = 0;
+        for (String timeZone : userRepository.findStreakTimeZones()) {
+            LocalDate cutoff = LocalDate.now(safeZone(timeZone)).minusDays(1);
+            expired += userRepository.resetExpiredStreaks(timeZone, cutoff);
+            expired += userRepository.resetStreaksWithoutWorkoutDate(timeZone);
+        }
+        return expired;
+    }
+
+    /**
+     * 시간대 문자열 검증
+     */
+    public static ZoneId resolveZone(String timeZone) {
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "유효하지 않은 시간대입니다: " + timeZone);
+        }
+    }
+
+    private static ZoneId safeZone(String timeZone) {
+        if (timeZone == null) {
+            return ZoneId.of(User.DEFAULT_TIME_ZONE);
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            log.warn("Invalid time zone {}, using default", timeZone);
+            return ZoneId.of(User.DEFAULT_TIME_ZONE);
+        }
+    }
+}
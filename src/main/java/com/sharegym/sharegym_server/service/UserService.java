@@ -1,5 +1,6 @@
 package com.sharegym.sharegym_server.service;
 
+import com.sharegym.sharegym_server.common.AfterCommit;
 import com.sharegym.sharegym_server.dto.request.UpdateProfileRequest;
 import com.sharegym.sharegym_server.dto.response.UserResponse;
 import com.sharegym.sharegym_server.entity.User;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -24,7 +26,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+
     private final UserRepository userRepository;
+    private final SearchIndexService searchIndexService;
 
     /**
      * 현재 사용자 프로필 조회
@@ -109,19 +114,33 @@ public class UserService {
         if (request.getFcmToken() != null) {
             user.setFcmToken(request.getFcmToken());
         }
+        if (request.getTimeZone() != null) {
+            user.setTimeZone(StreakService.resolveZone(request.getTimeZone()).getId());
+        }
 
         User updatedUser = userRepository.save(user);
+        AfterCommit.run(() -> searchIndexService.indexUser(updatedUser));
         log.info("User profile updated: {}", updatedUser.getEmail());
 
         return UserResponse.from(updatedUser);
     }
 
     /**
-     * 사용자 검색
+     * 사용자 검색 (사용자명 / 표시 이름, 본인 제외)
      */
     @Transactional(readOnly = true)
-    public List<UserResponse> searchUsers(String keyword, Long currentUserId) {
-        List<User> users = userRepository.searchUsers(keyword);
+    public List<UserResponse> searchUsers(String keyword, Long currentUserId, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        long offset = (long) Math.max(page, 0) * pageSize;
+        List<Long> userIds = searchIndexService.searchUsers(keyword, offset, pageSize, currentUserId).ids();
+
+        // 색인 순서 유지 (색인 갱신 전 삭제된 사용자는 제외)
+        Map<Long, User> loaded = userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, user -> user));
+        List<User> users = userIds.stream()
+            .map(loaded::get)
+            .filter(user -> user != null)
+            .toList();
 
         User currentUser = null;
         if (currentUserId != null) {
@@ -130,7 +149,6 @@ public class UserService {
 
         final User finalCurrentUser = currentUser;
         return users.stream()
-            .filter(u -> !u.getId().equals(currentUserId)) // 본인 제외
             .map(user -> {
                 if (finalCurrentUser != null) {
                     boolean isFollowing = finalCurrentUser.getFollowing().contains(user);
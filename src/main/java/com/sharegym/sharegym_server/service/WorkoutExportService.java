@@ -0,0 +1,157 @@
+package com.sharegym.sharegym_server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import com.sharegym.sharegym_server.repository.WorkoutRepositoryCustom.ExportExercise;
+import com.sharegym.sharegym_server.repository.WorkoutRepositoryCustom.ExportSet;
+import com.sharegym.sharegym_server.repository.WorkoutRepositoryCustom.ExportWorkout;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 운동 기록 내보내기 서비스
+ * 운동 ID 순 keyset 페이지 단위로 읽어 NDJSON(운동당 한 줄) 또는 CSV(세트당 한 줄)로 바로 쓴다.
+ * 한 페이지만 메모리에 유지하므로 기록 양과 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutExportService {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static final String CSV_HEADER =
+        "workout_id,workout_name,status,start_time,end_time,duration_seconds,calories," +
+        "exercise_id,exercise_name,exercise_order,set_number,weight,reps,distance,duration,level," +
+        "is_warmup,is_completed,completed_at,note";
+
+    private final WorkoutRepository workoutRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 형식 Enum
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 형식 문자열 변환 (ndjson, csv)
+     */
+    public Format parseFormat(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "내보내기 형식은 ndjson, csv 중 하나여야 합니다.");
+        }
+    }
+
+    /**
+     * 사용자 전체 운동 기록 내보내기 (응답 스트림에 점진적으로 기록)
+     */
+    public StreamingResponseBody export(Long userId, Format format) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            long afterWorkoutId = 0L;
+            int exported = 0;
+            while (true) {
+                List<ExportWorkout> page = workoutRepository.findExportPage(userId, afterWorkoutId, PAGE_SIZE);
+                for (ExportWorkout workout : page) {
+                    if (format == Format.CSV) {
+                        writeCsv(writer, workout);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(workout));
+                        writer.write('\n');
+                    }
+                }
+                writer.flush();
+
+                exported += page.size();
+                if (page.size() < PAGE_SIZE) {
+                    break;
+                }
+                afterWorkoutId = page.get(page.size() - 1).id();
+            }
+            log.info("Workout history exported for user: {} ({} workouts, {})", userId, exported, format);
+        };
+    }
+
+    /**
+     * 운동 하나를 CSV 행으로 기록 (세트당 한 행, 세트가 없으면 운동 정보만)
+     */
+    private void writeCsv(Writer writer, ExportWorkout workout) throws IOException {
+        String workoutColumns = String.join(",",
+            csv(workout.id()), csv(workout.name()), csv(workout.status()),
+            csv(workout.startTime()), csv(workout.endTime()), csv(workout.duration()), csv(workout.calories()));
+
+        if (workout.exercises().isEmpty()) {
+            writer.write(workoutColumns);
+            writer.write(",,,,,,,,,,,,,\n");
+            return;
+        }
+        for (ExportExercise exercise : workout.exercises()) {
+            String exerciseColumns = String.join(",",
+                csv(exercise.exerciseId()), csv(exercise.name()), csv(exercise.order()));
+            if (exercise.sets().isEmpty()) {
+                writer.write(workoutColumns + "," + exerciseColumns);
+                writer.write(",,,,,,,,,,\n");
+                continue;
+            }
+            for (ExportSet set : exercise.sets()) {
+                writer.write(workoutColumns + "," + exerciseColumns + "," + String.join(",",
+                    csv(set.setNumber()), csv(set.weight()), csv(set.reps()), csv(set.distance()),
+                    csv(set.duration()), csv(set.level()), csv(set.isWarmup()), csv(set.isCompleted()),
+                    csv(set.completedAt()), csv(set.note())));
+                writer.write('\n');
+            }
+        }
+    }
+
+    /**
+     * CSV 필드 변환 (쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+     */
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
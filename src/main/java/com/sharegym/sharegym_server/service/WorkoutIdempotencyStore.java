@@ -0,0 +1,73 @@
+package com.sharegym.sharegym_server.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운동 세션 저장 멱등 키 저장소
+ * 멱등 키 → 저장된 운동 ID 를 TTL 동안 보관한다. Redis가 없으면 (dev/test) 메모리에 보관한다.
+ * TTL 이후의 재전송은 workouts.client_session_id 유니크 컬럼으로 걸러진다.
+ *
+ * Redis 키 구조
+ * - workout:idem:{userId}:{key} : 저장된 운동 ID
+ */
+@Slf4j
+@Component
+public class WorkoutIdempotencyStore {
+
+    private static final String KEY_PREFIX = "workout:idem:";
+    private static final Duration TTL = Duration.ofHours(24);
+
+    @Autowired(required = false)
+    private RedisTemplate<String, Object> redisTemplate;
+
+    // Redis 미사용 시 메모리 저장소 (키 → 운동 ID, 만료 시각)
+    private final Map<String, LocalEntry> localEntries = new ConcurrentHashMap<>();
+
+    /**
+     * 저장된 운동 ID 조회 (없으면 null)
+     */
+    public Long find(Long userId, String idempotencyKey) {
+        String key = key(userId, idempotencyKey);
+        if (redisTemplate != null) {
+            Object value = redisTemplate.opsForValue().get(key);
+            return value != null ? Long.valueOf(value.toString()) : null;
+        }
+        LocalEntry entry = localEntries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            localEntries.remove(key, entry);
+            return null;
+        }
+        return entry.workoutId();
+    }
+
+    /**
+     * 저장된 운동 ID 기록
+     */
+    public void put(Long userId, String idempotencyKey, Long workoutId) {
+        String key = key(userId, idempotencyKey);
+        if (redisTemplate != null) {
+            redisTemplate.opsForValue().set(key, workoutId.toString(), TTL);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        localEntries.values().removeIf(entry -> entry.expiresAt() < now);
+        localEntries.put(key, new LocalEntry(workoutId, now + TTL.toMillis()));
+    }
+
+    private String key(Long userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+
+    private record LocalEntry(Long workoutId, long expiresAt) {
+    }
+}
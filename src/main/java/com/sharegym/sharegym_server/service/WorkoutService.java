@@ -1,19 +1,25 @@
 package com.sharegym.sharegym_server.service;
 
+import com.sharegym.sharegym_server.common.AfterCommit;
 import com.sharegym.sharegym_server.common.ExerciseIdMapper;
 import com.sharegym.sharegym_server.dto.request.AddExerciseRequest;
 import com.sharegym.sharegym_server.dto.request.CreateWorkoutRequest;
 import com.sharegym.sharegym_server.dto.request.SetRequest;
+import com.sharegym.sharegym_server.dto.request.WorkoutSessionRequest;
 import com.sharegym.sharegym_server.dto.response.WorkoutResponse;
 import com.sharegym.sharegym_server.dto.response.WorkoutSessionResponse;
+import com.sharegym.sharegym_server.dto.routine.RoutineTemplate;
 import com.sharegym.sharegym_server.entity.*;
 import com.sharegym.sharegym_server.exception.BusinessException;
 import com.sharegym.sharegym_server.exception.ErrorCode;
 import com.sharegym.sharegym_server.repository.ExerciseRepository;
 import com.sharegym.sharegym_server.repository.UserRepository;
+import com.sharegym.sharegym_server.repository.WorkoutExerciseRepository;
 import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import com.sharegym.sharegym_server.repository.WorkoutSetRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,11 +39,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class WorkoutService {
 
+    // 매핑되지 않은 운동을 저장할 때 사용하는 기타 운동 ID
+    private static final int OTHER_EXERCISE_ID = 9999;
+
     private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutSetRepository workoutSetRepository;
     private final UserRepository userRepository;
     private final ExerciseRepository exerciseRepository;
     private final ExerciseIdMapper exerciseIdMapper;
     private final NotificationService notificationService;
+    private final LiveWorkoutService liveWorkoutService;
+    private final StreakService streakService;
+    private final WorkoutStatsService workoutStatsService;
+    private final PersonalRecordService personalRecordService;
+    private final ExerciseProgressService exerciseProgressService;
+    private final ActivityCalendarService activityCalendarService;
+    private final WorkoutIdempotencyStore workoutIdempotencyStore;
+    private final RoutineService routineService;
+    private final GroupLeaderboardService groupLeaderboardService;
+    private final GroupChallengeService groupChallengeService;
 
     /**
      * 운동 세션 생성
@@ -54,21 +75,29 @@ public class WorkoutService {
                     "이미 진행 중인 운동이 있습니다. 먼저 완료하거나 취소해주세요.");
             });
 
+        // 루틴 기반 시작인 경우 루틴 템플릿 조회 (사용 횟수 증가)
+        RoutineTemplate routine = request.getRoutineId() != null
+            ? routineService.useRoutine(userId, request.getRoutineId()) : null;
+
         // 운동 세션 생성
         Workout workout = Workout.builder()
             .user(user)
-            .workoutName(request.getWorkoutName())
+            .workoutName(request.getWorkoutName() != null || routine == null
+                ? request.getWorkoutName() : routine.getName())
             .startTime(request.getStartTime() != null ? request.getStartTime() : LocalDateTime.now())
             .note(request.getNote())
             .status(Workout.WorkoutStatus.IN_PROGRESS)
             .build();
 
-        // 루틴 기반 시작인 경우 운동 추가
-        if (request.getRoutineId() != null) {
-            // TODO: 루틴 서비스 구현 후 처리
+        Workout savedWorkout;
+        if (routine != null) {
+            // 루틴 기반 시작: 루틴 운동을 추가해 세션과 함께 배치 INSERT로 저장
+            addRoutineExercises(workout, routine);
+            workoutRepository.insertSessions(List.of(workout));
+            savedWorkout = workout;
+        } else {
+            savedWorkout = workoutRepository.save(workout);
         }
-
-        Workout savedWorkout = workoutRepository.save(workout);
         log.info("Workout session created: {} for user: {}", savedWorkout.getId(), user.getEmail());
 
         // SSE 알림 전송
@@ -77,6 +106,32 @@ public class WorkoutService {
         return WorkoutResponse.from(savedWorkout);
     }
 
+    /**
+     * 루틴 템플릿의 운동을 세션에 추가 (운동 정보는 한 번에 조회)
+     */
+    private void addRoutineExercises(Workout workout, RoutineTemplate template) {
+        Map<Integer, Exercise> exercises = exerciseRepository.findAllById(template.getExercises().stream()
+                .map(RoutineTemplate.Item::getExerciseId)
+                .collect(Collectors.toSet())).stream()
+            .collect(Collectors.toMap(Exercise::getId, exercise -> exercise));
+
+        for (RoutineTemplate.Item item : template.getExercises()) {
+            Exercise exercise = exercises.get(item.getExerciseId());
+            if (exercise == null) {
+                continue;
+            }
+            workout.addExercise(WorkoutExercise.builder()
+                .workout(workout)
+                .exercise(exercise)
+                .orderIndex(item.getOrderIndex())
+                .targetSets(item.getTargetSets())
+                .targetReps(item.getTargetReps())
+                .targetWeight(item.getTargetWeight())
+                .note(item.getNote())
+                .build());
+        }
+    }
+
     /**
      * 운동 추가
      */
@@ -89,13 +144,12 @@ public class WorkoutService {
         }
 
         // 클라이언트 ID를 서버 ID로 변환
-        Integer exerciseServerId = exerciseIdMapper.toServerId(request.getExerciseId());
+        int exerciseServerId = exerciseIdMapper.toServerId(request.getExerciseId());
         Exercise exercise = exerciseRepository.findById(exerciseServerId)
             .orElseThrow(() -> new BusinessException(ErrorCode.EXERCISE_NOT_FOUND));
 
         // 운동 추가
         WorkoutExercise workoutExercise = WorkoutExercise.builder()
-            .workout(workout)
             .exercise(exercise)
             .orderIndex(request.getOrderIndex())
             .targetSets(request.getTargetSets())
@@ -103,12 +157,15 @@ public class WorkoutService {
             .targetWeight(request.getTargetWeight())
             .note(request.getNote())
             .build();
-
+        // 응답에 추가된 운동이 포함되도록 연관관계 먼저 설정
         workout.addExercise(workoutExercise);
-        Workout savedWorkout = workoutRepository.save(workout);
+
+        // 추가된 운동만 저장 (세션 전체 저장 없이)
+        workoutExerciseRepository.save(workoutExercise);
+        liveWorkoutService.onExerciseAdded(workoutId, workoutExercise.getId());
 
         log.info("Exercise added to workout: {} - {}", workoutId, exercise.getName());
-        return WorkoutResponse.from(savedWorkout);
+        return WorkoutResponse.from(workout);
     }
 
     /**
@@ -117,48 +174,48 @@ public class WorkoutService {
     @Transactional
     public WorkoutResponse addOrUpdateSet(Long userId, Long workoutId,
                                          Long exerciseId, SetRequest request) {
-        Workout workout = getWorkoutWithPermission(workoutId, userId);
+        // 세션 저장소의 미반영 세트는 컨트롤러에서 먼저 DB에 반영됨
+        WorkoutSet workoutSet = upsertSet(userId, workoutId, exerciseId, request);
+        liveWorkoutService.evict(workoutId);
+        return WorkoutResponse.from(workoutSet.getWorkoutExercise().getWorkout());
+    }
+
+    /**
+     * 세트 추가/업데이트 공통 처리
+     * 운동과 세트를 인덱스 조회로 찾아 변경된 세트만 저장
+     */
+    private WorkoutSet upsertSet(Long userId, Long workoutId, Long exerciseId, SetRequest request) {
+        WorkoutExercise workoutExercise = workoutExerciseRepository.findWithWorkout(workoutId, exerciseId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.EXERCISE_NOT_FOUND,
+                "해당 운동을 찾을 수 없습니다."));
+        Workout workout = workoutExercise.getWorkout();
 
+        if (!workout.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.ACCESS_DENIED,
+                "해당 운동에 대한 권한이 없습니다.");
+        }
         if (workout.getStatus() != Workout.WorkoutStatus.IN_PROGRESS) {
             throw new BusinessException(ErrorCode.WORKOUT_ALREADY_COMPLETED);
         }
 
-        // 운동 찾기
-        WorkoutExercise workoutExercise = workout.getExercises().stream()
-            .filter(we -> we.getId().equals(exerciseId))
-            .findFirst()
-            .orElseThrow(() -> new BusinessException(ErrorCode.EXERCISE_NOT_FOUND,
-                "해당 운동을 찾을 수 없습니다."));
-
         // 기존 세트 찾기 또는 새로 생성
-        WorkoutSet workoutSet = workoutExercise.getSets().stream()
-            .filter(s -> s.getSetNumber().equals(request.getSetNumber()))
-            .findFirst()
-            .orElseGet(() -> {
-                WorkoutSet newSet = WorkoutSet.builder()
-                    .workoutExercise(workoutExercise)
-                    .setNumber(request.getSetNumber())
-                    .build();
-                workoutExercise.addSet(newSet);
-                return newSet;
-            });
+        WorkoutSet workoutSet = workoutSetRepository
+            .findByWorkoutExerciseIdAndSetNumber(exerciseId, request.getSetNumber())
+            .orElseGet(() -> WorkoutSet.builder()
+                .workoutExercise(workoutExercise)
+                .setNumber(request.getSetNumber())
+                .build());
 
-        // 세트 정보 업데이트
-        workoutSet.setReps(request.getReps());
-        workoutSet.setWeight(request.getWeight());
-        workoutSet.setDistance(request.getDistance());
-        workoutSet.setDurationSeconds(request.getDurationSeconds());
-        workoutSet.setLevel(request.getLevel());
-        workoutSet.setSetType(request.getSetType());
-        workoutSet.setIsCompleted(request.getIsCompleted());
-        workoutSet.setRestSeconds(request.getRestSeconds());
-        workoutSet.setNote(request.getNote());
+        // 세트 정보 업데이트 (변경 전후 차이만 세션 통계에 반영)
+        workout.removeFromTotals(workoutSet);
+        request.applyTo(workoutSet);
+        workout.addToTotals(workoutSet);
 
-        Workout savedWorkout = workoutRepository.save(workout);
+        WorkoutSet savedSet = workoutSetRepository.save(workoutSet);
 
         log.info("Set updated for workout: {} exercise: {} set: {}",
             workoutId, exerciseId, request.getSetNumber());
-        return WorkoutResponse.from(savedWorkout);
+        return savedSet;
     }
 
     /**
@@ -166,6 +223,7 @@ public class WorkoutService {
      */
     @Transactional
     public WorkoutResponse completeWorkout(Long userId, Long workoutId) {
+        // 세션 저장소의 세트는 컨트롤러에서 트랜잭션 시작 전에 한 번의 배치로 반영됨
         Workout workout = getWorkoutWithPermission(workoutId, userId);
 
         if (workout.getStatus() != Workout.WorkoutStatus.IN_PROGRESS) {
@@ -174,14 +232,15 @@ public class WorkoutService {
 
         // 운동 완료 처리
         workout.complete();
+        verifyTotals(workout);
 
         // 사용자 통계 업데이트
         User user = workout.getUser();
-        user.incrementWorkoutCount();
-        // TODO: 스트릭 계산 로직 추가
+        onWorkoutCompleted(workout, workoutSetRepository.findCompletedWithExerciseByWorkoutId(workoutId));
 
         workoutRepository.save(workout);
         userRepository.save(user);
+        liveWorkoutService.evict(workoutId);
 
         // SSE 알림 전송
         notificationService.notifyWorkoutComplete(workout);
@@ -204,6 +263,7 @@ public class WorkoutService {
 
         workout.setStatus(Workout.WorkoutStatus.CANCELLED);
         workoutRepository.save(workout);
+        liveWorkoutService.evict(workoutId);
 
         log.info("Workout cancelled: {} for user: {}", workoutId, workout.getUser().getEmail());
     }
@@ -214,7 +274,14 @@ public class WorkoutService {
     @Transactional
     public void deleteWorkout(Long userId, Long workoutId) {
         Workout workout = getWorkoutWithPermission(workoutId, userId);
+        workoutStatsService.removeWorkout(workout);
+        personalRecordService.removeWorkout(workout);
+        exerciseProgressService.removeWorkout(workout);
+        activityCalendarService.removeWorkout(workout);
+        groupLeaderboardService.removeWorkout(workout);
+        groupChallengeService.removeWorkout(workout);
         workoutRepository.delete(workout);
+        liveWorkoutService.evict(workoutId);
 
         log.info("Workout deleted: {} for user: {}", workoutId, workout.getUser().getEmail());
     }
@@ -265,6 +332,42 @@ public class WorkoutService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * 운동 완료 후처리 (운동 완료 / 완료된 세션 저장 공통)
+     */
+    private void onWorkoutCompleted(Workout workout, List<WorkoutSet> sets) {
+        User user = workout.getUser();
+        user.incrementWorkoutCount();
+        streakService.recordWorkout(user, workout.getStartTime());
+        workoutStatsService.recordWorkout(workout);
+        personalRecordService.recordWorkout(workout, sets);
+        exerciseProgressService.recordWorkout(workout, sets);
+        activityCalendarService.recordWorkout(workout);
+        groupLeaderboardService.recordWorkout(workout);
+        groupChallengeService.recordWorkout(workout);
+    }
+
+    /**
+     * 누적 통계 검증
+     * 완료 세트 집계 쿼리와 비교해 불일치할 때만 집계 값으로 보정
+     */
+    private void verifyTotals(Workout workout) {
+        Object[] row = workoutSetRepository.sumCompletedSets(workout.getId()).get(0);
+        int sets = ((Number) row[0]).intValue();
+        int reps = ((Number) row[1]).intValue();
+        double weight = ((Number) row[2]).doubleValue();
+
+        boolean matches = workout.getTotalSets() != null && workout.getTotalSets() == sets
+            && workout.getTotalReps() != null && workout.getTotalReps() == reps
+            && workout.getTotalWeight() != null && Math.abs(workout.getTotalWeight() - weight) < 0.01;
+        if (!matches) {
+            log.warn("Workout {} totals mismatch (sets {}/{}, reps {}/{}, weight {}/{}), recomputed",
+                workout.getId(), workout.getTotalSets(), sets, workout.getTotalReps(), reps,
+                workout.getTotalWeight(), weight);
+            workout.applyTotals(sets, reps, weight);
+        }
+    }
+
     /**
      * 운동 권한 확인 및 조회
      */
@@ -285,80 +388,198 @@ public class WorkoutService {
     /**
      * 운동 세션 저장 (프론트엔드 규격)
      * 프론트엔드에서 완료된 운동 세션 전체를 전송
+     * 같은 멱등 키(없으면 클라이언트 세션 ID)로 재전송되면 다시 저장하지 않고 저장된 세션을 반환한다.
+     */
+    @Transactional
+    public WorkoutSessionResponse saveWorkoutSession(Long userId, WorkoutSessionRequest request, String idempotencyKey) {
+        String clientSessionId = idempotencyKey != null && !idempotencyKey.isBlank()
+            ? idempotencyKey.trim() : request.getId();
+        if (clientSessionId != null && clientSessionId.length() > 64) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "멱등 키는 64자 이내여야 합니다.");
+        }
+        if (clientSessionId != null) {
+            Optional<Workout> saved = findSavedSession(userId, clientSessionId);
+            if (saved.isPresent()) {
+                log.info("Workout session replayed: {} for user: {}", saved.get().getId(), userId);
+                return convertToWorkoutSessionResponse(saved.get());
+            }
+        }
+
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+
+        Workout workout;
+        try {
+            workout = insertCompletedSessions(user, List.of(request), Collections.singletonList(clientSessionId)).get(0);
+        } catch (DuplicateKeyException e) {
+            // 같은 세션이 동시에 재전송되어 다른 요청이 먼저 저장함 (중복 INSERT는 먼저 저장한 트랜잭션의 커밋 후 실패)
+            Workout saved = workoutRepository.findCommittedByUserIdAndClientSessionId(userId, clientSessionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.DUPLICATE_WORKOUT_SESSION));
+            log.info("Workout session replayed concurrently: {} for user: {}", saved.getId(), userId);
+            return convertToWorkoutSessionResponse(saved);
+        }
+        log.info("Workout session saved from frontend: {} for user: {}", workout.getId(), user.getEmail());
+
+        // 저장된 운동을 다시 WorkoutSessionResponse로 변환하여 반환
+        return convertToWorkoutSessionResponse(workout);
+    }
+
+    /**
+     * 여러 운동 세션 일괄 저장 (오프라인 동기화)
+     * 한 번의 사용자 조회와 운동 조회 후 세션 전체를 테이블별 배치 INSERT로 저장한다.
+     * 클라이언트 세션 ID 중복 검사는 호출 측에서 수행하며, 충돌 시 DuplicateKeyException이 전파된다.
+     * @return 저장된 운동 ID (요청 순서)
      */
     @Transactional
-    public WorkoutSessionResponse saveWorkoutSession(Long userId, Map<String, Object> sessionData) {
+    public List<Long> saveWorkoutSessions(Long userId, List<WorkoutSessionRequest> requests) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        // WorkoutSessionResponse로 변환 (클라이언트 데이터 구조 파싱)
-        WorkoutSessionResponse sessionResponse = WorkoutSessionResponse.fromMap(sessionData);
+        List<Workout> workouts = insertCompletedSessions(user, requests,
+            requests.stream().map(WorkoutSessionRequest::getId).toList());
+        log.info("Workout sessions synced: {} for user: {}", workouts.size(), user.getEmail());
+        return workouts.stream().map(Workout::getId).toList();
+    }
+
+    /**
+     * 완료된 운동 세션 생성 및 저장
+     * 운동 정보는 한 번에 조회하고, 세션 전체를 테이블별 배치 INSERT로 저장한다. (생성된 ID는 엔티티에 채워짐)
+     */
+    private List<Workout> insertCompletedSessions(User user, List<WorkoutSessionRequest> requests,
+                                                  List<String> clientSessionIds) {
+        Map<String, Exercise> exercises = loadSessionExercises(requests);
+
+        List<Workout> workouts = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            workouts.add(buildCompletedSession(user, requests.get(i), clientSessionIds.get(i), exercises));
+        }
+        workoutRepository.insertSessions(workouts);
+
+        for (Workout workout : workouts) {
+            if (workout.getClientSessionId() != null) {
+                // 롤백된 운동 ID가 재전송 응답으로 남지 않도록 커밋 후 기록
+                AfterCommit.run(() ->
+                    workoutIdempotencyStore.put(user.getId(), workout.getClientSessionId(), workout.getId()));
+            }
+            onWorkoutCompleted(workout, workout.getWorkoutExercises().stream()
+                .flatMap(workoutExercise -> workoutExercise.getWorkoutSets().stream())
+                .toList());
+        }
+        return workouts;
+    }
 
-        // 새로운 Workout 엔티티 생성
+    /**
+     * 요청 세션들의 운동 정보를 한 번의 조회로 로드
+     * @return 클라이언트 운동 ID → 운동 (매핑에 없는 운동은 기타 운동)
+     */
+    private Map<String, Exercise> loadSessionExercises(List<WorkoutSessionRequest> requests) {
+        // 운동 ID 변환 (문자열 -> 숫자)
+        Map<String, Integer> serverIds = new HashMap<>();
+        for (WorkoutSessionRequest request : requests) {
+            if (request.getExercises() == null) {
+                continue;
+            }
+            for (WorkoutSessionRequest.ExerciseData exerciseData : request.getExercises()) {
+                serverIds.computeIfAbsent(exerciseData.getExerciseId(), clientId -> {
+                    int exerciseServerId = exerciseIdMapper.findServerId(clientId);
+                    if (exerciseServerId == ExerciseIdMapper.NOT_FOUND) {
+                        // 매핑에 없는 운동은 기타 운동으로 처리
+                        log.warn("Exercise not found: {}, using placeholder", clientId);
+                        exerciseServerId = OTHER_EXERCISE_ID;
+                    }
+                    return exerciseServerId;
+                });
+            }
+        }
+        if (serverIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, Exercise> exercisesById = exerciseRepository.findAllById(new HashSet<>(serverIds.values())).stream()
+            .collect(Collectors.toMap(Exercise::getId, exercise -> exercise));
+        Map<String, Exercise> exercises = new HashMap<>();
+        serverIds.forEach((clientId, serverId) -> exercises.put(clientId, exercisesById.get(serverId)));
+        return exercises;
+    }
+
+    /**
+     * 요청으로부터 완료된 운동 세션 엔티티 생성 (누적 통계 포함)
+     */
+    private Workout buildCompletedSession(User user, WorkoutSessionRequest request, String clientSessionId,
+                                          Map<String, Exercise> exercises) {
         Workout workout = Workout.builder()
             .user(user)
-            .workoutName(sessionResponse.getTitle() != null ? sessionResponse.getTitle() : "운동")
-            .startTime(sessionResponse.getStartTime())
-            .endTime(sessionResponse.getEndTime())
-            .totalVolume(sessionResponse.getTotalVolume())
-            .totalSets(sessionResponse.getTotalSets())
-            .duration(sessionResponse.getDuration() != null ?
-                (int) (sessionResponse.getDuration() / 1000) : 0) // milliseconds to seconds
-            .calories(sessionResponse.getCaloriesBurned())
-            .note(sessionResponse.getNotes())
+            .workoutName(request.getTitle() != null ? request.getTitle() : "운동")
+            .startTime(WorkoutSessionRequest.toServerTime(request.getStartTime()))
+            .endTime(WorkoutSessionRequest.toServerTime(request.getEndTime()))
+            .duration(request.getDuration() != null ?
+                (int) (request.getDuration() / 1000) : 0) // milliseconds to seconds
+            .calories(request.getCaloriesBurned())
+            .note(request.getNotes())
             .status(Workout.WorkoutStatus.COMPLETED)
+            .clientSessionId(clientSessionId)
             .build();
 
-        // 운동별 데이터 저장
-        if (sessionResponse.getExercises() != null) {
-            for (WorkoutSessionResponse.WorkoutExerciseData exerciseData : sessionResponse.getExercises()) {
-                // 운동 ID 변환 (문자열 -> 숫자)
-                Integer exerciseServerId = exerciseIdMapper.toServerId(exerciseData.getExerciseId());
-                Exercise exercise = exerciseRepository.findById(exerciseServerId)
-                    .orElseGet(() -> {
-                        // 운동이 없으면 기본 운동으로 처리 (또는 새로 생성)
-                        log.warn("Exercise not found: {}, creating placeholder", exerciseData.getExerciseId());
-                        return exerciseRepository.findById(9999) // 기타 운동
-                            .orElse(null);
-                    });
-
-                if (exercise != null) {
-                    WorkoutExercise workoutExercise = WorkoutExercise.builder()
-                        .workout(workout)
-                        .exercise(exercise)
-                        .orderIndex(exerciseData.getOrder() != null ? exerciseData.getOrder() : 0)
-                        .note(exerciseData.getNotes())
-                        .build();
-
-                    // 세트 데이터 저장
-                    if (exerciseData.getSets() != null) {
-                        for (WorkoutSessionResponse.SetData setData : exerciseData.getSets()) {
-                            WorkoutSet workoutSet = WorkoutSet.builder()
-                                .workoutExercise(workoutExercise)
-                                .setNumber(setData.getSetNumber() != null ? setData.getSetNumber() : 1)
-                                .weight(setData.getWeight())
-                                .reps(setData.getReps())
-                                .distance(setData.getDistance())
-                                .duration(setData.getDuration())
-                                .isWarmup(setData.getIsWarmup())
-                                .isFailure(setData.getIsFailure())
-                                .isCompleted(setData.getCompleted())
-                                .build();
+        if (request.getExercises() == null) {
+            return workout;
+        }
+        for (WorkoutSessionRequest.ExerciseData exerciseData : request.getExercises()) {
+            Exercise exercise = exercises.get(exerciseData.getExerciseId());
+            if (exercise == null) {
+                continue;
+            }
 
-                            workoutExercise.addSet(workoutSet);
-                        }
-                    }
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                .workout(workout)
+                .exercise(exercise)
+                .orderIndex(exerciseData.getOrder() != null ? exerciseData.getOrder() : 0)
+                .note(exerciseData.getNotes())
+                .build();
+
+            // 세트 데이터
+            if (exerciseData.getSets() != null) {
+                for (WorkoutSessionRequest.SetData setData : exerciseData.getSets()) {
+                    WorkoutSet workoutSet = WorkoutSet.builder()
+                        .workoutExercise(workoutExercise)
+                        .setNumber(setData.getSetNumber() != null ? setData.getSetNumber() : 1)
+                        .weight(setData.getWeight())
+                        .reps(setData.getReps())
+                        .distance(setData.getDistance())
+                        .duration(setData.getDuration())
+                        .level(setData.getLevel())
+                        .isWarmup(Boolean.TRUE.equals(setData.getIsWarmup()))
+                        .isFailure(Boolean.TRUE.equals(setData.getIsFailure()))
+                        .isDropset(Boolean.TRUE.equals(setData.getIsDropset()))
+                        .isCompleted(Boolean.TRUE.equals(setData.getCompleted()))
+                        .completedAt(WorkoutSessionRequest.toServerTime(setData.getCompletedAt()))
+                        .note(setData.getNotes())
+                        .build();
 
-                    workout.addExercise(workoutExercise);
+                    workoutExercise.addSet(workoutSet);
+                    workout.addToTotals(workoutSet);
                 }
             }
-        }
 
-        Workout savedWorkout = workoutRepository.save(workout);
-        log.info("Workout session saved from frontend: {} for user: {}", savedWorkout.getId(), user.getEmail());
+            workout.addExercise(workoutExercise);
+        }
+        return workout;
+    }
 
-        // 저장된 운동을 다시 WorkoutSessionResponse로 변환하여 반환
-        return convertToWorkoutSessionResponse(savedWorkout);
+    /**
+     * 멱등 키로 이미 저장된 세션 조회
+     * 멱등 키 저장소를 먼저 확인하고, 만료되었으면 client_session_id 컬럼으로 확인한다.
+     */
+    private Optional<Workout> findSavedSession(Long userId, String clientSessionId) {
+        Long workoutId = workoutIdempotencyStore.find(userId, clientSessionId);
+        if (workoutId != null) {
+            Optional<Workout> workout = workoutRepository.findById(workoutId)
+                .filter(w -> w.getUser().getId().equals(userId));
+            if (workout.isPresent()) {
+                return workout;
+            }
+        }
+        return workoutRepository.findByUserIdAndClientSessionId(userId, clientSessionId);
     }
 
     /**
@@ -418,7 +639,7 @@ public class WorkoutService {
                 WorkoutSessionResponse.WorkoutExerciseData exerciseData =
                     WorkoutSessionResponse.WorkoutExerciseData.builder()
                         .id(we.getId().toString())
-                        .exerciseId(ExerciseIdMapper.toClientId(exercise.getId())) // 숫자 ID -> 문자열 ID
+                        .exerciseId(exercise.getClientId()) // 프론트엔드 문자열 ID
                         .name(exercise.getExerciseName())
                         .nameKo(exercise.getExerciseNameKo())
                         .category(exercise.getCategory().name().toLowerCase())
@@ -447,7 +668,8 @@ public class WorkoutService {
                                 .isFailure(set.getIsFailure())
                                 .isDropset(set.getIsDropset())
                                 .completed(set.getIsCompleted())
-                                .completedAt(set.getCreatedAt())
+                                .notes(set.getNote())
+                                .completedAt(set.getCompletedAt())
                                 .build();
 
                         exerciseData.getSets().add(setData);
@@ -0,0 +1,97 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.response.WorkoutStatsResponse;
+import com.sharegym.sharegym_server.entity.Workout;
+import com.sharegym.sharegym_server.entity.WorkoutRollup;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.exception.ErrorCode;
+import com.sharegym.sharegym_server.repository.WorkoutRollupRepository;
+import com.sharegym.sharegym_server.repository.WorkoutRollupRepositoryCustom.RollupDelta;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운동 통계 서비스
+ * 운동 완료 시 일/주/월 집계(workout_rollups)를 증분 갱신하고, 통계 조회는 집계 테이블만 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutStatsService {
+
+    private final WorkoutRollupRepository workoutRollupRepository;
+
+    /**
+     * 완료된 운동을 집계에 반영 (호출 측 트랜잭션에서 실행)
+     */
+    public void recordWorkout(Workout workout) {
+        workoutRollupRepository.increment(workout.getUser().getId(), dateOf(workout), deltaOf(workout));
+    }
+
+    /**
+     * 삭제된 운동을 집계에서 차감 (완료된 운동만 집계에 포함되어 있음)
+     */
+    public void removeWorkout(Workout workout) {
+        if (workout.getStatus() != Workout.WorkoutStatus.COMPLETED) {
+            return;
+        }
+        workoutRollupRepository.increment(workout.getUser().getId(), dateOf(workout), deltaOf(workout).negate());
+    }
+
+    /**
+     * 기간별 통계 조회
+     * @param period day, week, month
+     * @param from 시작일 (없으면 기간 단위별 기본 범위)
+     * @param to 종료일 (없으면 오늘)
+     */
+    @Transactional(readOnly = true)
+    public List<WorkoutStatsResponse> getStats(Long userId, String period, LocalDate from, LocalDate to) {
+        WorkoutRollup.PeriodType periodType = parsePeriod(period);
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : switch (periodType) {
+            case DAY -> end.minusDays(29);
+            case WEEK -> end.minusWeeks(11);
+            case MONTH -> end.minusMonths(11);
+        };
+        if (start.isAfter(end)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "시작일은 종료일보다 이후일 수 없습니다.");
+        }
+
+        return workoutRollupRepository.findRange(userId, periodType, periodType.startOf(start), end)
+            .stream()
+            .map(WorkoutStatsResponse::from)
+            .toList();
+    }
+
+    private WorkoutRollup.PeriodType parsePeriod(String period) {
+        try {
+            return WorkoutRollup.PeriodType.valueOf(period.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                "기간 단위는 day, week, month 중 하나여야 합니다.");
+        }
+    }
+
+    private LocalDate dateOf(Workout workout) {
+        LocalDateTime startTime = workout.getStartTime();
+        return StreakService.toUserDate(workout.getUser(), startTime);
+    }
+
+    private RollupDelta deltaOf(Workout workout) {
+        Integer calories = workout.getCalories() != null ? workout.getCalories() : workout.getCaloriesBurned();
+        return new RollupDelta(
+            1,
+            workout.getTotalSets() != null ? workout.getTotalSets() : 0,
+            workout.getTotalReps() != null ? workout.getTotalReps() : 0,
+            workout.getTotalWeight() != null ? workout.getTotalWeight() : 0.0,
+            workout.getDuration() != null ? workout.getDuration() : 0,
+            calories != null ? calories : 0);
+    }
+}
@@ -0,0 +1,202 @@
+package com.sharegym.sharegym_server.service;
+
+import com.sharegym.sharegym_server.dto.request.WorkoutSessionRequest;
+import com.sharegym.sharegym_server.dto.request.WorkoutSyncRequest;
+import com.sharegym.sharegym_server.dto.response.WorkoutSyncResponse;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.repository.WorkoutRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 오프라인 운동 세션 일괄 동기화 서비스
+ * 세션을 한 번에 검증/중복 확인한 뒤, 시작 시간 순으로 묶어 묶음별 트랜잭션으로 저장한다.
+ * 묶음 저장이 실패하면 해당 묶음만 세션별로 다시 저장해 실패한 세션을 결과에 표시한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkoutSyncService {
+
+    // 한 트랜잭션에서 저장할 세션 수
+    private static final int CHUNK_SIZE = 50;
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final WorkoutService workoutService;
+    private final WorkoutRepository workoutRepository;
+    private final Validator validator;
+
+    /**
+     * 운동 세션 일괄 동기화
+     */
+    public WorkoutSyncResponse sync(Long userId, WorkoutSyncRequest request) {
+        List<WorkoutSessionRequest> sessions = request.getSessions();
+        WorkoutSyncResponse.Result[] results = new WorkoutSyncResponse.Result[sessions.size()];
+
+        // 1. 검증 및 요청 내 중복 확인
+        Map<String, Integer> firstIndexByClientId = new HashMap<>();
+        Map<Integer, Integer> duplicateOf = new HashMap<>();
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < sessions.size(); i++) {
+            WorkoutSessionRequest session = sessions.get(i);
+            String error = validate(session);
+            if (error != null) {
+                results[i] = failed(i, session, error);
+                continue;
+            }
+            if (session.getId() != null) {
+                Integer first = firstIndexByClientId.putIfAbsent(session.getId(), i);
+                if (first != null) {
+                    duplicateOf.put(i, first);
+                    continue;
+                }
+            }
+            pending.add(i);
+        }
+
+        // 2. 이미 저장된 세션 확인 (한 번의 조회)
+        List<String> clientIds = pending.stream()
+            .map(i -> sessions.get(i).getId())
+            .filter(Objects::nonNull)
+            .toList();
+        if (!clientIds.isEmpty()) {
+            Map<String, Long> savedIds = new HashMap<>();
+            for (Object[] row : workoutRepository.findIdsByClientSessionIds(userId, clientIds)) {
+                savedIds.put((String) row[0], (Long) row[1]);
+            }
+            pending.removeIf(i -> {
+                Long workoutId = savedIds.get(sessions.get(i).getId());
+                if (workoutId == null) {
+                    return false;
+                }
+                results[i] = result(i, sessions.get(i), WorkoutSyncResponse.Status.DUPLICATE, workoutId);
+                return true;
+            });
+        }
+
+        // 3. 시작 시간 순으로 묶음별 저장 (스트릭 등 날짜 순서에 의존하는 통계 반영)
+        pending.sort(Comparator.comparing(i -> sessions.get(i).getStartTime()));
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            saveChunk(userId, sessions, chunk, results);
+        }
+
+        // 4. 요청 내 중복 세션은 처음 세션의 결과를 따름
+        duplicateOf.forEach((index, first) -> {
+            WorkoutSyncResponse.Result firstResult = results[first];
+            results[index] = firstResult.getStatus() == WorkoutSyncResponse.Status.FAILED
+                ? failed(index, sessions.get(index), firstResult.getMessage())
+                : WorkoutSyncResponse.Result.builder()
+                    .index(index)
+                    .clientId(sessions.get(index).getId())
+                    .status(WorkoutSyncResponse.Status.DUPLICATE)
+                    .workoutId(firstResult.getWorkoutId())
+                    .build();
+        });
+
+        List<WorkoutSyncResponse.Result> resultList = Arrays.asList(results);
+        int created = count(resultList, WorkoutSyncResponse.Status.CREATED);
+        int duplicates = count(resultList, WorkoutSyncResponse.Status.DUPLICATE);
+        int failed = count(resultList, WorkoutSyncResponse.Status.FAILED);
+        log.info("Workout sync for user: {} (created: {}, duplicates: {}, failed: {})",
+            userId, created, duplicates, failed);
+
+        return WorkoutSyncResponse.builder()
+            .total(sessions.size())
+            .created(created)
+            .duplicates(duplicates)
+            .failed(failed)
+            .results(resultList)
+            .build();
+    }
+
+    /**
+     * 묶음 저장 (실패 시 세션별로 다시 저장)
+     */
+    private void saveChunk(Long userId, List<WorkoutSessionRequest> sessions, List<Integer> chunk,
+                           WorkoutSyncResponse.Result[] results) {
+        try {
+            List<Long> workoutIds = workoutService.saveWorkoutSessions(userId,
+                chunk.stream().map(sessions::get).toList());
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = chunk.get(i);
+                results[index] = result(index, sessions.get(index), WorkoutSyncResponse.Status.CREATED, workoutIds.get(i));
+            }
+            return;
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                handleFailure(userId, sessions, chunk.get(0), e, results);
+                return;
+            }
+            log.warn("Workout sync chunk failed for user: {}, retrying per session: {}", userId, e.getMessage());
+        }
+
+        for (int index : chunk) {
+            saveChunk(userId, sessions, List.of(index), results);
+        }
+    }
+
+    private void handleFailure(Long userId, List<WorkoutSessionRequest> sessions, int index, RuntimeException e,
+                               WorkoutSyncResponse.Result[] results) {
+        WorkoutSessionRequest session = sessions.get(index);
+        if (e instanceof DuplicateKeyException && session.getId() != null) {
+            // 동시에 다른 요청이 같은 세션을 저장함
+            List<Object[]> rows = workoutRepository.findIdsByClientSessionIds(userId, List.of(session.getId()));
+            if (!rows.isEmpty()) {
+                results[index] = result(index, session, WorkoutSyncResponse.Status.DUPLICATE, (Long) rows.get(0)[1]);
+                return;
+            }
+        }
+        if (!(e instanceof BusinessException)) {
+            log.error("Workout sync failed for user: {} session: {}", userId, session.getId(), e);
+        }
+        results[index] = failed(index, session,
+            e instanceof BusinessException ? e.getMessage() : "운동 세션을 저장하지 못했습니다.");
+    }
+
+    /**
+     * 세션 검증 (실패 사유, 통과하면 null)
+     */
+    private String validate(WorkoutSessionRequest session) {
+        if (session == null) {
+            return "운동 세션이 비어 있습니다.";
+        }
+        Set<ConstraintViolation<WorkoutSessionRequest>> violations = validator.validate(session);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (session.getId() != null && session.getId().length() > MAX_CLIENT_ID_LENGTH) {
+            return "세션 ID는 " + MAX_CLIENT_ID_LENGTH + "자 이내여야 합니다.";
+        }
+        return null;
+    }
+
+    private WorkoutSyncResponse.Result result(int index, WorkoutSessionRequest session,
+                                              WorkoutSyncResponse.Status status, Long workoutId) {
+        return WorkoutSyncResponse.Result.builder()
+            .index(index)
+            .clientId(session.getId())
+            .status(status)
+            .workoutId(workoutId.toString())
+            .build();
+    }
+
+    private WorkoutSyncResponse.Result failed(int index, WorkoutSessionRequest session, String message) {
+        return WorkoutSyncResponse.Result.builder()
+            .index(index)
+            .clientId(session != null ? session.getId() : null)
+            .status(WorkoutSyncResponse.Status.FAILED)
+            .message(message)
+            .build();
+    }
+
+    private int count(List<WorkoutSyncResponse.Result> results, WorkoutSyncResponse.Status status) {
+        return (int) results.stream().filter(r -> r.getStatus() == status).count();
+    }
+}
@@ -0,0 +1,82 @@
+package com.sharegym.sharegym_server.common;
+
+import com.sharegym.sharegym_server.entity.Exercise;
+import com.sharegym.sharegym_server.exception.BusinessException;
+import com.sharegym.sharegym_server.repository.ExerciseRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExerciseIdMapperTests {
+
+	private static ExerciseIdMapper mapperOf(List<Exercise> exercises) {
+		ExerciseRepository repository = mock(ExerciseRepository.class);
+		when(repository.findAll()).thenReturn(exercises);
+		ExerciseIdMapper mapper = new ExerciseIdMapper(repository);
+		mapper.reload();
+		return mapper;
+	}
+
+	private static List<Exercise> exercises(int categories, int perCategory) {
+		List<Exercise> exercises = new ArrayList<>();
+		for (int category = 1; category <= categories; category++) {
+			for (int i = 0; i < perCategory; i++) {
+				exercises.add(Exercise.builder()
+					.id(category * 1000 + i)
+					.clientId("exercise-" + category + "-" + i)
+					.build());
+			}
+		}
+		return exercises;
+	}
+
+	@Test
+	void everyLoadedIdResolvesBack() {
+		List<Exercise> exercises = exercises(8, 120);
+		ExerciseIdMapper mapper = mapperOf(exercises);
+
+		assertThat(mapper.getMappingSize()).isEqualTo(exercises.size());
+		for (Exercise exercise : exercises) {
+			assertThat(mapper.toServerId(exercise.getClientId())).isEqualTo(exercise.getId());
+			assertThat(mapper.toClientId(exercise.getId())).isEqualTo(exercise.getClientId());
+		}
+	}
+
+	@Test
+	void unknownIdsAreNotFound() {
+		ExerciseIdMapper mapper = mapperOf(exercises(3, 50));
+
+		assertThat(mapper.findServerId("unknown-exercise")).isEqualTo(ExerciseIdMapper.NOT_FOUND);
+		assertThat(mapper.findServerId(null)).isEqualTo(ExerciseIdMapper.NOT_FOUND);
+		assertThat(mapper.hasServerId(1050)).isFalse();
+		assertThat(mapper.hasServerId(999)).isFalse();
+		assertThatThrownBy(() -> mapper.toServerId("unknown-exercise")).isInstanceOf(BusinessException.class);
+	}
+
+	@Test
+	void skipsExercisesWithoutClientId() {
+		List<Exercise> exercises = new ArrayList<>(exercises(1, 3));
+		exercises.add(Exercise.builder().id(1003).build());
+		ExerciseIdMapper mapper = mapperOf(exercises);
+
+		assertThat(mapper.getMappingSize()).isEqualTo(3);
+		assertThat(mapper.hasServerId(1003)).isFalse();
+		assertThat(mapper.findServerId("exercise-1-2")).isEqualTo(1002);
+	}
+
+	@Test
+	void emptyMappingFindsNothing() {
+		ExerciseIdMapper mapper = mapperOf(List.of());
+
+		assertThat(mapper.getMappingSize()).isZero();
+		assertThat(mapper.findServerId("bench-press")).isEqualTo(ExerciseIdMapper.NOT_FOUND);
+		assertThat(mapper.hasServerId(1001)).isFalse();
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.sharegym.sharegym_server.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InviteCodeGeneratorTests {
+
+	private final InviteCodeGenerator generator = new InviteCodeGenerator();
+
+	@Test
+	void generatesSixCharactersFromAlphabet() {
+		for (int i = 0; i < 1_000; i++) {
+			String code = generator.generate();
+			assertThat(code).hasSize(InviteCodeGenerator.CODE_LENGTH);
+			for (char c : code.toCharArray()) {
+				assertThat(InviteCodeGenerator.ALPHABET).contains(String.valueOf(c));
+			}
+		}
+	}
+
+	@Test
+	void codesAreUnique() {
+		Set<String> codes = new HashSet<>();
+		for (int i = 0; i < 1_000; i++) {
+			codes.add(generator.generate());
+		}
+		// 36^6 공간에서 1,000개 중 중복은 사실상 발생하지 않는다
+		assertThat(codes).hasSizeGreaterThan(995);
+	}
+
+}
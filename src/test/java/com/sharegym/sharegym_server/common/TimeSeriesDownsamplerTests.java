@@ -0,0 +1,61 @@
+package com.sharegym.sharegym_server.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesDownsamplerTests {
+
+	private static double[] days(int size) {
+		double[] x = new double[size];
+		for (int i = 0; i < size; i++) {
+			x[i] = i;
+		}
+		return x;
+	}
+
+	@Test
+	void keepsAllPointsWhenBelowThreshold() {
+		assertThat(TimeSeriesDownsampler.lttb(days(5), new double[]{1, 2, 3, 4, 5}, 10))
+			.containsExactly(0, 1, 2, 3, 4);
+	}
+
+	@Test
+	void keepsOnlyEndpointsForTinyThreshold() {
+		assertThat(TimeSeriesDownsampler.lttb(days(100), new double[100], 2)).containsExactly(0, 99);
+	}
+
+	@Test
+	void selectsThresholdPointsInOrderWithEndpoints() {
+		int size = 1_000;
+		double[] y = new double[size];
+		for (int i = 0; i < size; i++) {
+			y[i] = Math.sin(i / 20.0) * 100;
+		}
+
+		int[] selected = TimeSeriesDownsampler.lttb(days(size), y, 50);
+
+		assertThat(selected).hasSize(50);
+		assertThat(selected[0]).isZero();
+		assertThat(selected[49]).isEqualTo(size - 1);
+		for (int i = 1; i < selected.length; i++) {
+			assertThat(selected[i]).isGreaterThan(selected[i - 1]);
+		}
+	}
+
+	@Test
+	void preservesPeaksAndTroughs() {
+		int size = 300;
+		double[] y = new double[size];
+		for (int i = 0; i < size; i++) {
+			y[i] = 50;
+		}
+		y[120] = 200;
+		y[210] = -100;
+
+		int[] selected = TimeSeriesDownsampler.lttb(days(size), y, 20);
+
+		assertThat(selected).contains(120, 210);
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.sharegym.sharegym_server.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramSearchIndexTests {
+
+	private NgramSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new NgramSearchIndex();
+		index.rebuild(() -> Map.of(
+			1L, NgramSearchIndex.Document.of(5, "헬스 모임"),
+			2L, NgramSearchIndex.Document.of(50, "강남 헬스"),
+			3L, NgramSearchIndex.Document.of(1, "헬스"),
+			4L, NgramSearchIndex.Document.of(100, "요가")));
+	}
+
+	@Test
+	void ranksExactThenPrefixThenContains() {
+		NgramSearchIndex.Result result = index.search("헬스", 0, 10, id -> true);
+
+		assertThat(result.ids()).containsExactly(3L, 1L, 2L);
+		assertThat(result.total()).isEqualTo(3);
+	}
+
+	@Test
+	void ordersSameTierByRank() {
+		index.put(5L, NgramSearchIndex.Document.of(10, "헬스 클럽"));
+
+		assertThat(index.search("헬스", 0, 10, id -> true).ids()).containsExactly(3L, 5L, 1L, 2L);
+	}
+
+	@Test
+	void pagesWithAccurateTotal() {
+		NgramSearchIndex.Result page = index.search("헬", 1, 1, id -> true);
+
+		assertThat(page.ids()).containsExactly(1L);
+		assertThat(page.total()).isEqualTo(3);
+		assertThat(index.search("헬", 0, 0, id -> true).total()).isEqualTo(3);
+	}
+
+	@Test
+	void normalizesCaseAndWhitespace() {
+		index.put(6L, NgramSearchIndex.Document.of(0, "Morning Runners"));
+
+		assertThat(index.search("  ning RUN", 0, 10, id -> true).ids()).containsExactly(6L);
+	}
+
+	@Test
+	void excludesFilteredAndRemovedDocuments() {
+		index.remove(3L);
+
+		NgramSearchIndex.Result result = index.search("헬스", 0, 10, id -> id != 2L);
+		assertThat(result.ids()).containsExactly(1L);
+		assertThat(result.total()).isEqualTo(1);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	void rebuildReplacesPreviousDocuments() {
+		index.rebuild(() -> Map.of(7L, NgramSearchIndex.Document.of(0, "필라테스")));
+
+		assertThat(index.search("헬스", 0, 10, id -> true)).isEqualTo(NgramSearchIndex.Result.EMPTY);
+		assertThat(index.search("라테", 0, 10, id -> true).ids()).containsExactly(7L);
+	}
+
+	@Test
+	void rebuildKeepsChangesMadeWhileLoading() {
+		index.rebuild(() -> {
+			// 원본 조회 이후의 변경 (조회 결과에는 반영되지 않음)
+			index.put(8L, NgramSearchIndex.Document.of(0, "헬스 크루"));
+			index.remove(1L);
+			return Map.of(
+				1L, NgramSearchIndex.Document.of(5, "헬스 모임"),
+				3L, NgramSearchIndex.Document.of(1, "헬스"));
+		});
+
+		assertThat(index.search("헬스", 0, 10, id -> true).ids()).containsExactly(3L, 8L);
+	}
+
+}